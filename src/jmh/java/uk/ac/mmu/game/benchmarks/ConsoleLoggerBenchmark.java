@@ -0,0 +1,79 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.factories.gateway.BoardFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameconfig.BoardOption;
+import uk.ac.mmu.game.gameconfig.PlayerOption;
+import uk.ac.mmu.game.gameobserver.ObserverConsoleLogger;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.playersgamepositions.PlayersMoveHistory;
+import uk.ac.mmu.game.playersgamepositions.PlayersPosition;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ObserverConsoleLogger event handling - label formatting, history and console output (to a discarding stream).
+ * One operation is one listener event. Each invocation replays a game's worth of events, starting with the
+ * Ready transition that resets the history, so memory stays flat. The end-of-game save is covered by FileStoreBenchmark.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConsoleLoggerBenchmark {
+    private static final int MOVES_PER_GAME = 48;
+
+    private final ObserverConsoleLogger logger = new ObserverConsoleLogger();
+    private Player[] players;
+    private PlayersGameState state;
+    private PlayersInGameContext[] contexts;
+    private int boardLength;
+    private PrintStream console;
+
+    @Setup
+    public void setUp() {
+        GameBoard board = BoardFactoryGateway.createBoard(BoardOption.LARGE);
+        boardLength = board.getBoardLength();
+        players = PlayerFactoryGateway.createPlayers(PlayerOption.FOUR);
+        state = new PlayersGameState(players, board);
+        contexts = new PlayersInGameContext[players.length];
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(console);
+    }
+
+    private void newGameContexts() {
+        for (int seat = 0; seat < players.length; seat++) {
+            contexts[seat] = new PlayersInGameContext(new PlayersPosition(state, seat), new PlayersMoveHistory());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES_PER_GAME + 1)
+    public void handleGameEvents() {
+        newGameContexts();                             //Per player move history is per game, as in GameEngine.
+        logger.onStateTransition("Ready", "InPlay");
+        for (int move = 0; move < MOVES_PER_GAME; move++) {
+            int seat = move & 3;
+            int from = (move * 3) % boardLength;
+            int to = (from + 1 + (move % 6)) % boardLength;
+            if (move % 8 == 7) {
+                logger.onBlockedMove(players[seat], contexts[seat], from, false, to, 1 + (move % 6));
+            } else {
+                logger.onSuccessfulMove(players[seat], contexts[seat], from, false, to, false, 1 + (move % 6));
+            }
+        }
+    }
+}
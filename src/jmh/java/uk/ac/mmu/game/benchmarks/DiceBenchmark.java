@@ -0,0 +1,50 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.mmu.game.dice.DiceShaker;
+import uk.ac.mmu.game.factories.gateway.DiceFactoryGateway;
+import uk.ac.mmu.game.gameconfig.DiceOption;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dice generation - random and seeded dice, one roll at a time and in bulk (as the engine's roll buffer).
+ * Bulk results are per roll (OperationsPerInvocation).
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DiceBenchmark {
+    private static final int BULK = 32;
+
+    @Param({"ONE", "TWO"})
+    public DiceOption dice;
+
+    @Param({"random", "seeded"})
+    public String source;
+
+    private DiceShaker shaker;
+    private final int[] buffer = new int[BULK];
+
+    @Setup
+    public void setUp() {
+        shaker = "seeded".equals(source)
+                ? DiceFactoryGateway.createSeededDice(dice, 23748364L)
+                : DiceFactoryGateway.createDice(dice);
+    }
+
+    @Benchmark
+    public int shake() {
+        return shaker.shake();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public int[] shakeBulk() {
+        shaker.shake(buffer, BULK);
+        return buffer;
+    }
+}
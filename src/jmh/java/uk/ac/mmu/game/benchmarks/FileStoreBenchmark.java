@@ -0,0 +1,65 @@
+package uk.ac.mmu.game.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import uk.ac.mmu.game.storage.PlayersMoveHistoryFileStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * PlayersMoveHistoryFileStore.save/load at several history sizes (lines per saved game), in a temporary directory.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileStoreBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int historySize;
+
+    private Path directory;
+    private PlayersMoveHistoryFileStore store;
+    private List<String> history;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("move-history-benchmark");
+        store = new PlayersMoveHistoryFileStore(directory.toString(), new ObjectMapper());
+        history = new ArrayList<>(historySize);
+        for (int line = 0; line < historySize; line++) {
+            history.add(String.format("Red turn %d rolled %d with the dice | moves from position %d to position %d | successful move",
+                    line + 1, 1 + line % 6, 1 + line % 36, 1 + (line + 3) % 36));
+        }
+        store.save("loadTarget", history);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        store.save("saveTarget", history);
+    }
+
+    @Benchmark
+    public Optional<List<String>> load() throws IOException {
+        return store.load("loadTarget");
+    }
+}
@@ -0,0 +1,98 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.GameStatisticsListener;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameEngine.playGame() for every option combination, with seeded dice and a counting listener (as batch mode).
+ * gamesPerSecond reports games/s, nanosPerGame reports ns/game plus ns/turn (the "turns" secondary result).
+ * Run with -prof gc: gc.alloc.rate.norm is the bytes allocated per game.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GameEngineBenchmark {
+
+    @Param({
+            "TWO_ONE_SMALL_ALLOW_EXACT", "TWO_ONE_SMALL_ALLOW_OVERSHOOT_ALLOWED",
+            "TWO_ONE_SMALL_FORBID_EXACT", "TWO_ONE_SMALL_FORBID_OVERSHOOT_ALLOWED",
+            "TWO_ONE_LARGE_ALLOW_EXACT", "TWO_ONE_LARGE_ALLOW_OVERSHOOT_ALLOWED",
+            "TWO_ONE_LARGE_FORBID_EXACT", "TWO_ONE_LARGE_FORBID_OVERSHOOT_ALLOWED",
+            "TWO_TWO_SMALL_ALLOW_EXACT", "TWO_TWO_SMALL_ALLOW_OVERSHOOT_ALLOWED",
+            "TWO_TWO_SMALL_FORBID_EXACT", "TWO_TWO_SMALL_FORBID_OVERSHOOT_ALLOWED",
+            "TWO_TWO_LARGE_ALLOW_EXACT", "TWO_TWO_LARGE_ALLOW_OVERSHOOT_ALLOWED",
+            "TWO_TWO_LARGE_FORBID_EXACT", "TWO_TWO_LARGE_FORBID_OVERSHOOT_ALLOWED",
+            "FOUR_ONE_SMALL_ALLOW_EXACT", "FOUR_ONE_SMALL_ALLOW_OVERSHOOT_ALLOWED",
+            "FOUR_ONE_SMALL_FORBID_EXACT", "FOUR_ONE_SMALL_FORBID_OVERSHOOT_ALLOWED",
+            "FOUR_ONE_LARGE_ALLOW_EXACT", "FOUR_ONE_LARGE_ALLOW_OVERSHOOT_ALLOWED",
+            "FOUR_ONE_LARGE_FORBID_EXACT", "FOUR_ONE_LARGE_FORBID_OVERSHOOT_ALLOWED",
+            "FOUR_TWO_SMALL_ALLOW_EXACT", "FOUR_TWO_SMALL_ALLOW_OVERSHOOT_ALLOWED",
+            "FOUR_TWO_SMALL_FORBID_EXACT", "FOUR_TWO_SMALL_FORBID_OVERSHOOT_ALLOWED",
+            "FOUR_TWO_LARGE_ALLOW_EXACT", "FOUR_TWO_LARGE_ALLOW_OVERSHOOT_ALLOWED",
+            "FOUR_TWO_LARGE_FORBID_EXACT", "FOUR_TWO_LARGE_FORBID_OVERSHOOT_ALLOWED"
+    })
+    public String combination;
+
+    private SimulationCombination options;
+    private long seed;
+
+    /**
+     * Secondary result - every move counts as one operation, so avgt mode reports the time per turn.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TurnCounter {
+        public long turns;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            turns = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        options = combinationNamed(combination);
+        seed = 23748364L;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int gamesPerSecond(TurnCounter counter) {
+        return playGame(counter);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int nanosPerGame(TurnCounter counter) {
+        return playGame(counter);
+    }
+
+    private int playGame(TurnCounter counter) {
+        List<GameListener> listeners = List.of(new GameStatisticsListener());
+        GameEngine engine = new GameEngine(new GameConfiguration(options.getPlayerOption(), options.getDiceOption(),
+                options.getBoardOption(), options.getHitOption(), options.getEndOption(), seed++, listeners));
+        engine.playGame();
+        counter.turns += engine.getTotalGameMoves();
+        return engine.getWinnerSeat();
+    }
+
+    static SimulationCombination combinationNamed(String name) {
+        for (SimulationCombination candidate : SimulationCombination.all()) {
+            if (candidate.toString().equals(name)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown combination: " + name);
+    }
+}
@@ -0,0 +1,50 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.factories.gateway.BoardFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameconfig.BoardOption;
+import uk.ac.mmu.game.gameconfig.PlayerOption;
+import uk.ac.mmu.game.gamestrategies.hitimplementations.ForfeitOnHitStrategy;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ForfeitOnHitStrategy.canMoveToPosition against the occupancy index, for each player count.
+ * One operation is one collision check on a board where every other seat is spread around the shared squares.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HitStrategyBenchmark {
+
+    @Param({"TWO", "FOUR"})
+    public PlayerOption players;
+
+    private final ForfeitOnHitStrategy strategy = new ForfeitOnHitStrategy();
+    private GameBoard board;
+    private PlayersGameState state;
+    private int target;
+
+    @Setup
+    public void setUp() {
+        Player[] seats = PlayerFactoryGateway.createPlayers(players);
+        board = BoardFactoryGateway.createBoard(BoardOption.LARGE);
+        state = new PlayersGameState(seats, board);
+        for (int seat = 0; seat < seats.length; seat++) {
+            state.setBoardIndex(seat, (seat * 7 + 3) % board.getBoardLength());
+        }
+    }
+
+    @Benchmark
+    public boolean canMoveToPosition() {
+        target = target + 1 == board.getBoardLength() ? 0 : target + 1;
+        return strategy.canMoveToPosition(0, target, state, board);
+    }
+}
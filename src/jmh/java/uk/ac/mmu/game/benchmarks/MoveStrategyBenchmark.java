@@ -0,0 +1,79 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.dice.DiceShaker;
+import uk.ac.mmu.game.factories.gateway.*;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.gamestrategies.EndStrategy;
+import uk.ac.mmu.game.gamestrategies.HitStrategy;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StandardMoveStrategy.move on its own - one operation is one turn, no listeners attached.
+ * The shared state is rebuilt whenever a player finishes, so every measured move is a live move.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveStrategyBenchmark {
+    private static final int ROLLS = 1024;
+
+    @Param({"TWO", "FOUR"})
+    public PlayerOption players;
+
+    @Param({"SMALL", "LARGE"})
+    public BoardOption board;
+
+    @Param({"ALLOW", "FORBID"})
+    public HitOption hit;
+
+    @Param({"EXACT", "OVERSHOOT_ALLOWED"})
+    public EndOption end;
+
+    private Player[] seats;
+    private GameBoard gameBoard;
+    private HitStrategy hitStrategy;
+    private EndStrategy endStrategy;
+    private PlayersGameState state;
+    private StandardMoveStrategy moveStrategy;
+    private final int[] rolls = new int[ROLLS];
+    private int turn;
+
+    @Setup
+    public void setUp() {
+        seats = PlayerFactoryGateway.createPlayers(players);
+        gameBoard = BoardFactoryGateway.createBoard(board);
+        hitStrategy = HitFactoryGateway.createHitStrategy(hit);
+        endStrategy = EndFactoryGateway.createEndStrategy(gameBoard, end);
+        DiceShaker dice = DiceFactoryGateway.createSeededDice(DiceOption.ONE, 23748364L);
+        dice.shake(rolls, ROLLS);
+        newGame();
+    }
+
+    private void newGame() {
+        state = new PlayersGameState(seats, gameBoard);
+        PlayersInGameContext[] contexts = new PlayersInGameContext[seats.length];
+        for (int seat = 0; seat < seats.length; seat++) {
+            contexts[seat] = new PlayersInGameContext(new PlayersPosition(state, seat), new PlayersMoveHistory());
+        }
+        moveStrategy = new StandardMoveStrategy(gameBoard, hitStrategy, endStrategy, List.of(), state, contexts);
+    }
+
+    @Benchmark
+    public int move() {
+        int seat = turn % seats.length;
+        moveStrategy.move(seat, rolls[turn++ & (ROLLS - 1)]);
+        if (state.isFinished(seat)) {
+            newGame();
+        }
+        return state.getStepsTaken(seat);
+    }
+}
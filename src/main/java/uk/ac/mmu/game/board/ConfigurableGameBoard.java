@@ -0,0 +1,73 @@
+package uk.ac.mmu.game.board;
+
+/**
+ * Board of any size: shared length, tail length and the number of start (home) positions spaced evenly around
+ * the shared board. LARGE is new ConfigurableGameBoard(36, 6, 4) - homes at 0, 9, 18 and 27.
+ * Used by parameter sweeps to try board sizes that BoardOption does not offer.
+ */
+public class ConfigurableGameBoard implements GameBoard {
+    private final int boardLength;                  //Number of shared board positions per player.
+    private final int tailLength;                   //Number of end positions per player.
+    private final int totalLength;
+    private final int startPositions;               //Homes spaced evenly around the shared board.
+
+    public ConfigurableGameBoard(int boardLength, int tailLength, int startPositions) {
+        if (boardLength < 1) {
+            throw new IllegalArgumentException("Board length must be at least 1: " + boardLength);
+        }
+        if (tailLength < 1) {
+            throw new IllegalArgumentException("Tail length must be at least 1: " + tailLength);
+        }
+        if (startPositions < 1 || startPositions > boardLength) {
+            throw new IllegalArgumentException("Start positions must be between 1 and the board length: " + startPositions);
+        }
+        this.boardLength = boardLength;
+        this.tailLength = tailLength;
+        this.totalLength = boardLength + tailLength;
+        this.startPositions = startPositions;
+    }
+
+    @Override
+    public int getBoardLength() {
+        return boardLength;
+    }
+
+    @Override
+    public int getTailEndLength() {
+        return tailLength;
+    }
+
+    @Override
+    public int getTotalBoardLength() {
+        return totalLength;
+    }
+
+    @Override
+    public boolean isEndPosition(int index) {
+        return index >= boardLength && index < totalLength;
+    }
+
+    @Override
+    public boolean isValidPosition(int index) {
+        return index >= 0 && index < totalLength;
+    }
+
+    public int getStartPositions() {
+        return startPositions;
+    }
+
+    /**
+     * Board index of the given home - homes are spread evenly, the first on index 0.
+     */
+    public int getStartIndex(int startPosition) {
+        if (startPosition < 0 || startPosition >= startPositions) {
+            throw new IllegalArgumentException("Invalid start position: " + startPosition);
+        }
+        return (int) ((long) startPosition * boardLength / startPositions);
+    }
+
+    @Override
+    public String toString() {
+        return boardLength + "+" + tailLength + "/" + startPositions;
+    }
+}
@@ -1,6 +1,7 @@
 package uk.ac.mmu.game.boot;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -10,9 +11,13 @@ import uk.ac.mmu.game.rungame.RunGame;
 public class StartUp {
     @Autowired
     RunGame game;
+    @Value("${startup.run-games:true}")
+    private boolean runGames;              //false starts the application idle, e.g. to serve simulation jobs only.
 
     @EventListener(ApplicationReadyEvent.class)
     public void init(){
-        game.executeGame();
+        if (runGames) {
+            game.executeGame();
+        }
     }
 }
@@ -27,6 +27,7 @@ public class GameTestBuilder {
     private EndStrategy endStrategy;
     private HitStrategy hitStrategy;
     private List<GameListener> listeners = new ArrayList<>();
+    private boolean demoTurnAfterGameOver = false;
 
     public GameTestBuilder() {
         this.endStrategy = new ExactEndStrategy(board);
@@ -64,10 +65,18 @@ public class GameTestBuilder {
         return this;
     }
 
+    public GameTestBuilder withDemoTurnAfterGameOver() {
+        this.demoTurnAfterGameOver = true;
+        return this;
+    }
+
     public GameEngine build() {
         GameConfiguration config = new GameConfiguration(
                 players, board, dice, endStrategy, hitStrategy, listeners
         );
+        if (demoTurnAfterGameOver) {
+            config.withDemoTurnAfterGameOver();
+        }
         return new GameEngine(config);
     }
 
@@ -0,0 +1,28 @@
+package uk.ac.mmu.game.dice;
+
+/**
+ * Derives the seed of each simulated game from a single master seed.
+ * The seed only depends on (master seed, stream, game index), never on which thread plays the game,
+ * so a batch run gives identical results for a given master seed whatever the number of threads.
+ */
+public final class DiceSeeds {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private DiceSeeds() {
+    }
+
+    /**
+     * Seed for one game.
+     * @param stream - independent stream number, e.g. the index of the option combination.
+     */
+    public static long forGame(long masterSeed, int stream, long gameIndex) {
+        return mix64(mix64(masterSeed + GOLDEN_GAMMA * (stream + 1L)) + GOLDEN_GAMMA * (gameIndex + 1L));
+    }
+
+    //SplitMix64 finaliser - spreads consecutive inputs over the full 64 bit range.
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
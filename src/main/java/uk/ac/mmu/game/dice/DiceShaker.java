@@ -8,4 +8,16 @@ package uk.ac.mmu.game.dice;
  */
 public interface DiceShaker {
     int shake();
-}
\ No newline at end of file
+
+    /**
+     * Bulk variant - writes up to count rolls into the buffer and returns how many were written.
+     * Implementations may write fewer (but at least one) when no more rolls are available yet,
+     * and throw IllegalStateException when no roll can be produced at all, exactly as shake() would.
+     */
+    default int shake(int[] buffer, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer[i] = shake();
+        }
+        return count;
+    }
+}
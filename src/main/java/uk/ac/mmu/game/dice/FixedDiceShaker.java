@@ -1,20 +1,27 @@
 package uk.ac.mmu.game.dice;
 
 import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.Queue;
 
 /**
  * Fixed dice shaker for fixed scenario testing and avoidance of random dice.
  * Returns predetermined sequence of rolls.
+ * Rolls are held unboxed in an int[] with a cursor, so bulk requests are a single array copy.
  */
 public class FixedDiceShaker implements DiceShaker {
-    private final Queue<Integer> rolls;
+    private final int[] rolls;
+    private int next = 0;
     private boolean repeatLast = false;
-    private Integer lastRoll = 1;
+    private int lastRoll = 1;
 
     public FixedDiceShaker(Integer... rolls) {
-        this.rolls = new LinkedList<>(Arrays.asList(rolls));
+        this.rolls = new int[rolls.length];
+        for (int i = 0; i < rolls.length; i++) {
+            this.rolls[i] = rolls[i];
+        }
+    }
+
+    public FixedDiceShaker(int[] rolls) {
+        this.rolls = rolls.clone();
     }
 
     /**
@@ -28,13 +35,30 @@ public class FixedDiceShaker implements DiceShaker {
 
     @Override
     public int shake() {
-        if (rolls.isEmpty()) {
+        if (next >= rolls.length) {
             if (repeatLast) {
                 return lastRoll;
             }
             throw new IllegalStateException("No more predetermined rolls available");
         }
-        lastRoll = rolls.poll();
+        lastRoll = rolls[next++];
         return lastRoll;
     }
-}
\ No newline at end of file
+
+    @Override
+    public int shake(int[] buffer, int count) {
+        int remaining = rolls.length - next;
+        if (remaining > 0) {
+            int copied = Math.min(remaining, count);
+            System.arraycopy(rolls, next, buffer, 0, copied);
+            next += copied;
+            lastRoll = rolls[next - 1];
+            return copied;
+        }
+        if (repeatLast) {
+            Arrays.fill(buffer, 0, count, lastRoll);
+            return count;
+        }
+        throw new IllegalStateException("No more predetermined rolls available");
+    }
+}
@@ -6,10 +6,25 @@ package uk.ac.mmu.game.dice;
  */
 public class RandomDoubleDiceShaker implements DiceShaker {
     private final DiceShaker shaker = new RandomSingleDiceShaker();
+    private int[] secondDie = new int[0];          //Scratch buffer for bulk rolls.
 
     @Override
     public int shake() {
         //generate number between 2 and 12
         return shaker.shake() + shaker.shake();
     }
+
+    @Override
+    public int shake(int[] buffer, int count) {
+        if (secondDie.length < count) {
+            secondDie = new int[count];
+        }
+        //One bulk draw per die, then add them up.
+        int rolled = shaker.shake(buffer, count);
+        shaker.shake(secondDie, rolled);
+        for (int i = 0; i < rolled; i++) {
+            buffer[i] += secondDie[i];
+        }
+        return rolled;
+    }
 }
@@ -14,4 +14,13 @@ public class RandomSingleDiceShaker implements DiceShaker {
         //generate random number between 1 and 6
         return random.nextInt(6)+1;
     }
+
+    @Override
+    public int shake(int[] buffer, int count) {
+        Random random = this.random;
+        for (int i = 0; i < count; i++) {
+            buffer[i] = random.nextInt(6) + 1;
+        }
+        return count;
+    }
 }
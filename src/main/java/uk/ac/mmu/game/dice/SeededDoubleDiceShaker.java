@@ -0,0 +1,55 @@
+package uk.ac.mmu.game.dice;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded double dice backed by SplittableRandom.
+ * The total of two dice is sampled in a single draw: one of the 36 equally likely (die1, die2) outcomes
+ * is picked and mapped to its sum, which gives exactly the 2-12 triangular distribution.
+ */
+public class SeededDoubleDiceShaker implements SplittableDiceShaker {
+    private static final int[] TWO_DICE_SUMS = new int[36];
+
+    static {
+        for (int outcome = 0; outcome < 36; outcome++) {
+            TWO_DICE_SUMS[outcome] = (outcome / 6 + 1) + (outcome % 6 + 1);
+        }
+    }
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    public SeededDoubleDiceShaker(long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    private SeededDoubleDiceShaker(long seed, SplittableRandom random) {
+        this.seed = seed;
+        this.random = random;
+    }
+
+    @Override
+    public int shake() {
+        //generate number between 2 and 12 in one draw
+        return TWO_DICE_SUMS[random.nextInt(36)];
+    }
+
+    @Override
+    public int shake(int[] buffer, int count) {
+        SplittableRandom random = this.random;
+        for (int i = 0; i < count; i++) {
+            buffer[i] = TWO_DICE_SUMS[random.nextInt(36)];
+        }
+        return count;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public SplittableDiceShaker split() {
+        return new SeededDoubleDiceShaker(seed, random.split());
+    }
+}
@@ -0,0 +1,46 @@
+package uk.ac.mmu.game.dice;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded single die backed by SplittableRandom.
+ * Unlike java.util.Random there is no shared CAS-updated seed, and the same seed always gives the same rolls.
+ */
+public class SeededSingleDiceShaker implements SplittableDiceShaker {
+    private final long seed;
+    private final SplittableRandom random;
+
+    public SeededSingleDiceShaker(long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    private SeededSingleDiceShaker(long seed, SplittableRandom random) {
+        this.seed = seed;
+        this.random = random;
+    }
+
+    @Override
+    public int shake() {
+        //generate random number between 1 and 6
+        return random.nextInt(1, 7);
+    }
+
+    @Override
+    public int shake(int[] buffer, int count) {
+        SplittableRandom random = this.random;
+        for (int i = 0; i < count; i++) {
+            buffer[i] = random.nextInt(1, 7);
+        }
+        return count;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public SplittableDiceShaker split() {
+        return new SeededSingleDiceShaker(seed, random.split());
+    }
+}
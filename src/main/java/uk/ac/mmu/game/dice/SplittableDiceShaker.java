@@ -0,0 +1,10 @@
+package uk.ac.mmu.game.dice;
+
+/**
+ * A seeded DiceShaker whose roll sequence is reproducible and can be split into independent streams.
+ * split() hands out a statistically independent shaker (e.g. one per worker thread) without sharing state.
+ */
+public interface SplittableDiceShaker extends DiceShaker {
+    long getSeed();                                 //Seed the shaker was created with - enough to replay its roll sequence.
+    SplittableDiceShaker split();                   //New independent stream, advancing this shaker's state.
+}
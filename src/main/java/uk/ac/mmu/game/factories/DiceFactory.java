@@ -8,4 +8,5 @@ Dice factory abstraction utilises the configuration enums to determine the concr
  */
 public interface DiceFactory {
     DiceShaker createDice(DiceOption option);           // ONE or TWO dice
+    DiceShaker createSeededDice(DiceOption option, long seed);  // Reproducible ONE or TWO dice
 }
@@ -2,6 +2,7 @@ package uk.ac.mmu.game.factories.adapters;
 
 import uk.ac.mmu.game.dice.DiceShaker;
 import uk.ac.mmu.game.dice.RandomSingleDiceShaker;
+import uk.ac.mmu.game.dice.SeededSingleDiceShaker;
 import uk.ac.mmu.game.factories.DiceFactory;
 import uk.ac.mmu.game.gameconfig.DiceOption;
 
@@ -10,4 +11,9 @@ public class OneDiceFactoryAdapter implements DiceFactory {
     public DiceShaker createDice(DiceOption option) {
         return new RandomSingleDiceShaker();
     }
+
+    @Override
+    public DiceShaker createSeededDice(DiceOption option, long seed) {
+        return new SeededSingleDiceShaker(seed);
+    }
 }
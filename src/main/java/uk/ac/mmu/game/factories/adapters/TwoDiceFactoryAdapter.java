@@ -2,6 +2,7 @@ package uk.ac.mmu.game.factories.adapters;
 
 import uk.ac.mmu.game.dice.DiceShaker;
 import uk.ac.mmu.game.dice.RandomDoubleDiceShaker;
+import uk.ac.mmu.game.dice.SeededDoubleDiceShaker;
 import uk.ac.mmu.game.factories.DiceFactory;
 import uk.ac.mmu.game.gameconfig.DiceOption;
 
@@ -11,4 +12,8 @@ public class TwoDiceFactoryAdapter implements DiceFactory {
         return new RandomDoubleDiceShaker();
     }
 
+    @Override
+    public DiceShaker createSeededDice(DiceOption option, long seed) {
+        return new SeededDoubleDiceShaker(seed);
+    }
 }
@@ -29,4 +29,10 @@ public class DiceFactoryGateway {
         return factory.createDice(option);
     }
 
+    public static DiceShaker createSeededDice(DiceOption option, long seed) {
+        DiceFactory factory = registry.get(option);
+        if (factory == null) throw new IllegalArgumentException("Unsupported DiceOption: " + option);
+        return factory.createSeededDice(option, seed);
+    }
+
 }
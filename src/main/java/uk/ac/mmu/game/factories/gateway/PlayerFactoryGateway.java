@@ -1,9 +1,11 @@
 package uk.ac.mmu.game.factories.gateway;
 
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
 import uk.ac.mmu.game.factories.PlayerFactory;
 import uk.ac.mmu.game.factories.adapters.FourPlayerFactoryAdapter;
 import uk.ac.mmu.game.factories.adapters.TwoPlayerFactoryAdapter;
 import uk.ac.mmu.game.gameconfig.PlayerOption;
+import uk.ac.mmu.game.players.GeneratedPlayer;
 import uk.ac.mmu.game.players.Player;
 
 import java.util.HashMap;
@@ -29,4 +31,11 @@ public class PlayerFactoryGateway {
         }
         return factory.createPlayers(option);
     }
+
+    /**
+     * Generated-player mode - any number of seats, each on their own home of the board (see GeneratedPlayer.seatedOn).
+     */
+    public static Player[] createGeneratedPlayers(int seats, ConfigurableGameBoard board) {
+        return GeneratedPlayer.seatedOn(board, seats);
+    }
 }
\ No newline at end of file
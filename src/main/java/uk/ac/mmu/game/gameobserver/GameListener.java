@@ -2,6 +2,7 @@ package uk.ac.mmu.game.gameobserver;
 
 import uk.ac.mmu.game.players.Player;
 import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.playersgamepositions.PlayersPosition;
 
 import java.util.Map;
 
@@ -19,6 +20,61 @@ public interface GameListener {
     void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll);
     void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves);
     void onStateTransition(String oldState, String newState);
+    /**
+     * Method to output when the MAX_MOVES safeguard ends a game without a winner.
+     * Default is a no-op so listeners that only track moves need not implement it.
+     */
+    default void onMaxMovesReached(int maxMoves, int totalGameMoves) {
+    }
+    /**
+     * Method to output when a dice roll is attempted after the game has ended (Game Over state).
+     */
+    default void onRollAfterGameOver(int roll) {
+    }
+
+    /*
+    Primitive move callbacks - these are what the engine calls.
+    They carry raw board indices, and the defaults only format position labels (from the interned table) for
+    listeners implementing the text based methods above. Metrics listeners override these and never touch text.
+     */
+    default void onSuccessfulMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                  int toIndex, boolean toInTail, int roll) {
+        PlayersPosition position = context.getPlayersPosition();
+        onSuccessfulMove(player, context, position.label(fromIndex, fromInTail), position.label(toIndex, toInTail), roll);
+    }
+    default void onBlockedMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                               int attemptedIndex, int roll) {
+        PlayersPosition position = context.getPlayersPosition();
+        onBlockedMove(player, context, position.label(fromIndex, fromInTail), position.attemptedLabel(attemptedIndex), roll);
+    }
+    default void onEndReached(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                              int toIndex, int overshoot, int roll) {
+        PlayersPosition position = context.getPlayersPosition();
+        onEndReached(player, context, position.label(fromIndex, fromInTail), position.label(toIndex, true), overshoot, roll);
+    }
+    default void onEndForfeit(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                              int overshoot, int roll) {
+        onEndForfeit(player, context, context.getPlayersPosition().label(fromIndex, fromInTail), overshoot, roll);
+    }
+    /**
+     * Primitive game over callback - the engine already knows the winner's seat (-1 when MAX_MOVES ended the game),
+     * so listeners overriding this never search every player, however many seats the game has.
+     */
+    default void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int winnerSeat, int totalGameMoves) {
+        onGameOver(players, contexts, totalGameMoves);
+    }
+
+    /**
+     * Seat of the first finished player, or -1 - for callers of the game over callback without a winner seat.
+     */
+    static int findWinnerSeat(Player[] players, Map<Player, PlayersInGameContext> contexts) {
+        for (int seat = 0; seat < players.length; seat++) {
+            if (contexts.get(players[seat]).isFinished()) {
+                return seat;
+            }
+        }
+        return -1;
+    }
 }
 
 
@@ -0,0 +1,82 @@
+package uk.ac.mmu.game.gameobserver;
+
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+
+import java.util.Map;
+
+/**
+ * Lightweight listener that counts rule outcomes for a single game.
+ * SRP: Only counts events - no console output, no history, no storage.
+ * A new instance is created per game so batch simulations never share mutable state between threads.
+ */
+public class GameStatisticsListener implements GameListener {
+    private int hits;               //Moves forfeited because another player occupied the target square.
+    private int endForfeits;        //Moves forfeited because the roll overshot the end (ExactEndStrategy only).
+    private int successfulMoves;
+
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int roll) {
+        successfulMoves++;
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, String fromPosition, String attemptedPosition, int roll) {
+        hits++;
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int overshoot, int roll) {
+        successfulMoves++;
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll) {
+        endForfeits++;
+    }
+
+    //Primitive callbacks are overridden so the engine never formats position labels for this listener.
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                 int toIndex, boolean toInTail, int roll) {
+        successfulMoves++;
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                              int attemptedIndex, int roll) {
+        hits++;
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int toIndex, int overshoot, int roll) {
+        successfulMoves++;
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int overshoot, int roll) {
+        endForfeits++;
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves) {
+    }
+
+    @Override
+    public void onStateTransition(String oldState, String newState) {
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getEndForfeits() {
+        return endForfeits;
+    }
+
+    public int getSuccessfulMoves() {
+        return successfulMoves;
+    }
+}
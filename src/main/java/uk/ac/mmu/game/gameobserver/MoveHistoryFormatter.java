@@ -0,0 +1,43 @@
+package uk.ac.mmu.game.gameobserver;
+
+/**
+ * Single source of the human-readable move history text.
+ * Used by ObserverConsoleLogger as events happen, and by GameRecordReader to rebuild the same text from a binary record.
+ */
+public final class MoveHistoryFormatter {
+
+    private MoveHistoryFormatter() {
+    }
+
+    public static String successfulMove(String playerName, int turn, int roll, String fromPosition, String toPosition) {
+        return String.format("%s turn %d rolled %d with the dice | moves from %s to %s | successful move",
+                playerName, turn, roll, fromPosition, toPosition);
+    }
+
+    public static String blockedMove(String playerName, int turn, int roll, String fromPosition, String attemptedPosition) {
+        return String.format("%s turn %d rolled %d with the dice | move forfeited, hit another player at %s | stays on %s",
+                playerName, turn, roll, attemptedPosition, fromPosition);
+    }
+
+    public static String endReached(String playerName, int turn, int roll, String toPosition, int overshoot) {
+        if (overshoot == 0) {
+            return String.format("%s turn %d rolled %d with the dice | landed exactly on the end at %s, so we have a winner",
+                    playerName, turn, roll, toPosition);
+        }
+        return String.format("%s turn %d rolled %d with the dice | overshot by %d but allowed, winner at %s!",
+                playerName, turn, roll, overshoot, toPosition);
+    }
+
+    public static String endForfeit(String playerName, int turn, int roll, String fromPosition, int overshoot) {
+        return String.format("%s turn %d rolled %d with the dice | overshot by %d, move forfeited, stays on %s",
+                playerName, turn, roll, overshoot, fromPosition);
+    }
+
+    public static String maxMovesReached(int maxMoves) {
+        return "\nGame terminated: Reached maximum move limit of " + maxMoves;
+    }
+
+    public static String stateTransition(String oldState, String newState) {
+        return String.format("\nGAME STATE : %s -> %s", oldState, newState);
+    }
+}
@@ -1,40 +1,53 @@
 package uk.ac.mmu.game.gameobserver;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 import uk.ac.mmu.game.helpers.ConsoleColor;
 import uk.ac.mmu.game.players.Player;
 import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
-import uk.ac.mmu.game.storage.PlayersMoveHistoryFileStore;
+import uk.ac.mmu.game.storage.MoveHistoryStore;
+import uk.ac.mmu.game.storage.MoveHistoryWriter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-//Class is stateless. Context is passed in via method parameters as the logger shouldn't hold state.
+//Game state is passed in via method parameters - the only state held is this session's own move history writer.
 /**
  * SRP: Only responsible for console output formatting and logging.
  * Does NOT make game logic decisions.
+ * One instance is one session: it belongs to a single game (or a sequence of games on one thread) under one run name,
+ * so games running in parallel never share a history. Sessions are created by ObserverConsoleLoggerFactory.
  */
-
-@Component
 public class ObserverConsoleLogger implements GameListener{
-    String runName;
-    @Autowired
-    private PlayersMoveHistoryFileStore fileStore;
-    private List<String> gameHistory;
+    private final String runName;
+    private final MoveHistoryStore fileStore;
+    private final Set<ObserverConsoleLogger> openSessions;      //Factory's register of sessions with a history still open - may be null.
+    private MoveHistoryWriter gameHistory;         //Open from the Ready transition until onGameOver - lines are streamed, not buffered.
+
+    /**
+     * Console output only - no history is stored.
+     */
+    public ObserverConsoleLogger() {
+        this(null, null);
+    }
+
+    public ObserverConsoleLogger(MoveHistoryStore fileStore, String runName) {
+        this(fileStore, runName, null);
+    }
+
+    ObserverConsoleLogger(MoveHistoryStore fileStore, String runName, Set<ObserverConsoleLogger> openSessions) {
+        this.fileStore = fileStore;
+        this.runName = runName;
+        this.openSessions = openSessions;
+    }
+
     /**
      * Method to track when a player rolls the dice and attempts to move.
      * It will store the roll and updates the move positions.
      */
     @Override
     public void onSuccessfulMove(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int roll) {
-        String message = String.format(
-                "%s turn %d rolled %d with the dice | moves from %s to %s | successful move",
-                player.getName(), context.getMoveCount(), roll, fromPosition, toPosition
-        );
-        gameHistory.add(message);
+        String message = MoveHistoryFormatter.successfulMove(player.getName(), context.getMoveCount(), roll, fromPosition, toPosition);
+        record(message);
         // Wrap the entire message in the player's color
         System.out.println(ConsoleColor.consoleColor(message, player.getColorCode()));
         // Record successful move in player move history
@@ -45,11 +58,8 @@ public class ObserverConsoleLogger implements GameListener{
      */
     @Override
     public void onBlockedMove(Player player, PlayersInGameContext context, String fromPosition, String attemptedPosition, int roll) {
-        String message = String.format(
-                "%s turn %d rolled %d with the dice | move forfeited, hit another player at %s | stays on %s",
-                player.getName(), context.getMoveCount(), roll, attemptedPosition, fromPosition
-        );
-        gameHistory.add(message);
+        String message = MoveHistoryFormatter.blockedMove(player.getName(), context.getMoveCount(), roll, fromPosition, attemptedPosition);
+        record(message);
         System.out.println(ConsoleColor.consoleColor(message, player.getColorCode()));
         context.getPlayersHistory().add("Move forfeited (hit), stays on " + fromPosition);
     }
@@ -58,20 +68,11 @@ public class ObserverConsoleLogger implements GameListener{
      */
     @Override
     public void onEndReached(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int overshoot, int roll) {
-        String message;
+        String message = MoveHistoryFormatter.endReached(player.getName(), context.getMoveCount(), roll, toPosition, overshoot);
+        record(message);
         if(overshoot == 0) {
-            message = String.format(
-                    "%s turn %d rolled %d with the dice | landed exactly on the end at %s, so we have a winner",
-                    player.getName(), context.getMoveCount(), roll, toPosition
-            );
-            gameHistory.add(message);
             context.getPlayersHistory().add("🎉 Reached end at " + toPosition);
         } else {
-            message = String.format(
-                    "%s turn %d rolled %d with the dice | overshot by %d but allowed, winner at %s!",
-                    player.getName(), context.getMoveCount(), roll, overshoot, toPosition
-            );
-            gameHistory.add(message);
             context.getPlayersHistory().add("🎉 Reached end (overshoot allowed) at " + toPosition);
         }
         System.out.println(ConsoleColor.consoleColor(message, player.getColorCode()));
@@ -81,48 +82,103 @@ public class ObserverConsoleLogger implements GameListener{
      */
     @Override
     public void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll) {
-        String message = String.format(
-                "%s turn %d rolled %d with the dice | overshot by %d, move forfeited, stays on %s",
-                player.getName(), context.getMoveCount(), roll, overshoot, fromPosition
-        );
-        gameHistory.add(message);
+        String message = MoveHistoryFormatter.endForfeit(player.getName(), context.getMoveCount(), roll, fromPosition, overshoot);
+        record(message);
         System.out.println(ConsoleColor.consoleColor(message, player.getColorCode()));
         context.getPlayersHistory().add("Overshoot. Move forfeited, stays on " + fromPosition);
     }
     @Override
     public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves) {
+        onGameOver(players, contexts, GameListener.findWinnerSeat(players, contexts), totalGameMoves);
+    }
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int winnerSeat, int totalGameMoves) {
         System.out.println("\nEnd of game status:");
-        Player winner = null;
-        for (Player player : players) {
-            if (contexts.get(player).isFinished()) {
-                winner = player;
-                break;
-            }
-        }
+        Player winner = winnerSeat < 0 ? null : players[winnerSeat];
+        //Every finished game is kept - capped games included.
+        closeHistory();
         if (winner != null) {
-            try {
-                fileStore.save(runName, gameHistory);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
             System.out.printf("%s wins in %d turns, total moves in game %d.%n",
                     winner.getName(), contexts.get(winner).getMoveCount(), totalGameMoves);
+            System.out.println("\n🏆 Winner: " + ConsoleColor.consoleColor(winner.getName(), winner.getColorCode()));
         }
     }
+    /**
+     * Method to output when the MAX_MOVES safeguard terminates the game without a winner.
+     */
+    @Override
+    public void onMaxMovesReached(int maxMoves, int totalGameMoves) {
+        String message = MoveHistoryFormatter.maxMovesReached(maxMoves);
+        record(message);
+        System.out.println(message);
+    }
+    /**
+     * Method to output when a roll is attempted once the game is over (state machine demonstration).
+     */
+    @Override
+    public void onRollAfterGameOver(int roll) {
+        System.out.println("\n[Test of Game state if inducing an extra roll after win]");
+        System.out.println("\nGame Over: The game has already ended.");
+    }
     /**
      * Method to output game state transitions.
      */
     @Override
     public void onStateTransition(String oldState, String newState){
         if("Ready".equalsIgnoreCase(oldState)){
-            gameHistory = new ArrayList<>();
+            openHistory();
         }
-        String message = String.format("\nGAME STATE : %s -> %s", oldState, newState);
-        gameHistory.add(message);
+        String message = MoveHistoryFormatter.stateTransition(oldState, newState);
+        record(message);
         System.out.println(ConsoleColor.consoleColor(message, "\u001B[35m"));
     }
 
-    public void setRunName(String runName){
-        this.runName = runName;
+    public String getRunName() {
+        return runName;
+    }
+
+    /**
+     * Commits a history that never reached onGameOver, so partial games are not lost on shutdown.
+     */
+    public synchronized void closeHistory() {
+        if (gameHistory == null) {
+            return;
+        }
+        MoveHistoryWriter writer = gameHistory;
+        gameHistory = null;
+        if (openSessions != null) {
+            openSessions.remove(this);
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private synchronized void openHistory() {
+        closeHistory();                             //A previous game that was abandoned part way is kept as it stands.
+        if (fileStore == null || runName == null) {
+            return;                                 //Console output only - nowhere to store the history.
+        }
+        try {
+            gameHistory = fileStore.openWriter(runName);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        if (openSessions != null) {
+            openSessions.add(this);
+        }
+    }
+
+    private synchronized void record(String message) {
+        if (gameHistory == null) {
+            return;
+        }
+        try {
+            gameHistory.append(message);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 }
@@ -0,0 +1,48 @@
+package uk.ac.mmu.game.gameobserver;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.storage.MoveHistoryStore;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates one ObserverConsoleLogger session per game, so the run name and the streamed move history belong to
+ * that game alone and any number of games can be played at once on different threads.
+ * Keeps track of the sessions whose history is still open and commits them on shutdown.
+ */
+@Component
+public class ObserverConsoleLoggerFactory {
+    private final MoveHistoryStore fileStore;
+    private final Set<ObserverConsoleLogger> openSessions = ConcurrentHashMap.newKeySet();
+
+    public ObserverConsoleLoggerFactory(MoveHistoryStore fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * New logger session whose history is saved under the given run name.
+     */
+    public ObserverConsoleLogger newSession(String runName) {
+        if (runName == null || runName.isBlank()) {
+            throw new IllegalArgumentException("Run name is required.");
+        }
+        return new ObserverConsoleLogger(fileStore, runName, openSessions);
+    }
+
+    public int getOpenSessionCount() {
+        return openSessions.size();
+    }
+
+    /**
+     * Commits every history that never reached onGameOver, so partial games are not lost on shutdown.
+     */
+    @PreDestroy
+    public void closeOpenSessions() {
+        for (ObserverConsoleLogger session : new ArrayList<>(openSessions)) {
+            session.closeHistory();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package uk.ac.mmu.game.gameobserver.dispatch;
+
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+
+import java.util.Map;
+
+/**
+ * Preallocated ring buffer slot, overwritten in place for every event published.
+ * Move events carry a snapshot of the mover's seat, so consumers never read the live game state.
+ */
+final class ListenerEvent {
+    static final int SUCCESSFUL_MOVE = 0;
+    static final int BLOCKED_MOVE = 1;
+    static final int END_REACHED = 2;
+    static final int END_FORFEIT = 3;
+    static final int STATE_TRANSITION = 4;
+    static final int MAX_MOVES_REACHED = 5;
+    static final int GAME_OVER = 6;
+    static final int ROLL_AFTER_GAME_OVER = 7;
+
+    int type;
+    boolean text;                               //Published through a text callback - the labels are set, not the indices.
+    Player player;
+    PlayersGameState source;                    //Game the event belongs to - identity only, plus its immutable dimensions.
+    int seat;
+    int roll;
+    int fromIndex;
+    boolean fromInTail;
+    int toIndex;
+    boolean toInTail;
+    int overshoot;
+    String fromLabel;
+    String toLabel;
+
+    //Mover's seat once the move has been applied.
+    int boardIndex;
+    boolean inTail;
+    int stepsTaken;
+    int moveCount;
+    boolean finished;
+
+    //Lifecycle events.
+    String oldState;
+    String newState;
+    int maxMoves;
+    int totalGameMoves;
+    int winnerSeat;
+    Player[] players;
+    Map<Player, PlayersInGameContext> contexts;
+
+    static boolean isMove(int type) {
+        return type <= END_FORFEIT;
+    }
+
+    void snapshot(PlayersInGameContext context) {
+        if (context == null) {
+            source = null;
+            seat = -1;
+            return;
+        }
+        source = context.getPlayersPosition().getState();
+        seat = context.getSeat();
+        boardIndex = source.getBoardIndex(seat);
+        inTail = source.isInTail(seat);
+        stepsTaken = source.getStepsTaken(seat);
+        moveCount = source.getMoveCount(seat);
+        finished = source.isFinished(seat);
+    }
+}
@@ -0,0 +1,10 @@
+package uk.ac.mmu.game.gameobserver.dispatch;
+
+/**
+ * What the game thread does with a move event when the slowest consumer has left no free slot.
+ * State transitions and game over are never dropped - listeners rely on them to start and finish a game.
+ */
+public enum OverflowPolicy {
+    BLOCK,          //Wait for a free slot - no event is lost.
+    DROP            //Discard the move event and count it - the game never waits.
+}
@@ -0,0 +1,463 @@
+package uk.ac.mmu.game.gameobserver.dispatch;
+
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.playersgamepositions.PlayersMoveHistory;
+import uk.ac.mmu.game.playersgamepositions.PlayersPosition;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Non-blocking listener dispatch (Disruptor style).
+ * The dispatcher is the only listener the engine sees: every callback copies its values into the next slot of a
+ * preallocated ring buffer and publishes it by advancing a cursor - no allocation, locking or formatting on the
+ * game thread. Each wrapped listener consumes the buffer on its own thread, tracking its own sequence, so a slow
+ * listener (e.g. ObserverConsoleLogger writing to the console) no longer runs at the engine's pace.
+ *
+ * Single producer: one dispatcher must only be published to from one game thread at a time.
+ * Consumers are handed a mirror of the game (their own PlayersGameState and contexts, updated from the event
+ * snapshots), never the live state the game thread keeps changing.
+ * When the slowest consumer is a whole buffer behind, move events either wait or are dropped (OverflowPolicy).
+ */
+public class RingBufferListenerDispatcher implements GameListener, AutoCloseable {
+    private static final int SPIN_TRIES = 100;
+    private static final long SLEEP_NANOS = 100_000;
+
+    private final ListenerEvent[] ring;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer[] consumers;
+    private final AtomicLong cursor = new AtomicLong(-1);        //Last published sequence.
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();       //BLOCKING wait strategy only.
+    private final Condition published = lock.newCondition();
+    private final AtomicInteger sleepingConsumers = new AtomicInteger();
+    private long claimed = -1;                                    //Game thread only.
+    private long cachedMinimum = -1;                              //Game thread only - slowest consumer when last checked.
+    private volatile boolean running = true;
+
+    public RingBufferListenerDispatcher(List<GameListener> listeners, int bufferSize,
+                                        WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+        if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a power of two: " + bufferSize);
+        }
+        if (listeners.isEmpty()) {
+            throw new IllegalArgumentException("At least one listener is required.");
+        }
+        this.ring = new ListenerEvent[bufferSize];
+        for (int slot = 0; slot < bufferSize; slot++) {
+            ring[slot] = new ListenerEvent();
+        }
+        this.mask = bufferSize - 1;
+        this.waitStrategy = waitStrategy;
+        this.overflowPolicy = overflowPolicy;
+        this.consumers = new Consumer[listeners.size()];
+        for (int index = 0; index < consumers.length; index++) {
+            consumers[index] = new Consumer(listeners.get(index), "listener-dispatch-" + index);
+        }
+        for (Consumer consumer : consumers) {
+            consumer.thread.start();
+        }
+    }
+
+    //---------------------------------------------------------------- Game thread: publishing.
+
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                 int toIndex, boolean toInTail, int roll) {
+        ListenerEvent event = claimMove(ListenerEvent.SUCCESSFUL_MOVE, player, context, roll, false);
+        if (event != null) {
+            event.fromIndex = fromIndex;
+            event.fromInTail = fromInTail;
+            event.toIndex = toIndex;
+            event.toInTail = toInTail;
+            publish();
+        }
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                              int attemptedIndex, int roll) {
+        ListenerEvent event = claimMove(ListenerEvent.BLOCKED_MOVE, player, context, roll, false);
+        if (event != null) {
+            event.fromIndex = fromIndex;
+            event.fromInTail = fromInTail;
+            event.toIndex = attemptedIndex;
+            publish();
+        }
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int toIndex, int overshoot, int roll) {
+        ListenerEvent event = claimMove(ListenerEvent.END_REACHED, player, context, roll, false);
+        if (event != null) {
+            event.fromIndex = fromIndex;
+            event.fromInTail = fromInTail;
+            event.toIndex = toIndex;
+            event.overshoot = overshoot;
+            publish();
+        }
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int overshoot, int roll) {
+        ListenerEvent event = claimMove(ListenerEvent.END_FORFEIT, player, context, roll, false);
+        if (event != null) {
+            event.fromIndex = fromIndex;
+            event.fromInTail = fromInTail;
+            event.overshoot = overshoot;
+            publish();
+        }
+    }
+
+    //Text callbacks - only reached when a caller bypasses the primitive callbacks above.
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int roll) {
+        publishText(ListenerEvent.SUCCESSFUL_MOVE, player, context, fromPosition, toPosition, 0, roll);
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, String fromPosition, String attemptedPosition, int roll) {
+        publishText(ListenerEvent.BLOCKED_MOVE, player, context, fromPosition, attemptedPosition, 0, roll);
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int overshoot, int roll) {
+        publishText(ListenerEvent.END_REACHED, player, context, fromPosition, toPosition, overshoot, roll);
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll) {
+        publishText(ListenerEvent.END_FORFEIT, player, context, fromPosition, null, overshoot, roll);
+    }
+
+    @Override
+    public void onStateTransition(String oldState, String newState) {
+        ListenerEvent event = claim(ListenerEvent.STATE_TRANSITION);
+        event.oldState = oldState;
+        event.newState = newState;
+        publish();
+    }
+
+    @Override
+    public void onMaxMovesReached(int maxMoves, int totalGameMoves) {
+        ListenerEvent event = claim(ListenerEvent.MAX_MOVES_REACHED);
+        event.maxMoves = maxMoves;
+        event.totalGameMoves = totalGameMoves;
+        publish();
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves) {
+        onGameOver(players, contexts, GameListener.findWinnerSeat(players, contexts), totalGameMoves);
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int winnerSeat, int totalGameMoves) {
+        ListenerEvent event = claim(ListenerEvent.GAME_OVER);
+        event.players = players;
+        event.winnerSeat = winnerSeat;
+        event.contexts = contexts;              //Not changed once the game is over - consumers copy it into their mirror.
+        event.totalGameMoves = totalGameMoves;
+        publish();
+    }
+
+    @Override
+    public void onRollAfterGameOver(int roll) {
+        ListenerEvent event = claim(ListenerEvent.ROLL_AFTER_GAME_OVER);
+        event.roll = roll;
+        publish();
+    }
+
+    /**
+     * Waits until every consumer has handled everything published so far (e.g. before printing the next game's header).
+     */
+    public void drain() {
+        long target = cursor.get();
+        int attempts = 0;
+        while (minimumSequence() < target) {
+            idle(attempts++);
+        }
+    }
+
+    /**
+     * Handles everything already published, then stops the consumer threads.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        drain();
+        running = false;
+        signalConsumers();
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public long getDroppedEvents() {
+        return dropped.get();
+    }
+
+    public long getListenerFailures() {
+        return failures.get();
+    }
+
+    public int getBufferSize() {
+        return ring.length;
+    }
+
+    private ListenerEvent claimMove(int type, Player player, PlayersInGameContext context, int roll, boolean text) {
+        ListenerEvent event = tryClaim(type, overflowPolicy == OverflowPolicy.DROP);
+        if (event == null) {
+            dropped.incrementAndGet();
+            return null;
+        }
+        event.text = text;
+        event.player = player;
+        event.roll = roll;
+        event.snapshot(context);
+        return event;
+    }
+
+    private void publishText(int type, Player player, PlayersInGameContext context, String from, String to, int overshoot, int roll) {
+        ListenerEvent event = claimMove(type, player, context, roll, true);
+        if (event != null) {
+            event.fromLabel = from;
+            event.toLabel = to;
+            event.overshoot = overshoot;
+            publish();
+        }
+    }
+
+    private ListenerEvent claim(int type) {
+        return tryClaim(type, false);
+    }
+
+    /**
+     * Claims the next slot, waiting while the slowest consumer is a whole buffer behind - or returns null if allowed to drop.
+     */
+    private ListenerEvent tryClaim(int type, boolean mayDrop) {
+        if (!running) {
+            throw new IllegalStateException("Listener dispatcher has been closed.");
+        }
+        long next = claimed + 1;
+        long wrapPoint = next - ring.length;
+        if (wrapPoint > cachedMinimum) {
+            int attempts = 0;
+            while (wrapPoint > (cachedMinimum = minimumSequence())) {
+                if (mayDrop) {
+                    return null;
+                }
+                idle(attempts++);
+            }
+        }
+        claimed = next;
+        ListenerEvent event = ring[(int) (next & mask)];
+        event.type = type;
+        return event;
+    }
+
+    private void publish() {
+        cursor.set(claimed);
+        if (waitStrategy == WaitStrategy.BLOCKING && sleepingConsumers.get() > 0) {
+            signalConsumers();
+        }
+    }
+
+    private void signalConsumers() {
+        lock.lock();
+        try {
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long minimumSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+        return minimum;
+    }
+
+    private void idle(int attempts) {
+        if (waitStrategy == WaitStrategy.BUSY_SPIN || attempts < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELDING || attempts < 2 * SPIN_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(SLEEP_NANOS);
+        }
+    }
+
+    //---------------------------------------------------------------- Consumer threads.
+
+    private final class Consumer implements Runnable {
+        private final GameListener listener;
+        private final AtomicLong sequence = new AtomicLong(-1);          //Last sequence handled.
+        private final Map<PlayersGameState, Mirror> mirrors = new IdentityHashMap<>();
+        private final Thread thread;
+
+        private Consumer(GameListener listener, String name) {
+            this.listener = listener;
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            while (true) {
+                long available = waitFor(next);
+                if (available < next) {
+                    return;                                             //Stopped, and everything published has been handled.
+                }
+                for (; next <= available; next++) {
+                    try {
+                        deliver(ring[(int) (next & mask)]);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                        System.err.println("Listener " + listener.getClass().getSimpleName() + " failed: " + e.getMessage());
+                    }
+                }
+                sequence.set(available);                                //Frees the slots for the game thread.
+            }
+        }
+
+        private long waitFor(long next) {
+            int attempts = 0;
+            while (cursor.get() < next && running) {
+                if (waitStrategy == WaitStrategy.BLOCKING) {
+                    sleep(next);
+                } else {
+                    idle(attempts++);
+                }
+            }
+            return cursor.get();
+        }
+
+        private void sleep(long next) {
+            sleepingConsumers.incrementAndGet();
+            lock.lock();
+            try {
+                if (cursor.get() < next && running) {
+                    published.await(1, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+                sleepingConsumers.decrementAndGet();
+            }
+        }
+
+        private void deliver(ListenerEvent event) {
+            switch (event.type) {
+                case ListenerEvent.STATE_TRANSITION -> listener.onStateTransition(event.oldState, event.newState);
+                case ListenerEvent.MAX_MOVES_REACHED -> listener.onMaxMovesReached(event.maxMoves, event.totalGameMoves);
+                case ListenerEvent.ROLL_AFTER_GAME_OVER -> listener.onRollAfterGameOver(event.roll);
+                case ListenerEvent.GAME_OVER -> deliverGameOver(event);
+                default -> deliverMove(event);
+            }
+        }
+
+        private void deliverMove(ListenerEvent event) {
+            PlayersInGameContext context = null;
+            if (event.source != null) {
+                Mirror mirror = mirrors.computeIfAbsent(event.source, Mirror::new);
+                mirror.state.copySeat(event.seat, event.boardIndex, event.inTail, event.stepsTaken, event.moveCount, event.finished);
+                context = mirror.contexts[event.seat];
+            }
+            Player player = event.player;
+            int roll = event.roll;
+            if (event.text) {
+                switch (event.type) {
+                    case ListenerEvent.SUCCESSFUL_MOVE -> listener.onSuccessfulMove(player, context, event.fromLabel, event.toLabel, roll);
+                    case ListenerEvent.BLOCKED_MOVE -> listener.onBlockedMove(player, context, event.fromLabel, event.toLabel, roll);
+                    case ListenerEvent.END_REACHED -> listener.onEndReached(player, context, event.fromLabel, event.toLabel, event.overshoot, roll);
+                    default -> listener.onEndForfeit(player, context, event.fromLabel, event.overshoot, roll);
+                }
+                return;
+            }
+            switch (event.type) {
+                case ListenerEvent.SUCCESSFUL_MOVE -> listener.onSuccessfulMove(player, context, event.fromIndex, event.fromInTail,
+                        event.toIndex, event.toInTail, roll);
+                case ListenerEvent.BLOCKED_MOVE -> listener.onBlockedMove(player, context, event.fromIndex, event.fromInTail,
+                        event.toIndex, roll);
+                case ListenerEvent.END_REACHED -> listener.onEndReached(player, context, event.fromIndex, event.fromInTail,
+                        event.toIndex, event.overshoot, roll);
+                default -> listener.onEndForfeit(player, context, event.fromIndex, event.fromInTail, event.overshoot, roll);
+            }
+        }
+
+        private void deliverGameOver(ListenerEvent event) {
+            Map<Player, PlayersInGameContext> contexts = event.contexts;
+            if (contexts == null || contexts.isEmpty()) {
+                listener.onGameOver(event.players, contexts, event.winnerSeat, event.totalGameMoves);
+                return;
+            }
+            //The game is over, so its state is final - bring every seat of the mirror up to date (covers dropped moves).
+            PlayersGameState source = contexts.values().iterator().next().getPlayersPosition().getState();
+            Mirror mirror = mirrors.remove(source);
+            if (mirror == null) {
+                mirror = new Mirror(source);
+            }
+            for (int seat = 0; seat < source.getSeatCount(); seat++) {
+                mirror.state.copySeat(seat, source.getBoardIndex(seat), source.isInTail(seat), source.getStepsTaken(seat),
+                        source.getMoveCount(seat), source.isFinished(seat));
+            }
+            listener.onGameOver(event.players, mirror.contextsByPlayer(), event.winnerSeat, event.totalGameMoves);
+        }
+    }
+
+    /**
+     * One consumer's copy of a game - same players and board dimensions, its own state and contexts.
+     */
+    private static final class Mirror {
+        private final PlayersGameState state;
+        private final PlayersInGameContext[] contexts;
+
+        private Mirror(PlayersGameState source) {
+            Player[] players = new Player[source.getSeatCount()];
+            for (int seat = 0; seat < players.length; seat++) {
+                players[seat] = source.getPlayer(seat);
+            }
+            this.state = new PlayersGameState(players, source.getBoardLength(), source.getTailLength());
+            this.contexts = new PlayersInGameContext[players.length];
+            for (int seat = 0; seat < players.length; seat++) {
+                contexts[seat] = new PlayersInGameContext(new PlayersPosition(state, seat), new PlayersMoveHistory());
+            }
+        }
+
+        private Map<Player, PlayersInGameContext> contextsByPlayer() {
+            Map<Player, PlayersInGameContext> byPlayer = new LinkedHashMap<>();
+            for (int seat = 0; seat < contexts.length; seat++) {
+                byPlayer.put(state.getPlayer(seat), contexts[seat]);
+            }
+            return byPlayer;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package uk.ac.mmu.game.gameobserver.dispatch;
+
+/**
+ * How a thread waits for the ring buffer - consumers for new events, the game thread for free slots.
+ */
+public enum WaitStrategy {
+    BUSY_SPIN,      //Lowest latency, keeps a core busy per consumer.
+    YIELDING,       //Spins briefly, then yields the core.
+    SLEEPING,       //Spins, yields, then parks for short periods - the default.
+    BLOCKING        //Consumers sleep on a lock until the game thread signals new events.
+}
@@ -0,0 +1,16 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * A move forfeited because another player holds the target square (ForfeitOnHitStrategy).
+ */
+public final class BlockedEvent extends TurnEvent {
+    private int attemptedIndex;
+
+    void setAttemptedIndex(int attemptedIndex) {
+        this.attemptedIndex = attemptedIndex;
+    }
+
+    public int getAttemptedIndex() {
+        return attemptedIndex;
+    }
+}
@@ -0,0 +1,16 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * A move forfeited because the roll overshot the end (ExactEndStrategy) - the player stays on the from index.
+ */
+public final class EndForfeitEvent extends TurnEvent {
+    private int overshoot;
+
+    void setOvershoot(int overshoot) {
+        this.overshoot = overshoot;
+    }
+
+    public int getOvershoot() {
+        return overshoot;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * The winning move - the player reached the end of their tail, exactly or with an allowed overshoot.
+ */
+public final class EndReachedEvent extends TurnEvent {
+    private int toIndex;
+    private int overshoot;
+
+    void setEnd(int toIndex, int overshoot) {
+        this.toIndex = toIndex;
+        this.overshoot = overshoot;
+    }
+
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    public int getOvershoot() {
+        return overshoot;
+    }
+}
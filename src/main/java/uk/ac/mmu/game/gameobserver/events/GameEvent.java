@@ -0,0 +1,18 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * Base of the typed game events handed to a GameEventListener.
+ * Events are reused: GameEventAdapter keeps one instance per type and overwrites it for every callback,
+ * so an event is only valid during the callback - copy the fields out to keep them.
+ */
+public abstract class GameEvent {
+    private long sequence;                  //Number of events published by the adapter before this one.
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
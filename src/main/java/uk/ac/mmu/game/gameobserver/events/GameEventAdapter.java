@@ -0,0 +1,126 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapts the GameListener callbacks the engine makes into typed events for GameEventListeners.
+ * The adapter owns one event of each type and refills it for every callback, so following a game allocates nothing.
+ * Like the engine it serves, an adapter is single threaded - use one per game thread.
+ */
+public class GameEventAdapter implements GameListener {
+    private final GameEventListener[] listeners;
+    private final MoveEvent move = new MoveEvent();
+    private final BlockedEvent blocked = new BlockedEvent();
+    private final EndReachedEvent endReached = new EndReachedEvent();
+    private final EndForfeitEvent endForfeit = new EndForfeitEvent();
+    private final StateTransitionEvent transition = new StateTransitionEvent();
+    private final GameOverEvent gameOver = new GameOverEvent();
+    private long sequence = 0;
+    private boolean maxMovesReached = false;
+
+    public GameEventAdapter(GameEventListener... listeners) {
+        this.listeners = listeners.clone();
+    }
+
+    public GameEventAdapter(List<GameEventListener> listeners) {
+        this.listeners = listeners.toArray(new GameEventListener[0]);
+    }
+
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                 int toIndex, boolean toInTail, int roll) {
+        turn(move, player, context, roll, fromIndex, fromInTail);
+        move.setTarget(toIndex, toInTail);
+        for (GameEventListener listener : listeners) {
+            listener.onMove(move);
+        }
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                              int attemptedIndex, int roll) {
+        turn(blocked, player, context, roll, fromIndex, fromInTail);
+        blocked.setAttemptedIndex(attemptedIndex);
+        for (GameEventListener listener : listeners) {
+            listener.onBlocked(blocked);
+        }
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int toIndex, int overshoot, int roll) {
+        turn(endReached, player, context, roll, fromIndex, fromInTail);
+        endReached.setEnd(toIndex, overshoot);
+        for (GameEventListener listener : listeners) {
+            listener.onEndReached(endReached);
+        }
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int overshoot, int roll) {
+        turn(endForfeit, player, context, roll, fromIndex, fromInTail);
+        endForfeit.setOvershoot(overshoot);
+        for (GameEventListener listener : listeners) {
+            listener.onEndForfeit(endForfeit);
+        }
+    }
+
+    @Override
+    public void onStateTransition(String oldState, String newState) {
+        if ("Ready".equalsIgnoreCase(oldState)) {
+            maxMovesReached = false;                    //A new game starts.
+        }
+        transition.setSequence(sequence++);
+        transition.setStates(oldState, newState);
+        for (GameEventListener listener : listeners) {
+            listener.onStateTransition(transition);
+        }
+    }
+
+    @Override
+    public void onMaxMovesReached(int maxMoves, int totalGameMoves) {
+        maxMovesReached = true;                         //Reported with the game over event that follows.
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves) {
+        onGameOver(players, contexts, GameListener.findWinnerSeat(players, contexts), totalGameMoves);
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int winnerSeat, int totalGameMoves) {
+        gameOver.setSequence(sequence++);
+        gameOver.setResult(winnerSeat, totalGameMoves, maxMovesReached, players.length);
+        for (GameEventListener listener : listeners) {
+            listener.onGameOver(gameOver);
+        }
+    }
+
+    private void turn(TurnEvent event, Player player, PlayersInGameContext context, int roll, int fromIndex, boolean fromInTail) {
+        event.setSequence(sequence++);
+        event.setTurn(player, context.getSeat(), roll, context.getMoveCount(), fromIndex, fromInTail);
+    }
+
+    //Text callbacks are never used - the primitive callbacks above are overridden.
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int roll) {
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, String fromPosition, String attemptedPosition, int roll) {
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int overshoot, int roll) {
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll) {
+    }
+}
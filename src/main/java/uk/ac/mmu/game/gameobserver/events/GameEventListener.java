@@ -0,0 +1,26 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * Typed alternative to GameListener - one small event object per callback instead of wide parameter lists.
+ * Attach to an engine through GameEventAdapter. Events are reused, so never keep a reference after the callback.
+ * Every method defaults to a no-op, so a consumer only implements the events it cares about.
+ */
+public interface GameEventListener {
+    default void onMove(MoveEvent event) {
+    }
+
+    default void onBlocked(BlockedEvent event) {
+    }
+
+    default void onEndReached(EndReachedEvent event) {
+    }
+
+    default void onEndForfeit(EndForfeitEvent event) {
+    }
+
+    default void onStateTransition(StateTransitionEvent event) {
+    }
+
+    default void onGameOver(GameOverEvent event) {
+    }
+}
@@ -0,0 +1,34 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * End of a game - the winner's seat (-1 when the MAX_MOVES safeguard stopped it) and the total moves played.
+ */
+public final class GameOverEvent extends GameEvent {
+    private int winnerSeat;
+    private int totalGameMoves;
+    private boolean maxMovesReached;
+    private int seatCount;
+
+    void setResult(int winnerSeat, int totalGameMoves, boolean maxMovesReached, int seatCount) {
+        this.winnerSeat = winnerSeat;
+        this.totalGameMoves = totalGameMoves;
+        this.maxMovesReached = maxMovesReached;
+        this.seatCount = seatCount;
+    }
+
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    public int getTotalGameMoves() {
+        return totalGameMoves;
+    }
+
+    public boolean isMaxMovesReached() {
+        return maxMovesReached;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * A successful move that did not finish the game.
+ */
+public final class MoveEvent extends TurnEvent {
+    private int toIndex;
+    private boolean toInTail;
+
+    void setTarget(int toIndex, boolean toInTail) {
+        this.toIndex = toIndex;
+        this.toInTail = toInTail;
+    }
+
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    public boolean isToInTail() {
+        return toInTail;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+/**
+ * A change of game state, e.g. "Ready" to "In Play". The names are the states' constant toString values.
+ */
+public final class StateTransitionEvent extends GameEvent {
+    private String oldState;
+    private String newState;
+
+    void setStates(String oldState, String newState) {
+        this.oldState = oldState;
+        this.newState = newState;
+    }
+
+    public String getOldState() {
+        return oldState;
+    }
+
+    public String getNewState() {
+        return newState;
+    }
+}
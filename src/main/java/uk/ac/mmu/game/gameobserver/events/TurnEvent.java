@@ -0,0 +1,48 @@
+package uk.ac.mmu.game.gameobserver.events;
+
+import uk.ac.mmu.game.players.Player;
+
+/**
+ * Fields shared by every turn outcome: who rolled, what they rolled and where they started from.
+ */
+public abstract class TurnEvent extends GameEvent {
+    private Player player;
+    private int seat;
+    private int roll;
+    private int moveCount;                  //The player's turn number in this game (1 for their first turn).
+    private int fromIndex;
+    private boolean fromInTail;
+
+    void setTurn(Player player, int seat, int roll, int moveCount, int fromIndex, boolean fromInTail) {
+        this.player = player;
+        this.seat = seat;
+        this.roll = roll;
+        this.moveCount = moveCount;
+        this.fromIndex = fromIndex;
+        this.fromInTail = fromInTail;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public int getRoll() {
+        return roll;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    public boolean isFromInTail() {
+        return fromInTail;
+    }
+}
@@ -0,0 +1,152 @@
+package uk.ac.mmu.game.gamerecord;
+
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * Compact record of one game: a header (option combination, dice seed, MAX_MOVES and player order)
+ * followed by one event per turn (seat, roll, outcome code, from index, to index).
+ * Events are held as ints, not text - GameRecordReader rebuilds the readable history on demand.
+ */
+public class GameRecord {
+    //Outcome of a turn - the low 2 bits of the outcome code.
+    public static final int MOVED = 0;
+    public static final int BLOCKED = 1;                //Hit another player (ForfeitOnHitStrategy) - to index is the attempted square.
+    public static final int END_REACHED = 2;
+    public static final int END_FORFEIT = 3;            //Overshoot under ExactEndStrategy - to index equals from index.
+
+    private static final int FROM_IN_TAIL = 1 << 2;
+    private static final int TO_IN_TAIL = 1 << 3;
+    private static final int OVERSHOOT_SHIFT = 4;
+    private static final int EVENT_FIELDS = 5;
+
+    private final SimulationCombination combination;
+    private final OptionalLong seed;
+    private final int maxMoves;
+    private final String[] playerNames;
+    private int[] events = new int[64 * EVENT_FIELDS];
+    private int eventCount = 0;
+    private int winnerSeat = -1;
+    private int totalGameMoves = 0;
+
+    public GameRecord(SimulationCombination combination, OptionalLong seed, int maxMoves, String[] playerNames) {
+        this.combination = combination;
+        this.seed = seed;
+        this.maxMoves = maxMoves;
+        this.playerNames = playerNames.clone();
+    }
+
+    /**
+     * Packs the outcome, the tail flags and the overshoot into a single outcome code.
+     */
+    public static int outcomeCode(int outcome, boolean fromInTail, boolean toInTail, int overshoot) {
+        return outcome | (fromInTail ? FROM_IN_TAIL : 0) | (toInTail ? TO_IN_TAIL : 0) | (overshoot << OVERSHOOT_SHIFT);
+    }
+
+    public void addEvent(int seat, int roll, int outcomeCode, int fromIndex, int toIndex) {
+        if (seat < 0 || seat >= playerNames.length) {
+            throw new IllegalArgumentException("Invalid seat: " + seat);
+        }
+        int offset = eventCount * EVENT_FIELDS;
+        if (offset == events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[offset] = seat;
+        events[offset + 1] = roll;
+        events[offset + 2] = outcomeCode;
+        events[offset + 3] = fromIndex;
+        events[offset + 4] = toIndex;
+        eventCount++;
+    }
+
+    public void setResult(int winnerSeat, int totalGameMoves) {
+        this.winnerSeat = winnerSeat;
+        this.totalGameMoves = totalGameMoves;
+    }
+
+    public SimulationCombination getCombination() {
+        return combination;
+    }
+
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    public int getMaxMoves() {
+        return maxMoves;
+    }
+
+    public int getSeatCount() {
+        return playerNames.length;
+    }
+
+    public String getPlayerName(int seat) {
+        return playerNames[seat];
+    }
+
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    public int getTotalGameMoves() {
+        return totalGameMoves;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getSeat(int event) {
+        return field(event, 0);
+    }
+
+    public int getRoll(int event) {
+        return field(event, 1);
+    }
+
+    public int getOutcomeCode(int event) {
+        return field(event, 2);
+    }
+
+    public int getOutcome(int event) {
+        return getOutcomeCode(event) & 3;
+    }
+
+    public boolean isFromInTail(int event) {
+        return (getOutcomeCode(event) & FROM_IN_TAIL) != 0;
+    }
+
+    public boolean isToInTail(int event) {
+        return (getOutcomeCode(event) & TO_IN_TAIL) != 0;
+    }
+
+    public int getOvershoot(int event) {
+        return getOutcomeCode(event) >>> OVERSHOOT_SHIFT;
+    }
+
+    public int getFromIndex(int event) {
+        return field(event, 3);
+    }
+
+    public int getToIndex(int event) {
+        return field(event, 4);
+    }
+
+    //Every roll in turn order - enough to replay the game with a FixedDiceShaker.
+    public int[] getRolls() {
+        int[] rolls = new int[eventCount];
+        for (int event = 0; event < eventCount; event++) {
+            rolls[event] = getRoll(event);
+        }
+        return rolls;
+    }
+
+    private int field(int event, int field) {
+        if (event < 0 || event >= eventCount) {
+            throw new IndexOutOfBoundsException("Event " + event + " of " + eventCount);
+        }
+        return events[event * EVENT_FIELDS + field];
+    }
+}
@@ -0,0 +1,204 @@
+package uk.ac.mmu.game.gamerecord;
+
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.OptionalLong;
+
+/**
+ * Binary encoding of a GameRecord.
+ * Layout: magic "FGR", version, the five option ordinals, flags (bit 0 = seeded), seed (8 bytes if seeded),
+ * MAX_MOVES, seat count and player order (index of each seat's player in the PlayerOption's factory order),
+ * event count, one event per turn, then winner seat + 1 and total game moves.
+ * An event is [seat, roll, outcome, tail flags] packed into one value, the from index, the to index
+ * (omitted for an end forfeit, where it equals the from index) and the overshoot (end events only).
+ * Every integer apart from the seed is an unsigned LEB128 varint - a typical turn takes 3 bytes.
+ * The board and players are rebuilt from the option ordinals, so only games on a combination's standard board and
+ * players can be encoded - GameRecordRecorder refuses to follow any other game.
+ */
+public final class GameRecordCodec {
+    private static final byte[] MAGIC = {'F', 'G', 'R'};
+    private static final int VERSION = 1;
+    private static final int SEEDED = 1;
+    private static final int MAX_ROLL = 15;                //Roll takes the low 4 bits of the packed event.
+
+    private GameRecordCodec() {
+    }
+
+    public static byte[] encode(GameRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + record.getEventCount() * 5);
+        try {
+            encode(record, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);              //Not thrown by ByteArrayOutputStream.
+        }
+        return bytes.toByteArray();
+    }
+
+    public static void encode(GameRecord record, OutputStream out) throws IOException {
+        //1. Header
+        out.write(MAGIC);
+        writeVarint(out, VERSION);
+        SimulationCombination combination = record.getCombination();
+        writeVarint(out, combination.getPlayerOption().ordinal());
+        writeVarint(out, combination.getDiceOption().ordinal());
+        writeVarint(out, combination.getBoardOption().ordinal());
+        writeVarint(out, combination.getHitOption().ordinal());
+        writeVarint(out, combination.getEndOption().ordinal());
+        OptionalLong seed = record.getSeed();
+        writeVarint(out, seed.isPresent() ? SEEDED : 0);
+        if (seed.isPresent()) {
+            long value = seed.getAsLong();
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (value >>> shift));
+            }
+        }
+        writeVarint(out, record.getMaxMoves());
+        String[] factoryOrder = factoryPlayerNames(combination.getPlayerOption());
+        int seats = record.getSeatCount();
+        writeVarint(out, seats);
+        for (int seat = 0; seat < seats; seat++) {
+            writeVarint(out, indexOf(factoryOrder, record.getPlayerName(seat)));
+        }
+        //2. One event per turn.
+        writeVarint(out, record.getEventCount());
+        for (int event = 0; event < record.getEventCount(); event++) {
+            int outcome = record.getOutcome(event);
+            int roll = record.getRoll(event);
+            if (roll < 0 || roll > MAX_ROLL) {
+                throw new IllegalArgumentException("Roll out of range for the binary format: " + roll);
+            }
+            int packed = roll | outcome << 4 | (record.isFromInTail(event) ? 1 << 6 : 0) | (record.isToInTail(event) ? 1 << 7 : 0);
+            writeVarint(out, packed * seats + record.getSeat(event));
+            writeVarint(out, record.getFromIndex(event));
+            if (outcome != GameRecord.END_FORFEIT) {
+                writeVarint(out, record.getToIndex(event));
+            }
+            if (outcome == GameRecord.END_REACHED || outcome == GameRecord.END_FORFEIT) {
+                writeVarint(out, record.getOvershoot(event));
+            }
+        }
+        //3. Result
+        writeVarint(out, record.getWinnerSeat() + 1);
+        writeVarint(out, record.getTotalGameMoves());
+    }
+
+    public static GameRecord decode(byte[] bytes) throws IOException {
+        return decode(new ByteArrayInputStream(bytes));
+    }
+
+    public static GameRecord decode(InputStream in) throws IOException {
+        for (byte expected : MAGIC) {
+            if (readByte(in) != expected) {
+                throw new IOException("Not a game record (bad magic).");
+            }
+        }
+        int version = readVarint(in);
+        if (version != VERSION) {
+            throw new IOException("Unsupported game record version: " + version);
+        }
+        SimulationCombination combination = new SimulationCombination(
+                option(PlayerOption.values(), readVarint(in)), option(DiceOption.values(), readVarint(in)),
+                option(BoardOption.values(), readVarint(in)), option(HitOption.values(), readVarint(in)),
+                option(EndOption.values(), readVarint(in)));
+        OptionalLong seed = OptionalLong.empty();
+        if ((readVarint(in) & SEEDED) != 0) {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte(in);
+            }
+            seed = OptionalLong.of(value);
+        }
+        int maxMoves = readVarint(in);
+        String[] factoryOrder = factoryPlayerNames(combination.getPlayerOption());
+        int seats = readVarint(in);
+        if (seats == 0) {
+            throw new IOException("Game record has no players.");
+        }
+        String[] names = new String[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            names[seat] = option(factoryOrder, readVarint(in));
+        }
+
+        GameRecord record = new GameRecord(combination, seed, maxMoves, names);
+        int events = readVarint(in);
+        for (int event = 0; event < events; event++) {
+            int packedSeat = readVarint(in);
+            int seat = packedSeat % seats;
+            int packed = packedSeat / seats;
+            int outcome = (packed >>> 4) & 3;
+            int from = readVarint(in);
+            int to = outcome == GameRecord.END_FORFEIT ? from : readVarint(in);
+            int overshoot = outcome == GameRecord.END_REACHED || outcome == GameRecord.END_FORFEIT ? readVarint(in) : 0;
+            record.addEvent(seat, packed & MAX_ROLL,
+                    GameRecord.outcomeCode(outcome, (packed & 1 << 6) != 0, (packed & 1 << 7) != 0, overshoot), from, to);
+        }
+        record.setResult(readVarint(in) - 1, readVarint(in));
+        return record;
+    }
+
+    static void writeVarint(OutputStream out, int value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varints are unsigned: " + value);
+        }
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarint(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte(in);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint.");
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Truncated game record.");
+        }
+        return b;
+    }
+
+    private static String[] factoryPlayerNames(PlayerOption option) {
+        Player[] players = PlayerFactoryGateway.createPlayers(option);
+        String[] names = new String[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            names[seat] = players[seat].getName();
+        }
+        return names;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int index = 0; index < names.length; index++) {
+            if (names[index].equals(name)) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("Player " + name + " is not part of the record's player option.");
+    }
+
+    private static <E> E option(E[] values, int ordinal) throws IOException {
+        if (ordinal >= values.length) {
+            throw new IOException("Invalid option ordinal in game record: " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
@@ -0,0 +1,65 @@
+package uk.ac.mmu.game.gamerecord;
+
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.factories.gateway.BoardFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameobserver.MoveHistoryFormatter;
+import uk.ac.mmu.game.gamestate.GameOverState;
+import uk.ac.mmu.game.gamestate.InPlayState;
+import uk.ac.mmu.game.gamestate.ReadyState;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PositionLabels;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rebuilds the human-readable move history of a GameRecord, line for line as ObserverConsoleLogger records it.
+ */
+public final class GameRecordReader {
+
+    private GameRecordReader() {
+    }
+
+    public static List<String> toHistory(GameRecord record) {
+        GameBoard board = BoardFactoryGateway.createBoard(record.getCombination().getBoardOption());
+        Player[] players = PlayerFactoryGateway.createPlayers(record.getCombination().getPlayerOption());
+        int boardLength = board.getBoardLength();
+        int tailLength = board.getTotalBoardLength() - boardLength;
+        PositionLabels[] labels = new PositionLabels[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            labels[seat] = PositionLabels.forPlayer(players[seat], boardLength, tailLength);
+        }
+        String inPlay = new InPlayState().toString();
+
+        List<String> history = new ArrayList<>(record.getEventCount() + 3);
+        history.add(MoveHistoryFormatter.stateTransition(new ReadyState().toString(), inPlay));
+        int[] turns = new int[players.length];
+        for (int event = 0; event < record.getEventCount(); event++) {
+            int seat = record.getSeat(event);
+            int turn = ++turns[seat];
+            int roll = record.getRoll(event);
+            String name = record.getPlayerName(seat);
+            String from = labels[seat].label(record.getFromIndex(event), record.isFromInTail(event));
+            history.add(switch (record.getOutcome(event)) {
+                case GameRecord.MOVED -> MoveHistoryFormatter.successfulMove(name, turn, roll, from,
+                        labels[seat].label(record.getToIndex(event), record.isToInTail(event)));
+                case GameRecord.BLOCKED -> MoveHistoryFormatter.blockedMove(name, turn, roll, from,
+                        labels[seat].attemptedLabel(record.getToIndex(event)));
+                case GameRecord.END_REACHED -> MoveHistoryFormatter.endReached(name, turn, roll,
+                        labels[seat].label(record.getToIndex(event), true), record.getOvershoot(event));
+                default -> MoveHistoryFormatter.endForfeit(name, turn, roll, from, record.getOvershoot(event));
+            });
+        }
+
+        //Winner, or terminated by the MAX_MOVES safeguard - an unfinished record has no closing lines.
+        String gameOver = new GameOverState().toString();
+        if (record.getWinnerSeat() >= 0) {
+            history.add(MoveHistoryFormatter.stateTransition(inPlay, gameOver));
+        } else if (record.getTotalGameMoves() >= record.getMaxMoves()) {
+            history.add(MoveHistoryFormatter.maxMovesReached(record.getMaxMoves()));
+            history.add(MoveHistoryFormatter.stateTransition(inPlay, gameOver));
+        }
+        return history;
+    }
+}
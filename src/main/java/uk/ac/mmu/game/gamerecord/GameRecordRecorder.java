@@ -0,0 +1,149 @@
+package uk.ac.mmu.game.gamerecord;
+
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.factories.gateway.BoardFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Listener that captures a game as a compact GameRecord - raw indices and codes only, no text is formatted.
+ * A new record is started on the "Ready" transition, so one recorder can follow consecutive games.
+ * Records only describe the standard boards and players of a SimulationCombination - following a game on any other
+ * board or seating (a ConfigurableGameBoard, generated players) fails on its first move with IllegalArgumentException.
+ */
+public class GameRecordRecorder implements GameListener {
+    private final SimulationCombination combination;
+    private final OptionalLong seed;
+    private final int maxMoves;
+    private final String[] playerNames;
+    private final int boardLength;
+    private final int tailLength;
+    private GameRecord record;
+    private boolean checked;                            //The current game's board and players have been checked.
+
+    public GameRecordRecorder(SimulationCombination combination, OptionalLong seed) {
+        this(combination, seed, GameEngine.MAX_MOVES);
+    }
+
+    public GameRecordRecorder(SimulationCombination combination, OptionalLong seed, int maxMoves) {
+        this.combination = combination;
+        this.seed = seed;
+        this.maxMoves = maxMoves;
+        Player[] players = PlayerFactoryGateway.createPlayers(combination.getPlayerOption());
+        this.playerNames = new String[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            playerNames[seat] = players[seat].getName();
+        }
+        GameBoard board = BoardFactoryGateway.createBoard(combination.getBoardOption());
+        this.boardLength = board.getBoardLength();
+        this.tailLength = board.getTailEndLength();
+        this.record = newRecord();
+    }
+
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    private GameRecord newRecord() {
+        checked = false;
+        return new GameRecord(combination, seed, maxMoves, playerNames);
+    }
+
+    //Once per game: the codec can only rebuild the board and players from the combination's options.
+    private void checkGame(PlayersInGameContext context) {
+        PlayersGameState state = context.getPlayersPosition().getState();
+        boolean matches = state.getSeatCount() == playerNames.length
+                && state.getBoardLength() == boardLength && state.getTailLength() == tailLength;
+        for (int seat = 0; matches && seat < playerNames.length; seat++) {
+            matches = state.getPlayer(seat).getName().equals(playerNames[seat]);
+        }
+        if (!matches) {
+            throw new IllegalArgumentException("Game records only support the boards and players of " + combination
+                    + " - this game has " + state.getSeatCount() + " seats on a board of " + state.getBoardLength()
+                    + "+" + state.getTailLength() + " positions.");
+        }
+        checked = true;
+    }
+
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                 int toIndex, boolean toInTail, int roll) {
+        if (!checked) {
+            checkGame(context);
+        }
+        record.addEvent(context.getSeat(), roll,
+                GameRecord.outcomeCode(GameRecord.MOVED, fromInTail, toInTail, 0), fromIndex, toIndex);
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                              int attemptedIndex, int roll) {
+        if (!checked) {
+            checkGame(context);
+        }
+        record.addEvent(context.getSeat(), roll,
+                GameRecord.outcomeCode(GameRecord.BLOCKED, fromInTail, false, 0), fromIndex, attemptedIndex);
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int toIndex, int overshoot, int roll) {
+        if (!checked) {
+            checkGame(context);
+        }
+        record.addEvent(context.getSeat(), roll,
+                GameRecord.outcomeCode(GameRecord.END_REACHED, fromInTail, true, overshoot), fromIndex, toIndex);
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int overshoot, int roll) {
+        if (!checked) {
+            checkGame(context);
+        }
+        record.addEvent(context.getSeat(), roll,
+                GameRecord.outcomeCode(GameRecord.END_FORFEIT, fromInTail, fromInTail, overshoot), fromIndex, fromIndex);
+    }
+
+    //Text callbacks are never used - the primitive callbacks above are overridden.
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int roll) {
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, String fromPosition, String attemptedPosition, int roll) {
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int overshoot, int roll) {
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll) {
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves) {
+        onGameOver(players, contexts, GameListener.findWinnerSeat(players, contexts), totalGameMoves);
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int winnerSeat, int totalGameMoves) {
+        record.setResult(winnerSeat, totalGameMoves);
+    }
+
+    @Override
+    public void onStateTransition(String oldState, String newState) {
+        if ("Ready".equalsIgnoreCase(oldState)) {
+            record = newRecord();
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package uk.ac.mmu.game.gamestate;
 
-import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
 import uk.ac.mmu.game.rungame.GameEngine;
 
 public class GameOverState implements GameState {
     @Override
-    public void handleDiceRoll(GameEngine context, PlayersInGameContext playerContext, int roll) {
-        //Game Over should print for additional attempts to play
-        System.out.println("\nGame Over: The game has already ended.");
+    public void handleDiceRoll(GameEngine context, int seat, int roll) {
+        //Game Over notifies listeners of additional attempts to play, the move itself is ignored.
+        context.notifyRollAfterGameOver(roll);
     }
     @Override
     public String toString() {
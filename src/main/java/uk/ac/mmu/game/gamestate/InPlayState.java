@@ -1,15 +1,14 @@
 package uk.ac.mmu.game.gamestate;
 
-import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
 import uk.ac.mmu.game.rungame.GameEngine;
 
 public class InPlayState implements GameState {
     @Override
-    public void handleDiceRoll(GameEngine context, PlayersInGameContext playerContext, int roll) {
-        context.executeMoveLogic(playerContext, roll);
+    public void handleDiceRoll(GameEngine context, int seat, int roll) {
+        context.executeMoveLogic(seat, roll);
 
         // Validation to check if state moves to GameOver state.
-        if (playerContext.isFinished()) {
+        if (context.getPlayersState().isFinished(seat)) {
             context.setGameState(new GameOverState());
         }
     }
@@ -7,13 +7,25 @@ package uk.ac.mmu.game.gamestrategies;
 import uk.ac.mmu.game.players.Player;
 
 /**
- * Checks if a move is valid before it happens.
+ * Decisions are made on primitive values taken straight from PlayersGameState.
+ * Once in the tail, a player's board index equals the total steps taken from their start.
  * @param stepsTaken - The total absolute steps the player has taken from their start.
  */
 
 public interface EndStrategy {
-    boolean hasReachedEnd(Player player, int currentIndex);
-    int calculateOvershoot(Player player, int currentIndex);
+    boolean hasReachedEnd(int currentIndex);
+    int calculateOvershoot(int currentIndex);
     //Check a move is valid before applying it.
-    boolean isValidMove(Player player, int currentIndex, int roll, int boardLength, int tailLength, int stepsTaken);
+    boolean isValidMove(int stepsTaken, int roll);
+
+    //Player based variants kept for existing callers - the player does not influence the end rules.
+    default boolean hasReachedEnd(Player player, int currentIndex) {
+        return hasReachedEnd(currentIndex);
+    }
+    default int calculateOvershoot(Player player, int currentIndex) {
+        return calculateOvershoot(currentIndex);
+    }
+    default boolean isValidMove(Player player, int currentIndex, int roll, int boardLength, int tailLength, int stepsTaken) {
+        return isValidMove(stepsTaken, roll);
+    }
 }
@@ -2,10 +2,22 @@ package uk.ac.mmu.game.gamestrategies;
 
 import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
 import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
 
 import java.util.Map;
 
 public interface HitStrategy {
-    boolean canMoveToPosition(Player currentPlayer, int targetIndex, Map<Player, PlayersInGameContext> allPlayers, GameBoard board);
-}
\ No newline at end of file
+    /**
+     * Checks if the player in the given seat may move to the target index, using the index-based game state.
+     */
+    boolean canMoveToPosition(int seat, int targetIndex, PlayersGameState state, GameBoard board);
+
+    /**
+     * Object based variant kept for callers holding player contexts - adapts them to a PlayersGameState.
+     */
+    default boolean canMoveToPosition(Player currentPlayer, int targetIndex, Map<Player, PlayersInGameContext> allPlayers, GameBoard board) {
+        PlayersGameState state = PlayersGameState.fromContexts(allPlayers, board);
+        return canMoveToPosition(state.seatOf(currentPlayer), targetIndex, state, board);
+    }
+}
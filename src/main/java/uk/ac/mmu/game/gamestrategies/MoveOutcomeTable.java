@@ -0,0 +1,113 @@
+package uk.ac.mmu.game.gamestrategies;
+
+import uk.ac.mmu.game.board.GameBoard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compiled rules table for one GameBoard geometry and EndStrategy.
+ * Apart from collisions, the outcome of a move depends only on (stepsTaken, roll), so every outcome is
+ * worked out once by asking the EndStrategy, then looked up by the engine instead of calling the strategy each turn.
+ *
+ * Outcomes are packed into a long: kind (2 bits), overshoot (30 bits) and target steps (32 bits).
+ * Tables are immutable and cached, so all games with the same configuration share one instance. Only the most recently
+ * used configurations are kept - a sweep over many board sizes would otherwise hold a table per size for good.
+ * EndStrategy implementations are therefore expected to depend only on the board geometry.
+ */
+public final class MoveOutcomeTable {
+    public static final int SHARED_BOARD = 0;          //Move stays on the shared board (collision check still required).
+    public static final int TAIL = 1;                  //Move enters or moves along the player's own tail.
+    public static final int WIN = 2;                   //Move reaches the end (exact land or allowed overshoot).
+    public static final int OVERSHOOT_FORFEIT = 3;     //Move overshoots the end and is forfeited (ExactEndStrategy).
+
+    private static final int MAX_TABLE_ROLL = 12;      //Highest roll of two dice - larger (fixed) rolls are computed on demand.
+    private static final int CACHE_ENTRIES = 16;       //Well above the fixed boards and end rules (4 tables).
+    //Guarded by itself - access ordered, so the eldest is the least recently used.
+    private static final Map<String, MoveOutcomeTable> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MoveOutcomeTable> eldest) {
+            return size() > CACHE_ENTRIES;
+        }
+    };
+
+    private final int boardLength;
+    private final int tailEndIndex;
+    private final EndStrategy endStrategy;
+    private final long[] outcomes;                     //Flat [stepsTaken][roll] table.
+
+    private MoveOutcomeTable(GameBoard board, EndStrategy endStrategy) {
+        this.boardLength = board.getBoardLength();
+        this.tailEndIndex = board.getBoardLength() + board.getTailEndLength() - 1;
+        this.endStrategy = endStrategy;
+        this.outcomes = new long[(tailEndIndex + 1) * (MAX_TABLE_ROLL + 1)];
+        for (int steps = 0; steps <= tailEndIndex; steps++) {
+            for (int roll = 0; roll <= MAX_TABLE_ROLL; roll++) {
+                outcomes[steps * (MAX_TABLE_ROLL + 1) + roll] = compute(steps, roll);
+            }
+        }
+    }
+
+    /**
+     * Returns the shared table for this board geometry and end rule, building it on first use.
+     */
+    public static MoveOutcomeTable forConfiguration(GameBoard board, EndStrategy endStrategy) {
+        String key = board.getBoardLength() + ":" + board.getTailEndLength() + ":" + endStrategy.getClass().getName();
+        synchronized (CACHE) {
+            MoveOutcomeTable cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        MoveOutcomeTable table = new MoveOutcomeTable(board, endStrategy);     //Built outside the lock - large boards take a while.
+        synchronized (CACHE) {
+            MoveOutcomeTable raced = CACHE.putIfAbsent(key, table);
+            return raced != null ? raced : table;
+        }
+    }
+
+    /**
+     * Outcome of rolling the given value with the given steps already taken.
+     */
+    public long lookup(int stepsTaken, int roll) {
+        if (stepsTaken >= 0 && stepsTaken <= tailEndIndex && roll >= 0 && roll <= MAX_TABLE_ROLL) {
+            return outcomes[stepsTaken * (MAX_TABLE_ROLL + 1) + roll];
+        }
+        return compute(stepsTaken, roll);
+    }
+
+    private long compute(int stepsTaken, int roll) {
+        int totalSteps = stepsTaken + roll;
+        if (!endStrategy.isValidMove(stepsTaken, roll)) {
+            return pack(OVERSHOOT_FORFEIT, endStrategy.calculateOvershoot(totalSteps), stepsTaken);
+        }
+        if (totalSteps < boardLength) {
+            return pack(SHARED_BOARD, 0, totalSteps);
+        }
+        //Once in the tail the board index equals the total steps taken.
+        if (endStrategy.hasReachedEnd(totalSteps)) {
+            return pack(WIN, endStrategy.calculateOvershoot(totalSteps), Math.min(totalSteps, tailEndIndex));
+        }
+        return pack(TAIL, 0, totalSteps);
+    }
+
+    private static long pack(int kind, int overshoot, int targetSteps) {
+        return ((long) targetSteps << 32) | ((long) (overshoot & 0x3FFFFFFF) << 2) | kind;
+    }
+
+    public static int kind(long outcome) {
+        return (int) (outcome & 0x3);
+    }
+
+    public static int overshoot(long outcome) {
+        return (int) ((outcome >>> 2) & 0x3FFFFFFF);
+    }
+
+    /**
+     * Total steps from the start after the move (the tail index for TAIL and WIN, clamped to the end for WIN).
+     * For OVERSHOOT_FORFEIT this is the unchanged steps taken.
+     */
+    public static int targetSteps(long outcome) {
+        return (int) (outcome >>> 32);
+    }
+}
@@ -2,7 +2,6 @@ package uk.ac.mmu.game.gamestrategies.endimplementations;
 
 import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.gamestrategies.EndStrategy;
-import uk.ac.mmu.game.players.Player;
 
 /**
  * ExactEndStrategy requires players to land exactly on their tail end.
@@ -16,21 +15,21 @@ public class ExactEndStrategy implements EndStrategy {
     }
 
     @Override
-    public boolean hasReachedEnd(Player player, int currentIndex) {
+    public boolean hasReachedEnd(int currentIndex) {
         int tailEndIndex = board.getBoardLength() + board.getTailEndLength() - 1;
         return currentIndex == tailEndIndex;
     }
 
     @Override
-    public int calculateOvershoot(Player player, int currentIndex) {
+    public int calculateOvershoot(int currentIndex) {
         int tailEndIndex = board.getBoardLength() + board.getTailEndLength() - 1;
         return Math.max(0, currentIndex - tailEndIndex);
     }
 
     @Override
-    public boolean isValidMove(Player player, int currentIndex, int roll, int boardLength, int tailLength, int stepsTaken) {
+    public boolean isValidMove(int stepsTaken, int roll) {
         int proposedTotalSteps = stepsTaken + roll;
-        int tailEndIndex = boardLength + tailLength - 1;
+        int tailEndIndex = board.getBoardLength() + board.getTailEndLength() - 1;
 
         return proposedTotalSteps <= tailEndIndex;
 
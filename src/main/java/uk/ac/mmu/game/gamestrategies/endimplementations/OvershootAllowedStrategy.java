@@ -2,7 +2,6 @@ package uk.ac.mmu.game.gamestrategies.endimplementations;
 
 import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.gamestrategies.EndStrategy;
-import uk.ac.mmu.game.players.Player;
 
 /**
  * OvershootAllowedStrategy lets players finish even if they roll past their tail end.
@@ -16,19 +15,19 @@ public class OvershootAllowedStrategy implements EndStrategy {
     }
 
     @Override
-    public boolean hasReachedEnd(Player player, int currentIndex) {
+    public boolean hasReachedEnd(int currentIndex) {
         int tailEndIndex = board.getBoardLength() + board.getTailEndLength() - 1;
         return currentIndex >= tailEndIndex;
     }
 
     @Override
-    public int calculateOvershoot(Player player, int currentIndex) {
+    public int calculateOvershoot(int currentIndex) {
         int tailEndIndex = board.getBoardLength() + board.getTailEndLength() - 1;
         return Math.max(0, currentIndex - tailEndIndex);
     }
 
     @Override
-    public boolean isValidMove(Player player, int currentIndex, int roll, int boardLength, int tailLength, int stepsTaken) {
+    public boolean isValidMove(int stepsTaken, int roll) {
         return true;
     }
 }
\ No newline at end of file
@@ -2,15 +2,12 @@ package uk.ac.mmu.game.gamestrategies.hitimplementations;
 
 import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.gamestrategies.HitStrategy;
-import uk.ac.mmu.game.players.Player;
-import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
-
-import java.util.Map;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
 
 
 public class AllowHitStrategy implements HitStrategy {
     @Override
-    public boolean canMoveToPosition(Player currentPlayer, int targetIndex, Map<Player, PlayersInGameContext> allPlayers, GameBoard board) {
+    public boolean canMoveToPosition(int seat, int targetIndex, PlayersGameState state, GameBoard board) {
         return true; // Always allow move.
     }
-}
\ No newline at end of file
+}
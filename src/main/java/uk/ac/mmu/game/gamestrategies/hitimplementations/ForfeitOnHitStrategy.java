@@ -2,19 +2,16 @@ package uk.ac.mmu.game.gamestrategies.hitimplementations;
 
 import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.gamestrategies.HitStrategy;
-import uk.ac.mmu.game.players.Player;
-import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
-
-import java.util.Map;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
 
 /**
  * ForfeitOnHitStrategy - Tail positions are LINEAR, not modular.
+ * Collision checks use the occupancy index in PlayersGameState, so cost does not grow with player count.
  */
 public class ForfeitOnHitStrategy implements HitStrategy {
 
     @Override
-    public boolean canMoveToPosition(Player currentPlayer, int targetIndex,
-                                     Map<Player, PlayersInGameContext> allPlayers, GameBoard board) {
+    public boolean canMoveToPosition(int seat, int targetIndex, PlayersGameState state, GameBoard board) {
         int boardLength = board.getBoardLength();
 
         // If target is in tail, NO collision possible (separate tails)
@@ -22,21 +19,10 @@ public class ForfeitOnHitStrategy implements HitStrategy {
             return true;  // Always allow - players have separate tails
         }
 
-        // Only check collisions on shared board
-        for (Map.Entry<Player, PlayersInGameContext> entry : allPlayers.entrySet()) {
-            Player other = entry.getKey();
-            if (other.equals(currentPlayer)) continue;
-
-            int otherIndex = entry.getValue().getPlayersPosition().getBoardIndex();
-
-            // If other player is in tail, they can't collide with shared board
-            if (otherIndex >= boardLength) continue;
-
-            // Both players are on shared board - check if same position
-            if (targetIndex == otherIndex) {
-                return false;  // Collision detected!
-            }
+        // Only check collisions on shared board - occupancy is maintained by the state, so this is one lookup
+        if (state.isOccupiedByOther(seat, targetIndex)) {
+            return false;  // Collision detected!
         }
         return true;  // No collision
     }
-}
\ No newline at end of file
+}
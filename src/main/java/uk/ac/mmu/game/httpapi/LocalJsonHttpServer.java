@@ -0,0 +1,139 @@
+package uk.ac.mmu.game.httpapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Base of the small JSON front ends (game sessions, simulation jobs), on the JDK's built-in HTTP server - the
+ * project has no web framework. Bound to loopback only, one virtual thread per request.
+ * Subclasses route the request; exceptions become status codes here:
+ *      IllegalArgumentException 400 (404 when it starts with "No such"), IllegalStateException 409,
+ *      a failed future 409, a timed out future 504.
+ */
+public abstract class LocalJsonHttpServer {
+    private final ObjectMapper objectMapper;
+    private HttpServer server;
+    private ExecutorService requestThreads;
+
+    protected LocalJsonHttpServer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    //Root path handled by this server, e.g. "/sessions".
+    protected abstract String basePath();
+
+    //Port from the configuration, 0 picks a free port (see getPort()).
+    protected abstract int configuredPort();
+
+    /**
+     * Handles one request.
+     * @param path - the path after basePath() split on "/", so path[1] is the first segment (path.length is 1 for the root).
+     */
+    protected abstract void route(HttpExchange exchange, String method, String[] path, Map<String, String> query) throws Exception;
+
+    @PostConstruct
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), configuredPort()), 0);
+        requestThreads = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(requestThreads);
+        server.createContext(basePath(), this::handle);
+        server.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            requestThreads.shutdown();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = exchange.getRequestURI().getPath().substring(basePath().length()).split("/");
+            route(exchange, exchange.getRequestMethod(), path, parseQuery(exchange.getRequestURI().getRawQuery()));
+        } catch (ExecutionException e) {
+            sendError(exchange, 409, e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            sendError(exchange, 504, "Request was not completed in time.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, 503, "Server is shutting down.");
+        } catch (IllegalArgumentException e) {
+            //NumberFormatException included. Unknown ids come through here too.
+            sendError(exchange, e.getMessage() != null && e.getMessage().startsWith("No such") ? 404 : 400, e.getMessage());
+        } catch (IllegalStateException e) {
+            sendError(exchange, 409, e.getMessage());
+        } catch (Exception e) {
+            sendError(exchange, 500, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    protected static <E extends Enum<E>> E option(Class<E> type, Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+    }
+
+    protected void sendNotFound(HttpExchange exchange) throws IOException {
+        sendError(exchange, 404, "Unknown request: " + exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+    }
+
+    protected void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, Map.of("error", message == null ? "" : message));
+    }
+
+    //A null body sends the status alone.
+    protected void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+}
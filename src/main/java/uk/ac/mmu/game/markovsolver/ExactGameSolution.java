@@ -0,0 +1,105 @@
+package uk.ac.mmu.game.markovsolver;
+
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+/**
+ * Exact answer for one option combination, as produced by MarkovChainSolver.
+ * Probabilities are exact up to floating point rounding - no sampling error.
+ */
+public class ExactGameSolution {
+    private final SimulationCombination combination;
+    private final String[] seatNames;
+    private final double[] winProbability;
+    private final double[] lengthDistribution;      //Index = total moves in the game, value = probability the game lasts exactly that long.
+    private final double maxMovesProbability;
+    private final int maxGameLength;                //Total moves at which the MAX_MOVES safeguard ends the game.
+    private final int statesExplored;
+
+    public ExactGameSolution(SimulationCombination combination, String[] seatNames, double[] winProbability,
+                             double[] lengthDistribution, double maxMovesProbability, int maxGameLength, int statesExplored) {
+        this.combination = combination;
+        this.seatNames = seatNames.clone();
+        this.winProbability = winProbability.clone();
+        this.lengthDistribution = lengthDistribution.clone();
+        this.maxMovesProbability = maxMovesProbability;
+        this.maxGameLength = maxGameLength;
+        this.statesExplored = statesExplored;
+    }
+
+    public SimulationCombination getCombination() {
+        return combination;
+    }
+
+    public int getSeatCount() {
+        return seatNames.length;
+    }
+
+    public String getSeatName(int seat) {
+        return seatNames[seat];
+    }
+
+    public double getWinProbability(int seat) {
+        return winProbability[seat];
+    }
+
+    //Probability the MAX_MOVES safeguard ends the game without a winner.
+    public double getMaxMovesProbability() {
+        return maxMovesProbability;
+    }
+
+    public int getMaxGameLength() {
+        return maxGameLength;
+    }
+
+    //Probability that the game lasts exactly the given number of total moves.
+    public double getLengthProbability(int totalMoves) {
+        return totalMoves >= 0 && totalMoves < lengthDistribution.length ? lengthDistribution[totalMoves] : 0.0;
+    }
+
+    public double[] getLengthDistribution() {
+        return lengthDistribution.clone();
+    }
+
+    public double getExpectedGameLength() {
+        double expected = 0.0;
+        for (int length = 0; length < lengthDistribution.length; length++) {
+            expected += length * lengthDistribution[length];
+        }
+        return expected;
+    }
+
+    /**
+     * Smallest game length whose cumulative probability reaches the percentile (nearest-rank, as CombinationStatistics).
+     */
+    public int getGameLengthPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        double target = percentile / 100.0;
+        double cumulative = 0.0;
+        for (int length = 0; length < lengthDistribution.length; length++) {
+            cumulative += lengthDistribution[length];
+            if (lengthDistribution[length] > 0 && cumulative >= target - 1e-12) {
+                return length;
+            }
+        }
+        return maxGameLength;
+    }
+
+    public int getStatesExplored() {
+        return statesExplored;
+    }
+
+    //One line summary used for console output, in the same layout as CombinationStatistics.
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-36s exact", combination));
+        for (int seat = 0; seat < seatNames.length; seat++) {
+            summary.append(String.format(" %s=%.4f%%", seatNames[seat], winProbability[seat] * 100));
+        }
+        summary.append(String.format(" | length mean=%.4f p50=%d p90=%d p99=%d | maxMoves=%.6f%%",
+                getExpectedGameLength(), getGameLengthPercentile(50), getGameLengthPercentile(90), getGameLengthPercentile(99),
+                maxMovesProbability * 100));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,244 @@
+package uk.ac.mmu.game.markovsolver;
+
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.factories.gateway.BoardFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.EndFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameconfig.DiceOption;
+import uk.ac.mmu.game.gameconfig.HitOption;
+import uk.ac.mmu.game.gamestrategies.EndStrategy;
+import uk.ac.mmu.game.gamestrategies.MoveOutcomeTable;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Exact analytic engine for a SimulationCombination.
+ * Every combination has a finite state space: the steps taken by each player (0 to tail end - 1 while the game is live),
+ * with the player to move given by the turn number (the game ends on the first win, so turns never skip a seat).
+ * The solver propagates the probability of every state forward one turn at a time, following exactly the rules of
+ * StandardMoveStrategy (same MoveOutcomeTable, same collision rule, same MAX_MOVES round boundary as GameEngine).
+ *
+ * Result: per-seat win probability, the full distribution of game length and the probability of hitting MAX_MOVES.
+ */
+@Component
+public class MarkovChainSolver {
+    private static final int MAX_ROLL = 12;
+    private static final int MAX_STATES = 50_000_000;          //Dense arrays of doubles - keeps memory below ~1GB.
+    private static final int TAIL_SQUARE = Long.SIZE - 1;      //Occupancy bit never set - the board must be shorter than this.
+
+    public Map<SimulationCombination, ExactGameSolution> solveAll() {
+        Map<SimulationCombination, ExactGameSolution> solutions = new LinkedHashMap<>();
+        for (SimulationCombination combination : SimulationCombination.all()) {
+            solutions.put(combination, solve(combination));
+        }
+        return solutions;
+    }
+
+    public ExactGameSolution solve(SimulationCombination combination) {
+        return solve(combination, GameEngine.MAX_MOVES);
+    }
+
+    public ExactGameSolution solve(SimulationCombination combination, int maxMoves) {
+        GameBoard board = BoardFactoryGateway.createBoard(combination.getBoardOption());
+        Player[] players = PlayerFactoryGateway.createPlayers(combination.getPlayerOption());
+        EndStrategy endStrategy = EndFactoryGateway.createEndStrategy(board, combination.getEndOption());
+        MoveOutcomeTable outcomes = MoveOutcomeTable.forConfiguration(board, endStrategy);
+        boolean forfeitOnHit = combination.getHitOption() == HitOption.FORBID;
+        double[] rollProbability = rollProbabilities(combination.getDiceOption());
+
+        int seats = players.length;
+        int boardLength = board.getBoardLength();
+        int radix = board.getTotalBoardLength() - 1;               //Live players have taken 0 .. tailEnd - 1 steps.
+        if (boardLength >= TAIL_SQUARE) {
+            throw new IllegalArgumentException("Board too long for the occupancy bitmask: " + boardLength);
+        }
+
+        //1. Mixed radix encoding of the steps vector - state index = sum(steps[seat] * place[seat]).
+        int[] place = new int[seats];
+        long stateCount = 1;
+        for (int seat = 0; seat < seats; seat++) {
+            place[seat] = (int) stateCount;
+            stateCount *= radix;
+            if (stateCount > MAX_STATES) {
+                throw new IllegalArgumentException("State space too large for exact solution: " + combination);
+            }
+        }
+
+        //2. Board index of every seat for every steps value - mirrors how StandardMoveStrategy positions players.
+        int[] startOffset = new int[seats];
+        int[][] indexAt = new int[seats][radix];
+        for (int seat = 0; seat < seats; seat++) {
+            int start = players[seat].getStartIndex();
+            startOffset[seat] = start % boardLength;
+            indexAt[seat][0] = start;                              //Not moved yet - still on the home index.
+            for (int steps = 1; steps < radix; steps++) {
+                indexAt[seat][steps] = steps < boardLength ? (startOffset[seat] + steps) % boardLength : steps;
+            }
+        }
+
+        //3. Per seat transition table: for every steps value, where each roll total leads and with what probability.
+        SeatTransitions[] transitions = new SeatTransitions[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            transitions[seat] = new SeatTransitions(outcomes, rollProbability, radix, boardLength, startOffset[seat]);
+        }
+
+        //4. The engine only checks MAX_MOVES between full rounds, so capped games last a whole number of rounds.
+        int maxGameLength = ((Math.max(0, maxMoves) + seats - 1) / seats) * seats;
+        int fibers = (int) (stateCount / radix);
+        double[] current = new double[(int) stateCount];
+        double[] next = new double[(int) stateCount];
+        double[] fiberWins = new double[fibers];
+        boolean[] reached = new boolean[(int) stateCount];
+        double[] winProbability = new double[seats];
+        double[] lengthDistribution = new double[maxGameLength + 1];
+        current[0] = 1.0;                                          //Every player starts with 0 steps taken.
+
+        for (int turn = 0; turn < maxGameLength; turn++) {
+            int seat = turn % seats;
+            double[] from = current;
+            double[] to = next;
+            Arrays.fill(to, 0.0);
+            //Only the mover's digit changes, so each fiber (one set of the other players' steps) is independent.
+            IntStream.range(0, fibers).parallel().forEach(fiber -> fiberWins[fiber] = propagateFiber(
+                    fiber, seat, from, to, reached, place, radix, indexAt, boardLength, forfeitOnHit, transitions[seat]));
+            double won = 0.0;
+            for (double probability : fiberWins) {
+                won += probability;                        //Summed in a fixed order so results never depend on thread count.
+            }
+            winProbability[seat] += won;
+            lengthDistribution[turn + 1] += won;
+            current = to;
+            next = from;
+        }
+
+        //5. Whatever probability is still live has been stopped by the MAX_MOVES safeguard.
+        double maxMovesProbability = 0.0;
+        for (double probability : current) {
+            maxMovesProbability += probability;
+        }
+        lengthDistribution[maxGameLength] += maxMovesProbability;
+
+        String[] seatNames = new String[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            seatNames[seat] = players[seat].getName();
+        }
+        int statesExplored = 0;
+        for (boolean state : reached) {
+            if (state) {
+                statesExplored++;
+            }
+        }
+        return new ExactGameSolution(combination, seatNames, winProbability, lengthDistribution,
+                maxMovesProbability, maxGameLength, statesExplored);
+    }
+
+    /**
+     * Moves the probability of one fiber forward by one turn of the given seat and returns the probability that won.
+     */
+    private static double propagateFiber(int fiber, int seat, double[] from, double[] to, boolean[] reached, int[] place,
+                                         int radix, int[][] indexAt, int boardLength, boolean forfeitOnHit,
+                                         SeatTransitions transitions) {
+        int stride = place[seat];
+        int base = (fiber / stride) * stride * radix + fiber % stride;
+
+        //Shared board squares held by the other players - one bit per board index.
+        long occupied = 0L;
+        if (forfeitOnHit) {
+            for (int other = 0; other < place.length; other++) {
+                int index = indexAt[other][(base / place[other]) % radix];
+                if (other != seat && index < boardLength) {
+                    occupied |= 1L << index;
+                }
+            }
+        }
+
+        double won = 0.0;
+        for (int steps = 0; steps < radix; steps++) {
+            int state = base + steps * stride;
+            double probability = from[state];
+            if (probability == 0.0) {
+                continue;
+            }
+            reached[state] = true;
+            won += probability * transitions.winProbability[steps];
+            to[state] += probability * transitions.stayProbability[steps];
+            int[] advance = transitions.advance[steps];
+            int[] squares = transitions.targetSquare[steps];
+            double[] probabilities = transitions.probability[steps];
+            for (int k = 0; k < advance.length; k++) {
+                //Branch free: a hit forfeits the move, so the probability stays on the current state.
+                int moves = 1 - (int) ((occupied >>> squares[k]) & 1L);
+                to[state + advance[k] * moves * stride] += probability * probabilities[k];
+            }
+        }
+        return won;
+    }
+
+    /**
+     * Roll outcomes for one seat, grouped by steps taken, taken from the shared MoveOutcomeTable.
+     */
+    private static final class SeatTransitions {
+        private final double[] winProbability;
+        private final double[] stayProbability;            //Overshoot forfeits under ExactEndStrategy.
+        private final int[][] advance;                     //Steps moved forward by each remaining roll outcome.
+        private final int[][] targetSquare;                //Shared board index of the target, TAIL_SQUARE when in the tail.
+        private final double[][] probability;
+
+        private SeatTransitions(MoveOutcomeTable outcomes, double[] rollProbability, int radix, int boardLength, int startOffset) {
+            winProbability = new double[radix];
+            stayProbability = new double[radix];
+            advance = new int[radix][];
+            targetSquare = new int[radix][];
+            probability = new double[radix][];
+            for (int steps = 0; steps < radix; steps++) {
+                int[] targets = new int[MAX_ROLL];
+                int[] squares = new int[MAX_ROLL];
+                double[] probabilities = new double[MAX_ROLL];
+                int count = 0;
+                for (int roll = 1; roll <= MAX_ROLL; roll++) {
+                    double p = rollProbability[roll];
+                    if (p == 0.0) {
+                        continue;
+                    }
+                    long outcome = outcomes.lookup(steps, roll);
+                    int target = MoveOutcomeTable.targetSteps(outcome);
+                    switch (MoveOutcomeTable.kind(outcome)) {
+                        case MoveOutcomeTable.WIN -> winProbability[steps] += p;
+                        case MoveOutcomeTable.OVERSHOOT_FORFEIT -> stayProbability[steps] += p;
+                        default -> {
+                            boolean shared = MoveOutcomeTable.kind(outcome) == MoveOutcomeTable.SHARED_BOARD;
+                            targets[count] = target - steps;
+                            squares[count] = shared ? (startOffset + target) % boardLength : TAIL_SQUARE;
+                            probabilities[count++] = p;
+                        }
+                    }
+                }
+                advance[steps] = Arrays.copyOf(targets, count);
+                targetSquare[steps] = Arrays.copyOf(squares, count);
+                probability[steps] = Arrays.copyOf(probabilities, count);
+            }
+        }
+    }
+
+    //Probability of each roll total (index = roll) for the dice option.
+    static double[] rollProbabilities(DiceOption option) {
+        double[] probability = new double[MAX_ROLL + 1];
+        if (option == DiceOption.ONE) {
+            for (int roll = 1; roll <= 6; roll++) {
+                probability[roll] = 1.0 / 6;
+            }
+        } else {
+            for (int roll = 2; roll <= 12; roll++) {
+                probability[roll] = (6 - Math.abs(roll - 7)) / 36.0;
+            }
+        }
+        return probability;
+    }
+}
@@ -0,0 +1,100 @@
+package uk.ac.mmu.game.metrics;
+
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals for one SimulationCombination, updated once per finished game from any number of threads.
+ */
+public class CombinationMetrics {
+    private final SimulationCombination combination;
+    private final String[] seatNames;
+    private final LongAdder games = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder hits = new LongAdder();                 //Moves forfeited on a hit (ForfeitOnHitStrategy).
+    private final LongAdder endForfeits = new LongAdder();          //Moves forfeited on an overshoot (ExactEndStrategy).
+    private final LongAdder maxMovesTerminations = new LongAdder();
+    private final LongAdder[] wins;
+    private final LogLinearHistogram gameLength = new LogLinearHistogram();
+
+    public CombinationMetrics(SimulationCombination combination, String[] seatNames) {
+        this.combination = combination;
+        this.seatNames = seatNames.clone();
+        this.wins = new LongAdder[seatNames.length];
+        for (int seat = 0; seat < wins.length; seat++) {
+            wins[seat] = new LongAdder();
+        }
+    }
+
+    public void recordGame(int winnerSeat, int totalGameMoves, int gameHits, int gameEndForfeits, boolean maxMovesReached) {
+        games.increment();
+        turns.add(totalGameMoves);
+        hits.add(gameHits);
+        endForfeits.add(gameEndForfeits);
+        if (maxMovesReached) {
+            maxMovesTerminations.increment();
+        }
+        if (winnerSeat >= 0 && winnerSeat < wins.length) {
+            wins[winnerSeat].increment();
+        }
+        gameLength.record(totalGameMoves);
+    }
+
+    public SimulationCombination getCombination() {
+        return combination;
+    }
+
+    public int getSeatCount() {
+        return seatNames.length;
+    }
+
+    public String getSeatName(int seat) {
+        return seatNames[seat];
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getEndForfeits() {
+        return endForfeits.sum();
+    }
+
+    public long getMaxMovesTerminations() {
+        return maxMovesTerminations.sum();
+    }
+
+    public long getWins(int seat) {
+        return wins[seat].sum();
+    }
+
+    //Share of all turns that ended in a hit forfeit.
+    public double getHitRate() {
+        long total = getTurns();
+        return total == 0 ? 0.0 : (double) getHits() / total;
+    }
+
+    //Share of all turns that ended in an overshoot forfeit.
+    public double getEndForfeitRate() {
+        long total = getTurns();
+        return total == 0 ? 0.0 : (double) getEndForfeits() / total;
+    }
+
+    public double getMaxMovesRate() {
+        long total = getGames();
+        return total == 0 ? 0.0 : (double) getMaxMovesTerminations() / total;
+    }
+
+    public LogLinearHistogram getGameLength() {
+        return gameLength;
+    }
+}
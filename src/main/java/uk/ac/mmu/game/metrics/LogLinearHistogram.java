@@ -0,0 +1,82 @@
+package uk.ac.mmu.game.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative int values with HDR-style log-linear buckets.
+ * Values below 32 get a bucket each; above that every power of two is split into 16 equal sub-buckets,
+ * so any recorded value is reported to within about 6% while the whole int range takes 448 counters.
+ * Recording is one atomic increment plus two LongAdder updates, so many game threads can record at once.
+ */
+public class LogLinearHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;             //32 linear buckets for 0-31.
+    private static final int HALF = SUB_BUCKETS / 2;                         //16 sub-buckets per power of two above that.
+    private static final int BUCKETS = bucketIndex(Integer.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values must not be negative: " + value);
+        }
+        counts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Highest value in the bucket holding the given percentile (0-100), never above the largest value recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(bucket), getMax());
+            }
+        }
+        return getMax();                                                     //Counts still being added by other threads.
+    }
+
+    static int bucketIndex(int value) {
+        if (value < SUB_BUCKETS) {
+            return value;
+        }
+        int shift = (31 - Integer.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF + (value >>> shift);                             //value >>> shift is 16-31.
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / HALF - 1;
+        long mantissa = bucket - (long) shift * HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
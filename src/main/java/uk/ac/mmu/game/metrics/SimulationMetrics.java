@@ -0,0 +1,161 @@
+package uk.ac.mmu.game.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Aggregate engine metrics for every SimulationCombination: games, turns, turns per second, hit and overshoot
+ * forfeits, MAX_MOVES terminations, wins per seat and a game length histogram.
+ * Fed by SimulationMetricsListener, read through Micrometer (Spring Boot Actuator binds this MeterBinder to its
+ * registry, tagged by combination and option - the actuator's metrics endpoint is exposed over JMX, see
+ * application.yaml) or as plain text via toText(). With metrics.dump-interval-seconds above 0, start() also prints
+ * the text periodically, to follow long headless runs.
+ */
+@Component
+public class SimulationMetrics implements MeterBinder {
+    private static final String[] PERCENTILES = {"p50", "p90", "p99"};
+    private static final double[] PERCENTILE_VALUES = {50, 90, 99};
+
+    private final List<SimulationCombination> combinations = SimulationCombination.all();
+    private final CombinationMetrics[] metrics = new CombinationMetrics[combinations.size()];   //Indexed by combination ordinal.
+    private final LongAdder totalTurns = new LongAdder();
+    private final long startNanos = System.nanoTime();
+    private final int dumpIntervalSeconds;
+    private ScheduledExecutorService dumper;
+
+    public SimulationMetrics(@Value("${metrics.dump-interval-seconds:0}") int dumpIntervalSeconds) {
+        for (SimulationCombination combination : combinations) {
+            Player[] players = PlayerFactoryGateway.createPlayers(combination.getPlayerOption());
+            String[] seatNames = new String[players.length];
+            for (int seat = 0; seat < players.length; seat++) {
+                seatNames[seat] = players[seat].getName();
+            }
+            metrics[combination.ordinal()] = new CombinationMetrics(combination, seatNames);
+        }
+        this.dumpIntervalSeconds = dumpIntervalSeconds;
+    }
+
+    /**
+     * Starts the periodic dump, if one is configured.
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (dumpIntervalSeconds <= 0 || dumper != null) {
+            return;
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> System.out.println(toText()), dumpIntervalSeconds, dumpIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public CombinationMetrics forCombination(SimulationCombination combination) {
+        return metrics[combination.ordinal()];
+    }
+
+    public SimulationMetricsListener newListener(SimulationCombination combination) {
+        return new SimulationMetricsListener(this, forCombination(combination));
+    }
+
+    void recordGame(CombinationMetrics combination, int winnerSeat, int totalGameMoves, int hits, int endForfeits,
+                    boolean maxMovesReached) {
+        combination.recordGame(winnerSeat, totalGameMoves, hits, endForfeits, maxMovesReached);
+        totalTurns.add(totalGameMoves);
+    }
+
+    public long getTotalTurns() {
+        return totalTurns.sum();
+    }
+
+    //Average since the metrics were created - rates over shorter windows come from the monitoring system.
+    public double getTurnsPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds <= 0 ? 0.0 : totalTurns.sum() / seconds;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("frustration.turns.per.second", this, SimulationMetrics::getTurnsPerSecond)
+                .description("Turns played per second since start-up").register(registry);
+        for (CombinationMetrics combination : metrics) {
+            SimulationCombination options = combination.getCombination();
+            Tags tags = Tags.of("combination", options.toString(),
+                    "players", options.getPlayerOption().name(), "dice", options.getDiceOption().name(),
+                    "board", options.getBoardOption().name(), "hit", options.getHitOption().name(),
+                    "end", options.getEndOption().name());
+            counter(registry, "frustration.games", tags, combination, CombinationMetrics::getGames);
+            counter(registry, "frustration.turns", tags, combination, CombinationMetrics::getTurns);
+            counter(registry, "frustration.hit.forfeits", tags, combination, CombinationMetrics::getHits);
+            counter(registry, "frustration.end.forfeits", tags, combination, CombinationMetrics::getEndForfeits);
+            counter(registry, "frustration.max.moves.terminations", tags, combination, CombinationMetrics::getMaxMovesTerminations);
+            for (int seat = 0; seat < combination.getSeatCount(); seat++) {
+                int winner = seat;
+                counter(registry, "frustration.wins", tags.and("seat", combination.getSeatName(seat)), combination,
+                        metric -> metric.getWins(winner));
+            }
+            LogLinearHistogram length = combination.getGameLength();
+            Gauge.builder("frustration.game.length", length, LogLinearHistogram::getMean)
+                    .tags(tags.and("statistic", "mean")).register(registry);
+            Gauge.builder("frustration.game.length", length, LogLinearHistogram::getMax)
+                    .tags(tags.and("statistic", "max")).register(registry);
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                double percentile = PERCENTILE_VALUES[p];
+                Gauge.builder("frustration.game.length", length, histogram -> histogram.getValueAtPercentile(percentile))
+                        .tags(tags.and("statistic", PERCENTILES[p])).register(registry);
+            }
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String name, Tags tags, CombinationMetrics combination,
+                                ToDoubleFunction<CombinationMetrics> value) {
+        FunctionCounter.builder(name, combination, value).tags(tags).register(registry);
+    }
+
+    /**
+     * Plain text dump, one line per combination that has played at least one game.
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("--------------Simulation metrics: %d turns, %.0f turns/s--------------%n",
+                getTotalTurns(), getTurnsPerSecond()));
+        for (CombinationMetrics combination : metrics) {
+            if (combination.getGames() == 0) {
+                continue;
+            }
+            LogLinearHistogram length = combination.getGameLength();
+            text.append(String.format("%-34s games=%d turns=%d hits=%.2f%% endForfeits=%.2f%% maxMoves=%.2f%% "
+                            + "length mean=%.1f p50=%d p90=%d p99=%d max=%d%n",
+                    combination.getCombination(), combination.getGames(), combination.getTurns(),
+                    100 * combination.getHitRate(), 100 * combination.getEndForfeitRate(), 100 * combination.getMaxMovesRate(),
+                    length.getMean(), length.getValueAtPercentile(50), length.getValueAtPercentile(90),
+                    length.getValueAtPercentile(99), length.getMax()));
+        }
+        return text.toString();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+        }
+    }
+}
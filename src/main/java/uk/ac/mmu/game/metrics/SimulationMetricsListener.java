@@ -0,0 +1,89 @@
+package uk.ac.mmu.game.metrics;
+
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+
+import java.util.Map;
+
+/**
+ * Listener feeding SimulationMetrics. Counts are kept in plain ints while the game runs and added to the shared
+ * lock-free totals once, at game over - so many game threads can report without contending per move.
+ * One listener follows one game at a time; it resets on the "Ready" transition, so it can be reused for the next game.
+ */
+public class SimulationMetricsListener implements GameListener {
+    private final SimulationMetrics metrics;
+    private final CombinationMetrics combination;
+    private int hits;
+    private int endForfeits;
+    private boolean maxMovesReached;
+
+    SimulationMetricsListener(SimulationMetrics metrics, CombinationMetrics combination) {
+        this.metrics = metrics;
+        this.combination = combination;
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                              int attemptedIndex, int roll) {
+        hits++;
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int overshoot, int roll) {
+        endForfeits++;
+    }
+
+    //Moves and wins need no counting - turns come from the total game moves and the winner from the contexts.
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                 int toIndex, boolean toInTail, int roll) {
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                             int toIndex, int overshoot, int roll) {
+    }
+
+    @Override
+    public void onMaxMovesReached(int maxMoves, int totalGameMoves) {
+        maxMovesReached = true;
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves) {
+        onGameOver(players, contexts, GameListener.findWinnerSeat(players, contexts), totalGameMoves);
+    }
+
+    @Override
+    public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int winnerSeat, int totalGameMoves) {
+        metrics.recordGame(combination, winnerSeat, totalGameMoves, hits, endForfeits, maxMovesReached);
+    }
+
+    @Override
+    public void onStateTransition(String oldState, String newState) {
+        if ("Ready".equalsIgnoreCase(oldState)) {
+            hits = 0;
+            endForfeits = 0;
+            maxMovesReached = false;
+        }
+    }
+
+    //Text callbacks are never used - the primitive callbacks above are overridden.
+    @Override
+    public void onSuccessfulMove(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int roll) {
+    }
+
+    @Override
+    public void onBlockedMove(Player player, PlayersInGameContext context, String fromPosition, String attemptedPosition, int roll) {
+    }
+
+    @Override
+    public void onEndReached(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int overshoot, int roll) {
+    }
+
+    @Override
+    public void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll) {
+    }
+}
@@ -0,0 +1,59 @@
+package uk.ac.mmu.game.players;
+
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
+
+/**
+ * Player created from a seat number rather than a fixed colour class - used when a board or player count
+ * is not one of the PlayerOption set-ups. Names are "P1", "P2"... and colours cycle through the four player colours.
+ * Players are seated on the homes of a ConfigurableGameBoard, so a board needs at least one home per seat -
+ * e.g. 500 seats on a 10,000 square board with 500 homes.
+ */
+public class GeneratedPlayer implements Player {
+    private static final String[] COLOR_CODES = {"\u001B[31m", "\u001B[34m", "\u001B[32m", "\u001B[33m"};
+
+    private final String name;
+    private final int startIndex;
+    private final String colorCode;
+
+    public GeneratedPlayer(String name, int startIndex, String colorCode) {
+        this.name = name;
+        this.startIndex = startIndex;
+        this.colorCode = colorCode;
+    }
+
+    /**
+     * One player per seat, each on their own home of the board, spread as evenly as the homes allow.
+     * Throws IllegalArgumentException when the board has fewer homes than seats.
+     */
+    public static Player[] seatedOn(ConfigurableGameBoard board, int seats) {
+        if (seats < 1 || seats > board.getStartPositions()) {
+            throw new IllegalArgumentException("Seats must be between 1 and the board's " + board.getStartPositions()
+                    + " start positions: " + seats);
+        }
+        Player[] players = new Player[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            int home = (int) ((long) seat * board.getStartPositions() / seats);
+            players[seat] = forSeat(seat, board.getStartIndex(home));
+        }
+        return players;
+    }
+
+    private static Player forSeat(int seat, int startIndex) {
+        return new GeneratedPlayer("P" + (seat + 1), startIndex, COLOR_CODES[seat % COLOR_CODES.length]);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    @Override
+    public String getColorCode() {
+        return colorCode;
+    }
+}
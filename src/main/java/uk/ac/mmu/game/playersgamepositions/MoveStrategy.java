@@ -1,5 +1,6 @@
 package uk.ac.mmu.game.playersgamepositions;
 
 public interface MoveStrategy {
-    void move(PlayersInGameContext context, int moves);
+    //Moves the player in the given seat (turn order index) of the shared PlayersGameState.
+    void move(int seat, int moves);
 }
@@ -0,0 +1,187 @@
+package uk.ac.mmu.game.playersgamepositions;
+
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.players.Player;
+
+import java.util.Map;
+
+/**
+ * Compact, index-based state of every player in a game.
+ * Each player is identified by their seat (index in turn order) into primitive arrays,
+ * so the game loop and strategies never perform map lookups or equals() calls per move.
+ * Tail and finished flags are held as bitmasks (one bit per seat).
+ * An occupancy count per shared board square is maintained incrementally as players move,
+ * so collision checks are a single array lookup regardless of the number of players.
+ *
+ * PlayersInGameContext and PlayersPosition are thin views over one seat of this state,
+ * which keeps the existing object API available to listeners.
+ */
+public class PlayersGameState {
+    private final Player[] players;
+    private final int boardLength;
+    private final int tailLength;
+    private final int[] boardIndex;
+    private final int[] stepsTaken;
+    private final int[] moveCount;
+    private final long[] inTail;
+    private final long[] finished;
+    private final int[] occupancy;          //Number of players on each shared board square (index < boardLength).
+
+    public PlayersGameState(Player[] players, GameBoard board) {
+        this(players, board.getBoardLength(), board.getTailEndLength());
+    }
+
+    /**
+     * State sized from the board dimensions alone - used for mirrors of another game's state.
+     */
+    public PlayersGameState(Player[] players, int boardLength, int tailLength) {
+        this.players = players.clone();
+        this.boardLength = boardLength;
+        this.tailLength = tailLength;
+        this.boardIndex = new int[players.length];
+        this.stepsTaken = new int[players.length];
+        this.moveCount = new int[players.length];
+        this.inTail = new long[words(players.length)];
+        this.finished = new long[words(players.length)];
+        this.occupancy = new int[boardLength];
+        for (int seat = 0; seat < players.length; seat++) {
+            boardIndex[seat] = players[seat].getStartIndex();      //Every player starts on their home index.
+            occupy(boardIndex[seat], 1);
+        }
+    }
+
+    /**
+     * Builds a state snapshot from the object based player contexts (used by the legacy strategy API).
+     */
+    public static PlayersGameState fromContexts(Map<Player, PlayersInGameContext> contexts, GameBoard board) {
+        PlayersGameState state = new PlayersGameState(contexts.keySet().toArray(new Player[0]), board);
+        int seat = 0;
+        for (PlayersInGameContext context : contexts.values()) {
+            PlayersPosition position = context.getPlayersPosition();
+            state.setBoardIndex(seat, position.getBoardIndex());
+            state.setInTail(seat, position.isInTail());
+            state.stepsTaken[seat] = context.getStepsTaken();
+            state.moveCount[seat] = context.getMoveCount();
+            state.setFinished(seat, context.isFinished());
+            seat++;
+        }
+        return state;
+    }
+
+    private static int words(int seats) {
+        return (seats + 63) >>> 6;
+    }
+
+    private static boolean bit(long[] mask, int seat) {
+        return (mask[seat >>> 6] & (1L << seat)) != 0;
+    }
+
+    private static void setBit(long[] mask, int seat, boolean value) {
+        if (value) {
+            mask[seat >>> 6] |= 1L << seat;
+        } else {
+            mask[seat >>> 6] &= ~(1L << seat);
+        }
+    }
+
+    public int getSeatCount() {
+        return players.length;
+    }
+
+    public Player getPlayer(int seat) {
+        return players[seat];
+    }
+
+    //Linear search by identity - only used by adapters, never inside the game loop.
+    public int seatOf(Player player) {
+        for (int seat = 0; seat < players.length; seat++) {
+            if (players[seat] == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    public int getBoardLength() {
+        return boardLength;
+    }
+
+    public int getTailLength() {
+        return tailLength;
+    }
+
+    public int getBoardIndex(int seat) {
+        return boardIndex[seat];
+    }
+
+    public void setBoardIndex(int seat, int index) {
+        occupy(boardIndex[seat], -1);
+        boardIndex[seat] = index;
+        occupy(index, 1);
+    }
+
+    //Only the shared board can hold collisions - tail indices are per player and never counted.
+    private void occupy(int index, int delta) {
+        if (index >= 0 && index < boardLength) {
+            occupancy[index] += delta;
+        }
+    }
+
+    /**
+     * Number of players currently on the given shared board square (0 for tail indices).
+     */
+    public int getOccupancy(int index) {
+        return index >= 0 && index < boardLength ? occupancy[index] : 0;
+    }
+
+    /**
+     * True if any player other than the given seat occupies the shared board square - a single lookup.
+     */
+    public boolean isOccupiedByOther(int seat, int index) {
+        int occupants = getOccupancy(index);
+        return seat >= 0 && boardIndex[seat] == index ? occupants > 1 : occupants > 0;
+    }
+
+    public boolean isInTail(int seat) {
+        return bit(inTail, seat);
+    }
+
+    public void setInTail(int seat, boolean value) {
+        setBit(inTail, seat, value);
+    }
+
+    public int getStepsTaken(int seat) {
+        return stepsTaken[seat];
+    }
+
+    public void advanceStepsTaken(int seat, int steps) {
+        stepsTaken[seat] += steps;
+    }
+
+    public int getMoveCount(int seat) {
+        return moveCount[seat];
+    }
+
+    public void increaseMoveCount(int seat) {
+        moveCount[seat]++;
+    }
+
+    public boolean isFinished(int seat) {
+        return bit(finished, seat);
+    }
+
+    public void setFinished(int seat, boolean value) {
+        setBit(finished, seat, value);
+    }
+
+    /**
+     * Overwrites one seat with values taken from another state (e.g. a snapshot carried by a dispatched event).
+     */
+    public void copySeat(int seat, int index, boolean seatInTail, int steps, int moves, boolean seatFinished) {
+        setBoardIndex(seat, index);
+        setInTail(seat, seatInTail);
+        stepsTaken[seat] = steps;
+        moveCount[seat] = moves;
+        setFinished(seat, seatFinished);
+    }
+}
@@ -1,20 +1,16 @@
 package uk.ac.mmu.game.playersgamepositions;
 
 //PlayersInGameContext will be used to hold players state based on game rule strategies applied.
+//The numeric state lives in PlayersGameState - this class is the object view of one seat, kept for listeners.
 public class PlayersInGameContext {
     private PlayersPosition playersPosition;
-    private int moveCount;
-    private int stepsTaken;
     private PlayersMoveHistory playersHistory;
-    private boolean finished;
 
 
     //PlayersInGameContext needs to understand the in game positions, moves attempted and history.
     public PlayersInGameContext(PlayersPosition playersPosition, PlayersMoveHistory playersMoveHistory){
         this.playersPosition = playersPosition;
         this.playersHistory = playersMoveHistory;
-        this.stepsTaken = 0;
-        this.finished = false;
     }
 
     public PlayersPosition getPlayersPosition() {
@@ -25,27 +21,32 @@ public class PlayersInGameContext {
         this.playersPosition = playersPosition;
     }
 
+    //Seat (turn order index) of this player within the shared PlayersGameState.
+    public int getSeat() {
+        return playersPosition.getSeat();
+    }
+
     public int getMoveCount() {
-        return moveCount;
+        return playersPosition.getState().getMoveCount(getSeat());
     }
 
     public void increaseMoveCount() {
-        moveCount++;
+        playersPosition.getState().increaseMoveCount(getSeat());
     }
 
     public int getStepsTaken() {
-        return stepsTaken;
+        return playersPosition.getState().getStepsTaken(getSeat());
     }
 
     public void advanceStepsTaken(int stepsTaken) {
-        this.stepsTaken += stepsTaken;
+        playersPosition.getState().advanceStepsTaken(getSeat(), stepsTaken);
     }
 
     public PlayersMoveHistory getPlayersHistory() {
         return playersHistory;
     }
-    public boolean isFinished() { return finished; }
-    public void setFinished(boolean finished) { this.finished = finished; }
+    public boolean isFinished() { return playersPosition.getState().isFinished(getSeat()); }
+    public void setFinished(boolean finished) { playersPosition.getState().setFinished(getSeat(), finished); }
 
 
 }
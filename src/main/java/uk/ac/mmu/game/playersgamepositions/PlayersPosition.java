@@ -15,55 +15,74 @@ Observer will listen to position progress and print relevant information to the
  */
 
 public class PlayersPosition {
-    private int boardIndex;                             // Tracking current board index based on the player in context.
-    private boolean indexInTail;                        // Supporting whether player is in their tail position.
+    private final PlayersGameState state;               // Shared index-based state this position is a view over.
+    private final int seat;                             // Seat (turn order index) of the player in the state.
     private final Player player;
     private final int boardLength;
     private final int tailLength;
+    private PositionLabels labels;                      // Interned label table, resolved on first use.
 
     public PlayersPosition(Player player, GameBoard board){
-        this.player = player;
-        this.boardIndex = player.getStartIndex();       //When a player is created, we automatically assign their starting board index position.
-        this.indexInTail = false;
-        this.boardLength = board.getBoardLength();
-        this.tailLength = board.getTailEndLength();
+        this(new PlayersGameState(new Player[]{ player }, board), 0);   //Stand-alone position backed by its own single seat state.
+    }
+
+    public PlayersPosition(PlayersGameState state, int seat){
+        this.state = state;
+        this.seat = seat;
+        this.player = state.getPlayer(seat);          //When a player is created, the state automatically assigns their starting board index position.
+        this.boardLength = state.getBoardLength();
+        this.tailLength = state.getTailLength();
     }
 
     //Methods to manage the Players game moves depending on game strategies applied.
     public int getBoardIndex() {
-        return boardIndex;
+        return state.getBoardIndex(seat);
     }
     public void setBoardIndex(int boardIndex) {
-        this.boardIndex = boardIndex;
+        state.setBoardIndex(seat, boardIndex);
     }
     public boolean isInTail() {
-        return indexInTail;
+        return state.isInTail(seat);
     }
     public void setInTail(boolean inTail) {
-        this.indexInTail = inTail;
+        state.setInTail(seat, inTail);
     }
     public Player getPlayer() {
         return player;
     }
+    public PlayersGameState getState() {
+        return state;
+    }
+    public int getSeat() {
+        return seat;
+    }
+
+
+    /**
+     * Label of any index for this player, taken from the interned PositionLabels table.
+     * The table is only looked up when text is actually requested, so headless games never touch it.
+     */
+    public String label(int index, boolean inTail) {
+        return labels().label(index, inTail);
+    }
+
+    public String attemptedLabel(int index) {
+        return labels().attemptedLabel(index);
+    }
 
+    private PositionLabels labels() {
+        PositionLabels table = labels;
+        if (table == null) {
+            table = labels = PositionLabels.forPlayer(player, boardLength, tailLength);
+        }
+        return table;
+    }
 
     /**
      * Calculates tail offset dynamically from boardIndex
      */
     @Override
     public String toString() {
-        if (!indexInTail) {
-            if(boardIndex == player.getStartIndex()){
-                return "Home (position " + (boardIndex +1) + ")";
-            }
-            return "position " + (boardIndex + 1);
-        }
-        String initial = player.getName().substring(0, 1);
-        int tailPosition = boardIndex - boardLength + 1;
-
-        if (tailPosition >= tailLength) {
-            return initial + "End";
-        }
-        return "Tail position " + (initial + tailPosition);
+        return label(getBoardIndex(), isInTail());
     }
 }
@@ -0,0 +1,100 @@
+package uk.ac.mmu.game.playersgamepositions;
+
+import uk.ac.mmu.game.players.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Interned position labels ("Home (position 1)", "position 5", "Tail position R2", "REnd") for one player on one board.
+ * Labels are only formatted the first time they are asked for and then reused, so games whose listeners never
+ * ask for text allocate no strings per turn, and console listeners only build each label once while its table is cached.
+ * Tables are cached per board geometry and player (name and start index), shared by every game. Only the most recently
+ * used tables are kept, so generated players on many board sizes do not add a table per seat per board for good.
+ */
+public final class PositionLabels {
+    private static final int CACHE_ENTRIES = 256;
+    //Guarded by itself - access ordered, so the eldest is the least recently used.
+    private static final Map<String, PositionLabels> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PositionLabels> eldest) {
+            return size() > CACHE_ENTRIES;
+        }
+    };
+
+    private final int startIndex;
+    private final int boardLength;
+    private final int tailLength;
+    private final String initial;
+    private volatile String homeLabel;
+    private volatile String[] sharedLabels;             //Created on first use - index = board index.
+    private volatile String[] tailLabels;               //Created on first use - index = tail position (tailLength = End).
+
+    private PositionLabels(Player player, int boardLength, int tailLength) {
+        this.startIndex = player.getStartIndex();
+        this.boardLength = boardLength;
+        this.tailLength = tailLength;
+        this.initial = player.getName().substring(0, 1);
+    }
+
+    public static PositionLabels forPlayer(Player player, int boardLength, int tailLength) {
+        String key = boardLength + ":" + tailLength + ":" + player.getName() + ":" + player.getStartIndex();
+        synchronized (CACHE) {
+            return CACHE.computeIfAbsent(key, k -> new PositionLabels(player, boardLength, tailLength));   //Cheap - labels are made lazily.
+        }
+    }
+
+    /**
+     * Label of a board index, matching the original PlayersPosition text.
+     */
+    public String label(int boardIndex, boolean inTail) {
+        if (!inTail) {
+            return boardIndex == startIndex ? homeLabel() : positionLabel(boardIndex);
+        }
+        int tailPosition = Math.min(boardIndex - boardLength + 1, tailLength);
+        if (tailPosition < 0) {
+            return "Tail position " + initial + tailPosition;    //Not reachable through the engine - never cached.
+        }
+        String[] labels = tailLabels;
+        if (labels == null) {
+            labels = tailLabels = new String[tailLength + 1];
+        }
+        String label = labels[tailPosition];
+        if (label == null) {
+            label = tailPosition == tailLength ? initial + "End" : "Tail position " + initial + tailPosition;
+            labels[tailPosition] = label;              //Benign race - Strings are immutable, a duplicate is harmless.
+        }
+        return label;
+    }
+
+    /**
+     * Label of a shared board square a player attempted to move to (never shown as "Home").
+     */
+    public String attemptedLabel(int boardIndex) {
+        return positionLabel(boardIndex);
+    }
+
+    private String homeLabel() {
+        String label = homeLabel;
+        if (label == null) {
+            label = homeLabel = "Home (position " + (startIndex + 1) + ")";
+        }
+        return label;
+    }
+
+    private String positionLabel(int boardIndex) {
+        String[] labels = sharedLabels;
+        if (labels == null) {
+            labels = sharedLabels = new String[Math.max(boardLength, startIndex + 1)];
+        }
+        if (boardIndex < 0 || boardIndex >= labels.length) {
+            return "position " + (boardIndex + 1);      //Not reachable through the engine - never cached.
+        }
+        String label = labels[boardIndex];
+        if (label == null) {
+            label = "position " + (boardIndex + 1);
+            labels[boardIndex] = label;
+        }
+        return label;
+    }
+}
@@ -4,18 +4,20 @@ import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.gameobserver.GameListener;
 import uk.ac.mmu.game.gamestrategies.EndStrategy;
 import uk.ac.mmu.game.gamestrategies.HitStrategy;
+import uk.ac.mmu.game.gamestrategies.MoveOutcomeTable;
 import uk.ac.mmu.game.players.Player;
 
 
 import java.util.List;
-import java.util.Map;
 
 public class StandardMoveStrategy implements MoveStrategy {
     private final GameBoard board;
     private final HitStrategy hitStrategy;
-    private final EndStrategy endStrategy;
     private final List<GameListener> listeners;
-    private final Map<Player, PlayersInGameContext> allPlayers;
+    private final PlayersGameState state;
+    private final PlayersInGameContext[] contexts;          //Object views per seat, only handed to listeners.
+    private final MoveOutcomeTable outcomes;                //Precompiled end strategy outcomes, shared by all games with this configuration.
+    private final int[] startOffsets;                       //Start index of each seat normalised onto the shared board.
 
     /**
      * StandardMoveStrategy handles player movement around the shared board and into their own tail.
@@ -24,7 +26,7 @@ public class StandardMoveStrategy implements MoveStrategy {
      * Overshoot only applies when reaching tail end.
      * Strategy decides outcome, listeners handle console output + history.
      *  * Responsibilities:
-     *  * 1. Calculate proposed position
+     *  * 1. Look up the precompiled move outcome
      *  * 2. Validate move using strategies
      *  * 3. Apply move or forfeit
      *  * 4. Notify listeners
@@ -33,85 +35,86 @@ public class StandardMoveStrategy implements MoveStrategy {
      */
 
     public StandardMoveStrategy(GameBoard board, HitStrategy hitStrategy, EndStrategy endStrategy,
-                                List<GameListener> listeners, Map<Player, PlayersInGameContext> allPlayers) {
+                                List<GameListener> listeners, PlayersGameState state, PlayersInGameContext[] contexts) {
         this.board = board;
         this.hitStrategy = hitStrategy;
-        this.endStrategy = endStrategy;
         this.listeners = listeners;
-        this.allPlayers = allPlayers;
+        this.state = state;
+        this.contexts = contexts;
+        this.outcomes = MoveOutcomeTable.forConfiguration(board, endStrategy);
+        this.startOffsets = new int[state.getSeatCount()];
+        for (int seat = 0; seat < startOffsets.length; seat++) {
+            startOffsets[seat] = state.getPlayer(seat).getStartIndex() % board.getBoardLength();
+        }
     }
 
     @Override
-    public void move(PlayersInGameContext context, int roll) {
-        Player player = context.getPlayersPosition().getPlayer();
-        String fromPosition = context.getPlayersPosition().toString();
-        int fromIndex = context.getPlayersPosition().getBoardIndex();
-        int stepsSoFar = context.getStepsTaken();
+    public void move(int seat, int roll) {
+        PlayersInGameContext context = contexts[seat];
+        Player player = state.getPlayer(seat);
+        //Listeners receive raw indices - position text is only formatted if a listener asks for it.
+        boolean notifyListeners = !listeners.isEmpty();
+        int fromIndex = state.getBoardIndex(seat);
+        boolean fromInTail = state.isInTail(seat);
         int sharedBoardLength = board.getBoardLength();                 //18 or 36 positions depending on SMALL or LARGE gameboard.
-        int tailLength = board.getTailEndLength();
-        int tailEndIndex = sharedBoardLength + tailLength - 1;
-        //1. Calculating the proposed position (hypothetical state depending on strategy applied)
-        int totalSteps = stepsSoFar + roll;                             //calculates hypothetical new total distance.
-        int proposedIndex;
-        boolean proposedInTail;
 
-        context.increaseMoveCount(); // increment the move upfront.
+        state.increaseMoveCount(seat); // increment the move upfront.
 
-        if(totalSteps < sharedBoardLength){
-            //Still on shared board, wrap around
-            proposedIndex = (fromIndex + roll) % sharedBoardLength;
-            proposedInTail = false;
-        } else {
-            //In tail or entering the tail - calculate the tail index as linear section. No wrap around.
-            int tailOffset = totalSteps - sharedBoardLength;
-            proposedIndex = sharedBoardLength + tailOffset;
-            proposedInTail = true;
-        }
+        //1. Look up the outcome of (steps taken, roll) - end strategy rules are precompiled into the table.
+        long outcome = outcomes.lookup(state.getStepsTaken(seat), roll);
+        int kind = MoveOutcomeTable.kind(outcome);
 
-        //2. Validate move using End Strategy - determines if overshoot allowed (strategy dependent) before applying move with correct parameters
-        if(!endStrategy.isValidMove(player,fromIndex,roll,sharedBoardLength,tailLength,stepsSoFar)){
-            //Move overshoots - forfeit (ExactEndStrategy only)
-            int overshoot = endStrategy.calculateOvershoot(player, proposedIndex);
-
-            for (GameListener listener : listeners) {
-                listener.onEndForfeit(player, context, fromPosition, overshoot, roll);
+        //2. Overshoot not allowed by End Strategy - forfeit (ExactEndStrategy only)
+        if (kind == MoveOutcomeTable.OVERSHOOT_FORFEIT) {
+            if (notifyListeners) {
+                int overshoot = MoveOutcomeTable.overshoot(outcome);
+                for (GameListener listener : listeners) {
+                    listener.onEndForfeit(player, context, fromIndex, fromInTail, overshoot, roll);
+                }
             }
             return; //Overshoot forfeit, don't apply move
         }
-        //3. Validate move using Hit Strategy - check if move is allowed (only on the shared board)
-        if (!proposedInTail && !hitStrategy.canMoveToPosition(player, proposedIndex, allPlayers, this.board)) {
-            //Hit another player, forfeit go.
-            String attemptedPositionName = "position " + (proposedIndex + 1);
-            for (GameListener listener : listeners) {
-                listener.onBlockedMove(player, context, fromPosition, attemptedPositionName, roll);
+        //3. Calculating the proposed position - shared board wraps around, the tail is linear (index equals steps taken).
+        int proposedIndex;
+        if (kind == MoveOutcomeTable.SHARED_BOARD) {
+            proposedIndex = startOffsets[seat] + MoveOutcomeTable.targetSteps(outcome);
+            if (proposedIndex >= sharedBoardLength) {
+                proposedIndex -= sharedBoardLength;
+            }
+            //Validate move using Hit Strategy - check if move is allowed (only on the shared board)
+            if (!hitStrategy.canMoveToPosition(seat, proposedIndex, state, this.board)) {
+                //Hit another player, forfeit go.
+                if (notifyListeners) {
+                    for (GameListener listener : listeners) {
+                        listener.onBlockedMove(player, context, fromIndex, fromInTail, proposedIndex, roll);
+                    }
+                }
+                return; //Stop, collision detected.
             }
-            return; //Stop, collision detected.
+        } else {
+            proposedIndex = MoveOutcomeTable.targetSteps(outcome);
         }
         //4. Apply valid move and update the player position state.
-        context.getPlayersPosition().setBoardIndex(proposedIndex);
-        context.getPlayersPosition().setInTail(proposedInTail);
-        context.advanceStepsTaken(roll);
-        String toPosition = context.getPlayersPosition().toString();
-
-        if (endStrategy.hasReachedEnd(player, proposedIndex)) {
-            //Player has WON!
+        state.setBoardIndex(seat, proposedIndex);
+        state.setInTail(seat, kind != MoveOutcomeTable.SHARED_BOARD);
+        state.advanceStepsTaken(seat, roll);
 
-            int finalIndexForWin = Math.min(proposedIndex, tailEndIndex);
-            context.getPlayersPosition().setBoardIndex(finalIndexForWin);
-            context.getPlayersPosition().setInTail(true); // Must be in tail to win
-            context.setFinished(true);
+        if (kind == MoveOutcomeTable.WIN) {
+            //Player has WON! The table already clamps the index to the tail end.
+            state.setFinished(seat, true);
 
-            int overshoot = endStrategy.calculateOvershoot(player, proposedIndex);
-            for (GameListener listener : listeners) {
-                // Notifies that the player won (either exact land or allowed overshoot)
-                listener.onEndReached(player, context, fromPosition, toPosition, overshoot, roll);
+            if (notifyListeners) {
+                int overshoot = MoveOutcomeTable.overshoot(outcome);
+                for (GameListener listener : listeners) {
+                    // Notifies that the player won (either exact land or allowed overshoot)
+                    listener.onEndReached(player, context, fromIndex, fromInTail, proposedIndex, overshoot, roll);
+                }
             }
-        } else {
+        } else if (notifyListeners) {
             //Normal game move - not won yet!
             for (GameListener listener : listeners) {
-                listener.onSuccessfulMove(player, context, fromPosition, toPosition, roll);
+                listener.onSuccessfulMove(player, context, fromIndex, fromInTail, proposedIndex, kind == MoveOutcomeTable.TAIL, roll);
             }
         }
     }
 }
-
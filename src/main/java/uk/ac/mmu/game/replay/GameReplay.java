@@ -0,0 +1,179 @@
+package uk.ac.mmu.game.replay;
+
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.dice.FixedDiceShaker;
+import uk.ac.mmu.game.factories.gateway.*;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic replay of a recorded game.
+ * The GameRecord header rebuilds the configuration (including its MAX_MOVES) and its rolls are fed back through a FixedDiceShaker,
+ * so the GameEngine plays exactly the recorded game. The replayed game is itself recorded, and every turn is checked
+ * against the record (mover, roll, outcome and where the mover ends up), and the finished replay against the recorded
+ * winner and length - a mismatch throws IllegalStateException naming the first turn that diverged.
+ *
+ * seekTo(K) replays the first K turns with no listeners attached, then attaches the replay's listeners,
+ * so they only see the game from turn K + 1 on.
+ */
+public class GameReplay {
+    private final GameRecord record;
+    private final int[] rolls;
+    private final List<GameListener> listeners = new ArrayList<>();
+    private GameEngine engine;
+    private GameRecordRecorder replayed;                  //What the engine actually did, turn by turn.
+    private int turn;
+
+    public GameReplay(GameRecord record) {
+        if (record.getMaxMoves() < 1) {
+            throw new IllegalArgumentException("Recorded MAX_MOVES " + record.getMaxMoves() + " - the game cannot be replayed.");
+        }
+        Player[] players = PlayerFactoryGateway.createPlayers(record.getCombination().getPlayerOption());
+        if (players.length != record.getSeatCount()) {
+            throw new IllegalArgumentException("Recorded seat count does not match " + record.getCombination().getPlayerOption());
+        }
+        for (int seat = 0; seat < players.length; seat++) {
+            if (!players[seat].getName().equals(record.getPlayerName(seat))) {
+                throw new IllegalArgumentException("Recorded seat " + seat + " is " + record.getPlayerName(seat)
+                        + ", the engine seats " + players[seat].getName() + ".");
+            }
+        }
+        this.record = record;
+        this.rolls = record.getRolls();
+        restart();
+    }
+
+    /**
+     * Listener for the turns still to be replayed.
+     */
+    public GameReplay attach(GameListener listener) {
+        listeners.add(listener);
+        engine.addListener(listener);
+        return this;
+    }
+
+    /**
+     * Jumps to just after the given turn (0 = before the first roll). Earlier turns are replayed without listeners.
+     */
+    public GameReplay seekTo(int targetTurn) {
+        if (targetTurn < 0 || targetTurn > rolls.length) {
+            throw new IllegalArgumentException("Turn " + targetTurn + " is outside the recorded game (0-" + rolls.length + ").");
+        }
+        restart();
+        while (turn < targetTurn) {
+            step();
+        }
+        for (GameListener listener : listeners) {
+            engine.addListener(listener);
+        }
+        return this;
+    }
+
+    /**
+     * Replays the next turn. Returns false once the game is over (listeners have had onGameOver).
+     */
+    public boolean step() {
+        if (!engine.playNextTurn()) {
+            verifyResult();
+            return false;
+        }
+        verifyTurn(turn++);
+        return true;
+    }
+
+    /**
+     * Replays the rest of the game and checks that it ends as recorded.
+     */
+    public void playToEnd() {
+        while (step()) {
+            // Every turn is verified by step.
+        }
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getRecordedTurns() {
+        return rolls.length;
+    }
+
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public PlayersGameState getPlayersState() {
+        return engine.getPlayersState();
+    }
+
+    private void restart() {
+        SimulationCombination combination = record.getCombination();
+        GameBoard board = BoardFactoryGateway.createBoard(combination.getBoardOption());
+        replayed = new GameRecordRecorder(combination, record.getSeed(), record.getMaxMoves());
+        GameConfiguration config = new GameConfiguration(
+                PlayerFactoryGateway.createPlayers(combination.getPlayerOption()),
+                board,
+                new FixedDiceShaker(rolls),
+                EndFactoryGateway.createEndStrategy(board, combination.getEndOption()),
+                HitFactoryGateway.createHitStrategy(combination.getHitOption()),
+                List.of(replayed)).withMaxMoves(record.getMaxMoves());           //The record's own safeguard, not the default.
+        engine = new GameEngine(config);
+        turn = 0;
+    }
+
+    private void verifyTurn(int event) {
+        int seat = event % record.getSeatCount();            //The game ends at the first finisher, so seats never skip.
+        if (event >= record.getEventCount() || record.getSeat(event) != seat) {
+            throw diverged(event, "seat " + seat + " moved");
+        }
+        GameRecord actual = replayed.getRecord();
+        if (actual.getEventCount() != event + 1 || actual.getRoll(event) != record.getRoll(event)) {
+            throw diverged(event, "seat " + seat + " rolled " + (actual.getEventCount() > event ? actual.getRoll(event) : "nothing")
+                    + ", recorded " + record.getRoll(event));
+        }
+        if (actual.getOutcomeCode(event) != record.getOutcomeCode(event) || actual.getFromIndex(event) != record.getFromIndex(event)
+                || actual.getToIndex(event) != record.getToIndex(event)) {
+            throw diverged(event, "seat " + seat + " had outcome " + actual.getOutcome(event) + " from index "
+                    + actual.getFromIndex(event) + " to " + actual.getToIndex(event) + ", recorded outcome "
+                    + record.getOutcome(event) + " from " + record.getFromIndex(event) + " to " + record.getToIndex(event));
+        }
+        //Blocked moves and end forfeits leave the mover where they were.
+        int outcome = record.getOutcome(event);
+        boolean moved = outcome == GameRecord.MOVED || outcome == GameRecord.END_REACHED;
+        int expectedIndex = moved ? record.getToIndex(event) : record.getFromIndex(event);
+        boolean expectedInTail = moved ? record.isToInTail(event) : record.isFromInTail(event);
+        PlayersGameState state = engine.getPlayersState();
+        if (state.getBoardIndex(seat) != expectedIndex || state.isInTail(seat) != expectedInTail) {
+            throw diverged(event, "seat " + seat + " is on index " + state.getBoardIndex(seat)
+                    + (state.isInTail(seat) ? " (tail)" : "") + ", recorded " + expectedIndex + (expectedInTail ? " (tail)" : ""));
+        }
+        if (state.isFinished(seat) != (outcome == GameRecord.END_REACHED)) {
+            throw diverged(event, "seat " + seat + (state.isFinished(seat) ? " finished" : " did not finish"));
+        }
+    }
+
+    private void verifyResult() {
+        if (turn != record.getEventCount() || engine.getWinnerSeat() != record.getWinnerSeat()
+                || engine.getTotalGameMoves() != record.getTotalGameMoves()) {
+            throw new IllegalStateException("Replay ended after " + turn + " turns with winner seat " + engine.getWinnerSeat()
+                    + ", recorded " + record.getEventCount() + " turns with winner seat " + record.getWinnerSeat() + ".");
+        }
+    }
+
+    private IllegalStateException diverged(int event, String detail) {
+        return new IllegalStateException("Replay diverged from the record at turn " + (event + 1) + ": " + detail + ".");
+    }
+}
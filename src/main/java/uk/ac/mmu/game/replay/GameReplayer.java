@@ -0,0 +1,28 @@
+package uk.ac.mmu.game.replay;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.storage.BinaryGameRecordStore;
+
+import java.io.IOException;
+
+/**
+ * Opens replays of games kept by BinaryGameRecordStore (storage.binary.enabled=true).
+ * The JSON histories are display text only - they do not hold enough to rebuild a game.
+ */
+@Component
+public class GameReplayer {
+    @Autowired
+    private BinaryGameRecordStore binaryStore;
+
+    public GameReplay replay(String id) throws IOException {
+        GameRecord record = binaryStore.load(id)
+                .orElseThrow(() -> new IllegalArgumentException("No game record saved as " + id));
+        return replay(record);
+    }
+
+    public GameReplay replay(GameRecord record) {
+        return new GameReplay(record);
+    }
+}
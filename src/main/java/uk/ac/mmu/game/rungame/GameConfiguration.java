@@ -2,6 +2,7 @@ package uk.ac.mmu.game.rungame;
 
 import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.dice.DiceShaker;
+import uk.ac.mmu.game.dice.SplittableDiceShaker;
 import uk.ac.mmu.game.factories.gateway.*;
 import uk.ac.mmu.game.gameconfig.*;
 import uk.ac.mmu.game.gameobserver.GameListener;
@@ -10,6 +11,7 @@ import uk.ac.mmu.game.gamestrategies.HitStrategy;
 import uk.ac.mmu.game.players.Player;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * Single transparent object for all setup.
@@ -23,6 +25,9 @@ public class GameConfiguration {
     private final EndStrategy endStrategy;
     private final HitStrategy hitStrategy;
     private final List<GameListener> listeners;
+    private final OptionalLong seed;                        //Dice seed when the game is reproducible, empty for random dice.
+    private boolean demoTurnAfterGameOver = false;
+    private int maxMoves = GameEngine.MAX_MOVES;
 
     public GameConfiguration(Player[] players, GameBoard board, DiceShaker dice,
                              EndStrategy endStrategy, HitStrategy hitStrategy,
@@ -33,6 +38,7 @@ public class GameConfiguration {
         this.endStrategy = endStrategy;
         this.hitStrategy = hitStrategy;
         this.listeners = listeners;
+        this.seed = dice instanceof SplittableDiceShaker seeded ? OptionalLong.of(seeded.getSeed()) : OptionalLong.empty();
     }
 
     //Convenience Constructor
@@ -53,6 +59,24 @@ public class GameConfiguration {
         this.hitStrategy = HitFactoryGateway.createHitStrategy(hitOpt);
         this.endStrategy = EndFactoryGateway.createEndStrategy(board, endOpt);
         this.listeners = listeners;
+        this.seed = OptionalLong.empty();
+    }
+
+    //Convenience Constructor with seeded dice - the same seed always replays the same game.
+    public GameConfiguration(PlayerOption playerOpt,
+                             DiceOption diceOpt,
+                             BoardOption boardOpt,
+                             HitOption hitOpt,
+                             EndOption endOpt,
+                             long seed,
+                             List<GameListener> listeners) {
+        this.board = BoardFactoryGateway.createBoard(boardOpt);
+        this.players = PlayerFactoryGateway.createPlayers(playerOpt);
+        this.dice = DiceFactoryGateway.createSeededDice(diceOpt, seed);
+        this.hitStrategy = HitFactoryGateway.createHitStrategy(hitOpt);
+        this.endStrategy = EndFactoryGateway.createEndStrategy(board, endOpt);
+        this.listeners = listeners;
+        this.seed = OptionalLong.of(seed);
     }
 
     // Getters
@@ -79,4 +103,36 @@ public class GameConfiguration {
     public List<GameListener> getListeners() {
         return listeners;
     }
+
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    /**
+     * Opt-in demonstration of the state machine: after the game ends, the engine attempts one extra roll
+     * which the Game Over state rejects. Off by default so simulations run without the extra turn.
+     */
+    public GameConfiguration withDemoTurnAfterGameOver() {
+        this.demoTurnAfterGameOver = true;
+        return this;
+    }
+
+    public boolean isDemoTurnAfterGameOver() {
+        return demoTurnAfterGameOver;
+    }
+
+    /**
+     * Raises (or lowers) the MAX_MOVES safeguard - longer boards need more moves before anyone can finish.
+     */
+    public GameConfiguration withMaxMoves(int maxMoves) {
+        if (maxMoves < 1) {
+            throw new IllegalArgumentException("Max moves must be at least 1: " + maxMoves);
+        }
+        this.maxMoves = maxMoves;
+        return this;
+    }
+
+    public int getMaxMoves() {
+        return maxMoves;
+    }
 }
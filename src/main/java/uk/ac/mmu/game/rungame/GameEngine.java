@@ -9,11 +9,13 @@ import uk.ac.mmu.game.gamestate.GameState;
 import uk.ac.mmu.game.gamestate.ReadyState;
 import uk.ac.mmu.game.gamestrategies.EndStrategy;
 import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
 import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
 import uk.ac.mmu.game.playersgamepositions.PlayersMoveHistory;
 import uk.ac.mmu.game.playersgamepositions.PlayersPosition;
 import uk.ac.mmu.game.playersgamepositions.StandardMoveStrategy;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,27 +30,45 @@ public class GameEngine {
     private final DiceShaker dice;
     private final EndStrategy endStrategy;
     private final List<GameListener> listeners;
+    private final boolean demoTurnAfterGameOver;
+    private final PlayersGameState playersState;                                        //Index-based state used by the game loop.
+    private final PlayersInGameContext[] contexts;                                       //Object views per seat for listeners.
     private final Map<Player, PlayersInGameContext> playerContexts = new LinkedHashMap<>();
     private final StandardMoveStrategy moveStrategy;
     private GameState state;
-    private Player winner;
-    public Player getWinner() { return winner; }
+    private int winnerSeat = -1;
+    public Player getWinner() { return winnerSeat < 0 ? null : players[winnerSeat]; }
+    public int getWinnerSeat() { return winnerSeat; }
     private int totalGameMoves = 0;
-    private final int MAX_MOVES = 100; //This is a safeguard against potential infinite loops where exact end game is played with 2 dice.
+    public static final int ENGINE_VERSION = 1;  //Bump when a change alters game outcomes - cached simulation results are then ignored.
+    public static final int MAX_MOVES = 100; //This is a safeguard against potential infinite loops where exact end game is played with 2 dice.
+    private final int maxMoves;              //MAX_MOVES unless the configuration sets its own limit.
+    public int getTotalGameMoves() { return totalGameMoves; }
+    private static final int ROLL_BUFFER_SIZE = 32;                  //Rolls are drawn from the dice in bulk, refilled when used up.
+    private final int[] rollBuffer = new int[ROLL_BUFFER_SIZE];
+    private int rollsBuffered = 0;
+    private int nextRoll = 0;
+    private int nextSeat = 0;
+    private boolean gameEnded = false;
 
     public GameEngine(GameConfiguration config) {
         this.players = config.getPlayers();
         this.board = config.getBoard();
         this.dice = config.getDice();
         this.endStrategy = config.getEndStrategy();
-        this.listeners = config.getListeners();
+        this.listeners = new ArrayList<>(config.getListeners());     //Own copy, so listeners can be attached part way (replay).
+        this.demoTurnAfterGameOver = config.isDemoTurnAfterGameOver();
+        this.maxMoves = config.getMaxMoves();
 
 
-        // Initialize player contexts
-        for (Player player : players) {
-            PlayersPosition position = new PlayersPosition(player, board);
+        // Initialize the shared player state, with an object view (context) per seat for listeners
+        this.playersState = new PlayersGameState(players, board);
+        this.contexts = new PlayersInGameContext[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            PlayersPosition position = new PlayersPosition(playersState, seat);
             PlayersMoveHistory history = new PlayersMoveHistory();
-            playerContexts.put(player, new PlayersInGameContext(position, history));
+            contexts[seat] = new PlayersInGameContext(position, history);
+            playerContexts.put(players[seat], contexts[seat]);
         }
 
         this.moveStrategy = new StandardMoveStrategy(
@@ -56,7 +76,8 @@ public class GameEngine {
                 config.getHitStrategy(),
                 config.getEndStrategy(),
                 listeners,
-                playerContexts
+                playersState,
+                contexts
         );
         this.state = new ReadyState();
     }
@@ -75,16 +96,27 @@ public class GameEngine {
     /**
      * Method to handle moves, whereby the GameEngine asks the State 'what should it do with the dice roll?'.
      */
+    public void takeTurn(int seat, int roll) {
+        state.handleDiceRoll(this, seat, roll);
+    }
+
+    /**
+     * Object based variant of takeTurn, resolving the context to its seat.
+     */
     public void takeTurn(PlayersInGameContext context, int roll) {
-        state.handleDiceRoll(this, context, roll);
+        takeTurn(context == null ? -1 : context.getSeat(), roll);
     }
 
     /**
      * Method used by the InPlay state to validate moveStrategy.
      * StandardMoveStrategy will be set to finished if that is the case.
      */
-    public void executeMoveLogic(PlayersInGameContext context, int roll) {
-        moveStrategy.move(context, roll);
+    public void executeMoveLogic(int seat, int roll) {
+        moveStrategy.move(seat, roll);
+    }
+
+    public PlayersGameState getPlayersState() {
+        return playersState;
     }
 
 
@@ -98,41 +130,94 @@ public class GameEngine {
     }
 
     public void playGame() {
-        winner = null;
-        totalGameMoves = 0;
-
         // Loop continues until State Machine hits Game Over or maxMove safety limit is reached.
-        while (!(state instanceof GameOverState) && totalGameMoves < MAX_MOVES) {
-            for (Player player : players) {
-                PlayersInGameContext context = playerContexts.get(player);
-                if (context.isFinished()){
-                    continue;
-                }
-
-                int roll = dice.shake();
-                totalGameMoves++;
-
-                this.takeTurn(context, roll);
-
-                if (context.isFinished()) {
-                    winner = player;
-                    break;
-                }
+        while (playNextTurn()) {
+            // Every turn is played by playNextTurn.
+        }
+        // Opt-in demonstration that extra rolls after game won are rejected by the "Game Over" state
+        if (demoTurnAfterGameOver) {
+            this.takeTurn(0, 6);
+        }
+    }
+
+    /**
+     * Plays the next turn of the game loop - lets a caller (e.g. replay) step through a game one roll at a time.
+     * Game Over and MAX_MOVES are checked between full rounds, as in playGame.
+     * Returns false, after listeners have been told the game is over, once there are no turns left.
+     */
+    public boolean playNextTurn() {
+        while (!gameEnded) {
+            if (nextSeat == 0 && (state instanceof GameOverState || totalGameMoves >= maxMoves)) {
+                endGame();
+                break;
+            }
+            int seat = nextSeat;
+            nextSeat = (seat + 1) % players.length;
+            if (playersState.isFinished(seat)) {
+                continue;
+            }
+
+            int roll = nextRoll();
+            totalGameMoves++;
+
+            this.takeTurn(seat, roll);
+
+            if (playersState.isFinished(seat)) {
+                winnerSeat = seat;
+                nextSeat = 0;                    //Rest of the round is skipped - the game is over.
             }
+            return true;
         }
-        if (totalGameMoves >= MAX_MOVES && winner == null) {
-            System.out.println("\nGame terminated: Reached maximum move limit of " + MAX_MOVES);
+        return false;
+    }
+
+    public int getMaxMoves() {
+        return maxMoves;
+    }
+
+    public boolean isGameEnded() {
+        return gameEnded;
+    }
+
+    /**
+     * Attaches a listener from the next event on - earlier turns are not reported to it.
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    private void endGame() {
+        gameEnded = true;
+        if (totalGameMoves >= maxMoves && winnerSeat < 0) {
+            for (GameListener listener : listeners) {
+                listener.onMaxMovesReached(maxMoves, totalGameMoves);
+            }
             this.setGameState(new GameOverState());
         }
         // Notify listeners
         for (GameListener listener : listeners) {
-            listener.onGameOver(players, playerContexts, totalGameMoves);
+            listener.onGameOver(players, playerContexts, winnerSeat, totalGameMoves);
         }
-        if (winner != null) {
-            System.out.println("\n🏆 Winner: " + winner.getColorCode() + winner.getName() + "\u001B[0m");
+    }
+
+    /**
+     * Takes the next roll from the pre-filled buffer, refilling it from the dice in one bulk call when empty.
+     * Unused buffered rolls are discarded when the game ends, so dice should not be shared between engines.
+     */
+    private int nextRoll() {
+        if (nextRoll == rollsBuffered) {
+            rollsBuffered = dice.shake(rollBuffer, ROLL_BUFFER_SIZE);
+            nextRoll = 0;
+        }
+        return rollBuffer[nextRoll++];
+    }
+
+    /**
+     * Used by the Game Over state to report a roll attempted after the game has ended.
+     */
+    public void notifyRollAfterGameOver(int roll) {
+        for (GameListener listener : listeners) {
+            listener.onRollAfterGameOver(roll);
         }
-        // Demonstrating that extra rolls after game won, prints "Game Over" state
-        System.out.println("\n[Test of Game state if inducing an extra roll after win]");
-        this.takeTurn(playerContexts.get(players[0]), 6);
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package uk.ac.mmu.game.runsimulations;
+
+/**
+ * Optional listeners attached to every game of a batch run, besides the statistics counter that is always there.
+ */
+public enum BatchListenerOption {
+    METRICS,            //SimulationMetrics - Micrometer counters and histograms.
+    RESULTS_DATABASE    //GameResultsRepository - needs storage.database.enabled=true.
+}
@@ -0,0 +1,31 @@
+package uk.ac.mmu.game.runsimulations;
+
+/**
+ * Aggregated results of many games played with the same SimulationCombination.
+ * Counting is done by GameOutcomeStatistics - this adds the combination and the batch summary line.
+ */
+public class CombinationStatistics extends GameOutcomeStatistics {
+    private final SimulationCombination combination;
+
+    public CombinationStatistics(SimulationCombination combination, String[] seatNames) {
+        super(seatNames);
+        this.combination = combination;
+    }
+
+    public SimulationCombination getCombination() {
+        return combination;
+    }
+
+    //One line summary used for console output of batch runs.
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-36s games=%d", combination, getGames()));
+        for (int seat = 0; seat < getSeatCount(); seat++) {
+            summary.append(String.format(" %s=%.2f%%", getSeatName(seat), getWinRate(seat) * 100));
+        }
+        summary.append(String.format(" | length mean=%.2f p50=%d p90=%d p99=%d | hits=%d forfeits=%d maxMoves=%d",
+                getMeanGameLength(), getGameLengthPercentile(50), getGameLengthPercentile(90), getGameLengthPercentile(99),
+                getHits(), getEndForfeits(), getMaxMovesTerminations()));
+        return summary.toString();
+    }
+}
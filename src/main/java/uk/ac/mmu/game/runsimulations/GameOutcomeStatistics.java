@@ -0,0 +1,205 @@
+package uk.ac.mmu.game.runsimulations;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Aggregated results of many games played with the same set-up - wins per seat, game length and rule events.
+ * Each worker fills its own instance which is then merged, so no locking is needed while games are played.
+ * Game lengths are kept as an exact histogram (games are capped at MAX_MOVES) so percentiles are exact.
+ * Subclasses say which set-up was played: CombinationStatistics (option enums) or SweepPointStatistics (sweep grid).
+ */
+public abstract class GameOutcomeStatistics {
+    private final String[] seatNames;
+    private final long[] wins;
+    private long[] lengthHistogram = new long[0];  //Index = total moves in the game, value = number of games.
+    private long games;
+    private long totalGameLength;
+    private long hits;
+    private long endForfeits;
+    private long maxMovesTerminations;
+
+    public GameOutcomeStatistics(String[] seatNames) {
+        this.seatNames = seatNames.clone();
+        this.wins = new long[seatNames.length];
+    }
+
+    /**
+     * Records a single finished game.
+     * @param winnerSeat - index of the winning player in turn order, or -1 when MAX_MOVES ended the game.
+     */
+    public void recordGame(int winnerSeat, int gameLength, int gameHits, int gameEndForfeits) {
+        games++;
+        if (winnerSeat >= 0) {
+            wins[winnerSeat]++;
+        } else {
+            maxMovesTerminations++;
+        }
+        if (gameLength >= lengthHistogram.length) {
+            lengthHistogram = Arrays.copyOf(lengthHistogram, gameLength + 1);
+        }
+        lengthHistogram[gameLength]++;
+        totalGameLength += gameLength;
+        hits += gameHits;
+        endForfeits += gameEndForfeits;
+    }
+
+    //Combines another partial result (e.g. from another worker thread) into this one.
+    public void merge(GameOutcomeStatistics other) {
+        if (other.seatNames.length != seatNames.length) {
+            throw new IllegalArgumentException("Cannot merge statistics with a different number of seats");
+        }
+        games += other.games;
+        for (int seat = 0; seat < wins.length; seat++) {
+            wins[seat] += other.wins[seat];
+        }
+        if (other.lengthHistogram.length > lengthHistogram.length) {
+            lengthHistogram = Arrays.copyOf(lengthHistogram, other.lengthHistogram.length);
+        }
+        for (int length = 0; length < other.lengthHistogram.length; length++) {
+            lengthHistogram[length] += other.lengthHistogram[length];
+        }
+        totalGameLength += other.totalGameLength;
+        hits += other.hits;
+        endForfeits += other.endForfeits;
+        maxMovesTerminations += other.maxMovesTerminations;
+    }
+
+    /**
+     * Writes the counts (not the seat names or set-up) - read back with readCounts, e.g. by SimulationResultCache.
+     * Layout: seat count, wins per seat, games, total game length, hits, end forfeits, MAX_MOVES terminations,
+     * histogram length and the histogram.
+     */
+    public void writeCounts(DataOutput out) throws IOException {
+        out.writeInt(wins.length);
+        for (long seatWins : wins) {
+            out.writeLong(seatWins);
+        }
+        out.writeLong(games);
+        out.writeLong(totalGameLength);
+        out.writeLong(hits);
+        out.writeLong(endForfeits);
+        out.writeLong(maxMovesTerminations);
+        out.writeInt(lengthHistogram.length);
+        for (long count : lengthHistogram) {
+            out.writeLong(count);
+        }
+    }
+
+    /**
+     * Adds counts written by writeCounts to this instance - into an empty one, that restores the saved statistics.
+     */
+    public void readCounts(DataInput in) throws IOException {
+        int seats = in.readInt();
+        if (seats != wins.length) {
+            throw new IOException("Saved statistics have " + seats + " seats, expected " + wins.length);
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            wins[seat] += in.readLong();
+        }
+        games += in.readLong();
+        totalGameLength += in.readLong();
+        hits += in.readLong();
+        endForfeits += in.readLong();
+        maxMovesTerminations += in.readLong();
+        int histogramLength = in.readInt();
+        if (histogramLength < 0) {
+            throw new IOException("Corrupt game length histogram: " + histogramLength);
+        }
+        if (histogramLength > lengthHistogram.length) {
+            lengthHistogram = Arrays.copyOf(lengthHistogram, histogramLength);
+        }
+        for (int length = 0; length < histogramLength; length++) {
+            lengthHistogram[length] += in.readLong();
+        }
+    }
+
+    public int getSeatCount() {
+        return seatNames.length;
+    }
+
+    public String getSeatName(int seat) {
+        return seatNames[seat];
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) wins[seat] / games;
+    }
+
+    public double getMeanGameLength() {
+        return games == 0 ? 0.0 : (double) totalGameLength / games;
+    }
+
+    /**
+     * Nearest-rank percentile of the total moves per game.
+     * @param percentile - value between 0 and 100, e.g. 50 for the median.
+     */
+    public int getGameLengthPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (games == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * games));
+        long seen = 0;
+        for (int length = 0; length < lengthHistogram.length; length++) {
+            seen += lengthHistogram[length];
+            if (seen >= rank) {
+                return length;
+            }
+        }
+        return lengthHistogram.length - 1;
+    }
+
+    public long[] getGameLengthHistogram() {
+        return lengthHistogram.clone();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getEndForfeits() {
+        return endForfeits;
+    }
+
+    public long getMaxMovesTerminations() {
+        return maxMovesTerminations;
+    }
+
+    public double getMaxMovesRate() {
+        return games == 0 ? 0.0 : (double) maxMovesTerminations / games;
+    }
+
+    /**
+     * Largest minus smallest seat win rate - 0 for a perfectly fair set-up.
+     */
+    public double getWinRateSpread() {
+        double lowest = 1.0;
+        double highest = 0.0;
+        for (int seat = 0; seat < seatNames.length; seat++) {
+            lowest = Math.min(lowest, getWinRate(seat));
+            highest = Math.max(highest, getWinRate(seat));
+        }
+        return games == 0 ? 0.0 : highest - lowest;
+    }
+
+    /**
+     * First seat's share of the decided games relative to an equal share - 1.0 when moving first gives no advantage.
+     */
+    public double getFirstSeatAdvantage() {
+        long decided = games - maxMovesTerminations;
+        return decided == 0 ? 0.0 : (double) wins[0] * seatNames.length / decided;
+    }
+}
@@ -0,0 +1,251 @@
+package uk.ac.mmu.game.runsimulations;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.dice.DiceSeeds;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.GameStatisticsListener;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.metrics.SimulationMetrics;
+import uk.ac.mmu.game.metrics.SimulationMetricsListener;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.storage.GameResultsRepository;
+import uk.ac.mmu.game.storage.SimulationResultCache;
+import uk.ac.mmu.game.storage.SimulationResultKey;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Batch (Monte Carlo) mode for the game simulations.
+ * Plays N games for every SimulationCombination across a pool of worker threads and aggregates the results.
+ * Each task plays a contiguous chunk of games for one combination into its own CombinationStatistics,
+ * so workers never share mutable state - partial results are merged once all tasks complete.
+ * Every game uses seeded dice derived from a master seed and the game's index (DiceSeeds), so a run is
+ * reproducible and gives identical results for the same master seed whatever the number of threads.
+ * When the results database is enabled, every game is also stored there under the run name BATCH_<master seed>.
+ * A run reserves one block of game ids up front and each game's id is its position in the run, so ids do not depend
+ * on thread timing; workers buffer a chunk's records and hand them to the database in one call.
+ * The chunking and per-chunk play are public so SimulationJobService can schedule the same chunks on its own pool.
+ * When the result cache is enabled, runs given a master seed are looked up there first: a cached run is returned
+ * as is, and a cached shorter run of the same seed is extended by playing only the games after it.
+ * The cache is not used while the results database is enabled, as every game must then be stored.
+ */
+@Component
+public class MonteCarloSimulationRunner {
+    private static final int TASKS_PER_THREAD = 4;          //Oversplitting keeps all threads busy when combinations differ in cost.
+    private static final int MAX_GAMES_PER_TASK = 10_000;
+
+    private final GameResultsRepository resultsRepository;  //Only present when storage.database.enabled=true.
+    private final SimulationMetrics simulationMetrics;
+    private final SimulationResultCache resultCache;        //Only present when storage.result-cache.enabled=true.
+
+    /**
+     * Runner with no database, metrics or cache attached.
+     */
+    public MonteCarloSimulationRunner() {
+        this(null, null, null);
+    }
+
+    @Autowired
+    public MonteCarloSimulationRunner(@Nullable GameResultsRepository resultsRepository,
+                                      @Nullable SimulationMetrics simulationMetrics,
+                                      @Nullable SimulationResultCache resultCache) {
+        this.resultsRepository = resultsRepository;
+        this.simulationMetrics = simulationMetrics;
+        this.resultCache = resultCache;
+    }
+
+    public Map<SimulationCombination, CombinationStatistics> runBatchSimulations(int gamesPerCombination) {
+        return runBatchSimulations(SimulationCombination.all(), gamesPerCombination, Runtime.getRuntime().availableProcessors());
+    }
+
+    public Map<SimulationCombination, CombinationStatistics> runBatchSimulations(List<SimulationCombination> combinations,
+                                                                                 int gamesPerCombination, int parallelism) {
+        //A random seed is never asked for again - no point caching the run.
+        return runBatch(combinations, gamesPerCombination, parallelism, new SplittableRandom().nextLong(), false);
+    }
+
+    public Map<SimulationCombination, CombinationStatistics> runBatchSimulations(List<SimulationCombination> combinations,
+                                                                                 int gamesPerCombination, int parallelism,
+                                                                                 long masterSeed) {
+        return runBatch(combinations, gamesPerCombination, parallelism, masterSeed, true);
+    }
+
+    private Map<SimulationCombination, CombinationStatistics> runBatch(List<SimulationCombination> combinations,
+                                                                       int gamesPerCombination, int parallelism,
+                                                                       long masterSeed, boolean cacheable) {
+        if (gamesPerCombination < 1) {
+            throw new IllegalArgumentException("gamesPerCombination must be at least 1: " + gamesPerCombination);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        boolean useCache = cacheable && resultCache != null && resultsRepository == null;
+        //Where each combination starts from: the longest cached run of the same seed, or nothing.
+        Map<SimulationCombination, CombinationStatistics> starts = new LinkedHashMap<>();
+        Map<SimulationCombination, SimulationResultKey> cacheKeys = new LinkedHashMap<>();
+        long gamesToPlay = 0;
+        for (SimulationCombination combination : combinations) {
+            CombinationStatistics start = emptyStatistics(combination);
+            if (useCache) {
+                //Keyed on the max moves the games are actually played with.
+                int maxMoves = newGameConfiguration(combination, masterSeed, List.of()).getMaxMoves();
+                SimulationResultKey key = SimulationResultKey.forCombination(combination, maxMoves, masterSeed, gamesPerCombination);
+                cacheKeys.put(combination, key);
+                start = resultCache.getLargestPrefix(key).orElse(start);
+            }
+            starts.put(combination, start);
+            gamesToPlay += gamesPerCombination - start.getGames();
+        }
+        int gamesPerTask = gamesPerTask(gamesToPlay, parallelism);
+        Set<BatchListenerOption> listeners = availableListeners();
+        //No cache while the database is on, so every combination starts at game 0 and all of its games get an id.
+        long firstGameId = reserveGameIds((long) combinations.size() * gamesPerCombination, listeners);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            Map<SimulationCombination, List<Future<CombinationStatistics>>> futures = new LinkedHashMap<>();
+            for (int position = 0; position < combinations.size(); position++) {
+                SimulationCombination combination = combinations.get(position);
+                long combinationFirstId = firstGameId + (long) position * gamesPerCombination;
+                List<Future<CombinationStatistics>> chunks = new ArrayList<>();
+                for (int first = (int) starts.get(combination).getGames(); first < gamesPerCombination; first += gamesPerTask) {
+                    int firstGame = first;
+                    int games = Math.min(gamesPerTask, gamesPerCombination - first);
+                    chunks.add(executor.submit(() -> playGames(combination, firstGame, games, masterSeed, listeners,
+                            combinationFirstId + firstGame)));
+                }
+                futures.put(combination, chunks);
+            }
+
+            Map<SimulationCombination, CombinationStatistics> results = new LinkedHashMap<>();
+            for (Map.Entry<SimulationCombination, List<Future<CombinationStatistics>>> entry : futures.entrySet()) {
+                CombinationStatistics total = starts.get(entry.getKey());
+                for (Future<CombinationStatistics> chunk : entry.getValue()) {
+                    total.merge(chunk.get());
+                }
+                if (useCache && !entry.getValue().isEmpty()) {
+                    resultCache.put(cacheKeys.get(entry.getKey()), total);
+                }
+                results.put(entry.getKey(), total);
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Games per chunk for a run of totalGames on the given number of threads.
+     */
+    public static int gamesPerTask(long totalGames, int parallelism) {
+        return (int) Math.max(1, Math.min(MAX_GAMES_PER_TASK, totalGames / ((long) parallelism * TASKS_PER_THREAD)));
+    }
+
+    /**
+     * The optional listeners this application can attach - RESULTS_DATABASE only when the database is enabled.
+     */
+    public Set<BatchListenerOption> availableListeners() {
+        Set<BatchListenerOption> available = EnumSet.noneOf(BatchListenerOption.class);
+        if (simulationMetrics != null) {
+            available.add(BatchListenerOption.METRICS);
+        }
+        if (resultsRepository != null) {
+            available.add(BatchListenerOption.RESULTS_DATABASE);
+        }
+        return available;
+    }
+
+    /**
+     * Reserves database ids for a run of the given number of games and returns the first - the caller numbers the
+     * games from there in run order. Returns 0 (nothing reserved) when the run does not store its games.
+     */
+    public long reserveGameIds(long games, Set<BatchListenerOption> listenerOptions) {
+        if (resultsRepository == null || !listenerOptions.contains(BatchListenerOption.RESULTS_DATABASE)) {
+            return 0;
+        }
+        return resultsRepository.reserveGameIds(games);
+    }
+
+    /**
+     * Plays a chunk of games [firstGame, firstGame + games) for one combination on the calling worker thread.
+     * Listeners that are not available are left out. When the games are stored they get the ids
+     * firstGameId, firstGameId + 1, ... (see reserveGameIds), and are written once the whole chunk has been played.
+     */
+    public CombinationStatistics playGames(SimulationCombination combination, int firstGame, int games, long masterSeed,
+                                           Set<BatchListenerOption> listenerOptions, long firstGameId) {
+        boolean useMetrics = simulationMetrics != null && listenerOptions.contains(BatchListenerOption.METRICS);
+        boolean useDatabase = resultsRepository != null && listenerOptions.contains(BatchListenerOption.RESULTS_DATABASE);
+        CombinationStatistics statistics = emptyStatistics(combination);
+        //One metrics listener per chunk - it resets at the start of every game.
+        SimulationMetricsListener metrics = useMetrics ? simulationMetrics.newListener(combination) : null;
+        List<GameRecord> records = useDatabase ? new ArrayList<>(games) : null;
+        for (int game = firstGame; game < firstGame + games; game++) {
+            GameStatisticsListener counter = new GameStatisticsListener();
+            long seed = DiceSeeds.forGame(masterSeed, combination.ordinal(), game);
+            GameRecordRecorder recorder = useDatabase ? new GameRecordRecorder(combination, OptionalLong.of(seed)) : null;
+            List<GameListener> listeners = new ArrayList<>(3);
+            listeners.add(counter);
+            if (recorder != null) {
+                listeners.add(recorder);
+            }
+            if (metrics != null) {
+                listeners.add(metrics);
+            }
+            GameEngine engine = new GameEngine(newGameConfiguration(combination, seed, listeners));
+            engine.playGame();
+
+            statistics.recordGame(engine.getWinnerSeat(), engine.getTotalGameMoves(),
+                    counter.getHits(), counter.getEndForfeits());
+            if (recorder != null) {
+                records.add(recorder.getRecord());
+            }
+        }
+        if (records != null) {
+            try {
+                resultsRepository.saveAll("BATCH_" + masterSeed, firstGameId, records);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not store games " + firstGame + "-" + (firstGame + games - 1)
+                        + " of " + combination, e);
+            }
+        }
+        return statistics;
+    }
+
+    //The configuration every batch game is played with.
+    private static GameConfiguration newGameConfiguration(SimulationCombination combination, long seed, List<GameListener> listeners) {
+        return new GameConfiguration(combination.getPlayerOption(), combination.getDiceOption(),
+                combination.getBoardOption(), combination.getHitOption(), combination.getEndOption(), seed, listeners);
+    }
+
+    public static CombinationStatistics emptyStatistics(SimulationCombination combination) {
+        Player[] players = PlayerFactoryGateway.createPlayers(combination.getPlayerOption());
+        String[] seatNames = new String[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            seatNames[seat] = players[seat].getName();
+        }
+        return new CombinationStatistics(combination, seatNames);
+    }
+}
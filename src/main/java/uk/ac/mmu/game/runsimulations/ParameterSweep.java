@@ -0,0 +1,150 @@
+package uk.ac.mmu.game.runsimulations;
+
+import uk.ac.mmu.game.gameconfig.DiceOption;
+import uk.ac.mmu.game.gameconfig.EndOption;
+import uk.ac.mmu.game.gameconfig.HitOption;
+import uk.ac.mmu.game.rungame.GameEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Grid of set-ups for ParameterSweepRunner: board lengths x tail lengths x start positions x player counts x rules.
+ * Declared fluently, in the style of GameTestBuilder:
+ *      new ParameterSweep().withBoardLengths(18, 36, 72).withPlayerCounts(2, 4, 8).withStartPositions(8).withGamesPerPoint(5000)
+ * Player counts larger than a board's start positions are left out of the grid.
+ * Unless withMaxMoves is given, each point's MAX_MOVES safeguard scales with its board and seats
+ * (4 moves per square per seat, never below GameEngine.MAX_MOVES) so long boards are not cut short.
+ */
+public class ParameterSweep {
+    private static final int MAX_MOVES_PER_SQUARE_PER_SEAT = 4;
+
+    private int[] boardLengths = {18, 36};
+    private int[] tailLengths = {6};
+    private int[] startPositions = {4};
+    private int[] playerCounts = {2, 4};
+    private DiceOption[] diceOptions = DiceOption.values();
+    private HitOption[] hitOptions = HitOption.values();
+    private EndOption[] endOptions = EndOption.values();
+    private int gamesPerPoint = 1000;
+    private int maxMoves = 0;                       //0 = scaled per point.
+    private long masterSeed = new SplittableRandom().nextLong();
+
+    public ParameterSweep withBoardLengths(int... boardLengths) {
+        this.boardLengths = atLeastOne(boardLengths, "board length");
+        return this;
+    }
+
+    public ParameterSweep withTailLengths(int... tailLengths) {
+        this.tailLengths = atLeastOne(tailLengths, "tail length");
+        return this;
+    }
+
+    public ParameterSweep withStartPositions(int... startPositions) {
+        this.startPositions = atLeastOne(startPositions, "start position count");
+        return this;
+    }
+
+    public ParameterSweep withPlayerCounts(int... playerCounts) {
+        this.playerCounts = atLeastOne(playerCounts, "player count");
+        return this;
+    }
+
+    public ParameterSweep withDiceOptions(DiceOption... diceOptions) {
+        this.diceOptions = nonEmpty(diceOptions, "dice option");
+        return this;
+    }
+
+    public ParameterSweep withHitOptions(HitOption... hitOptions) {
+        this.hitOptions = nonEmpty(hitOptions, "hit option");
+        return this;
+    }
+
+    public ParameterSweep withEndOptions(EndOption... endOptions) {
+        this.endOptions = nonEmpty(endOptions, "end option");
+        return this;
+    }
+
+    public ParameterSweep withGamesPerPoint(int gamesPerPoint) {
+        if (gamesPerPoint < 1) {
+            throw new IllegalArgumentException("Games per point must be at least 1: " + gamesPerPoint);
+        }
+        this.gamesPerPoint = gamesPerPoint;
+        return this;
+    }
+
+    //Same MAX_MOVES safeguard for every point.
+    public ParameterSweep withMaxMoves(int maxMoves) {
+        if (maxMoves < 1) {
+            throw new IllegalArgumentException("Max moves must be at least 1: " + maxMoves);
+        }
+        this.maxMoves = maxMoves;
+        return this;
+    }
+
+    //The same master seed always gives the same table.
+    public ParameterSweep withMasterSeed(long masterSeed) {
+        this.masterSeed = masterSeed;
+        return this;
+    }
+
+    public int getGamesPerPoint() {
+        return gamesPerPoint;
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Every point of the grid in table order (board, tail, homes, seats, dice, hit, end).
+     */
+    public List<SweepPoint> points() {
+        List<SweepPoint> points = new ArrayList<>();
+        for (int boardLength : boardLengths) {
+            for (int tailLength : tailLengths) {
+                for (int starts : startPositions) {
+                    if (starts > boardLength) {
+                        continue;                           //More homes than squares - not a board.
+                    }
+                    for (int seats : playerCounts) {
+                        if (seats > starts) {
+                            continue;                       //Every seat needs its own home.
+                        }
+                        int pointMaxMoves = maxMoves > 0 ? maxMoves : Math.max(GameEngine.MAX_MOVES,
+                                MAX_MOVES_PER_SQUARE_PER_SEAT * (boardLength + tailLength) * seats);
+                        for (DiceOption diceOption : diceOptions) {
+                            for (HitOption hitOption : hitOptions) {
+                                for (EndOption endOption : endOptions) {
+                                    points.add(new SweepPoint(boardLength, tailLength, starts, seats,
+                                            diceOption, hitOption, endOption, pointMaxMoves));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return points;
+    }
+
+    private static int[] atLeastOne(int[] values, String name) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("At least one " + name + " is required.");
+        }
+        for (int value : values) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Every " + name + " must be at least 1: " + value);
+            }
+        }
+        return values.clone();
+    }
+
+    private static <E> E[] nonEmpty(E[] values, String name) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("At least one " + name + " is required.");
+        }
+        return values.clone();
+    }
+}
@@ -0,0 +1,126 @@
+package uk.ac.mmu.game.runsimulations;
+
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
+import uk.ac.mmu.game.dice.DiceSeeds;
+import uk.ac.mmu.game.factories.gateway.DiceFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.EndFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.HitFactoryGateway;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.GameStatisticsListener;
+import uk.ac.mmu.game.players.GeneratedPlayer;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays every point of a ParameterSweep across a pool of worker threads and returns one SweepPointStatistics per point.
+ * Works like MonteCarloSimulationRunner: each task plays a contiguous chunk of games for one point into its own
+ * statistics, merged once all tasks complete, and every game's dice seed comes from the master seed, the point's
+ * index in the grid and the game's index - so a sweep gives the same table whatever the number of threads.
+ * Boards are ConfigurableGameBoards with one GeneratedPlayer per seat on evenly spread homes.
+ */
+@Component
+public class ParameterSweepRunner {
+    private static final int TASKS_PER_THREAD = 4;          //Oversplitting keeps all threads busy - long boards cost more per game.
+    private static final int MAX_GAMES_PER_TASK = 10_000;
+
+    public List<SweepPointStatistics> runSweep(ParameterSweep sweep) {
+        return runSweep(sweep, Runtime.getRuntime().availableProcessors());
+    }
+
+    public List<SweepPointStatistics> runSweep(ParameterSweep sweep, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        List<SweepPoint> points = sweep.points();
+        int gamesPerPoint = sweep.getGamesPerPoint();
+        long totalGames = (long) gamesPerPoint * points.size();
+        int gamesPerTask = (int) Math.max(1, Math.min(MAX_GAMES_PER_TASK, totalGames / ((long) parallelism * TASKS_PER_THREAD)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<List<Future<SweepPointStatistics>>> futures = new ArrayList<>();
+            for (int index = 0; index < points.size(); index++) {
+                SweepPoint point = points.get(index);
+                int stream = index;
+                List<Future<SweepPointStatistics>> chunks = new ArrayList<>();
+                for (int first = 0; first < gamesPerPoint; first += gamesPerTask) {
+                    int firstGame = first;
+                    int games = Math.min(gamesPerTask, gamesPerPoint - first);
+                    chunks.add(executor.submit(() -> playGames(point, stream, firstGame, games, sweep.getMasterSeed())));
+                }
+                futures.add(chunks);
+            }
+
+            List<SweepPointStatistics> results = new ArrayList<>(points.size());
+            for (int index = 0; index < points.size(); index++) {
+                SweepPointStatistics total = emptyStatistics(points.get(index));
+                for (Future<SweepPointStatistics> chunk : futures.get(index)) {
+                    total.merge(chunk.get());
+                }
+                results.add(total);
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parameter sweep interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parameter sweep failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The sweep results as a text table - a header line, then one row per point.
+     */
+    public static String toTable(List<SweepPointStatistics> results) {
+        StringBuilder table = new StringBuilder(SweepPointStatistics.TABLE_HEADER).append(System.lineSeparator());
+        for (SweepPointStatistics statistics : results) {
+            table.append(statistics.toTableRow()).append(System.lineSeparator());
+        }
+        return table.toString();
+    }
+
+    /**
+     * Plays a chunk of games [firstGame, firstGame + games) for one point on the calling worker thread.
+     */
+    private SweepPointStatistics playGames(SweepPoint point, int stream, int firstGame, int games, long masterSeed) {
+        SweepPointStatistics statistics = emptyStatistics(point);
+        ConfigurableGameBoard board = point.createBoard();
+        Player[] players = GeneratedPlayer.seatedOn(board, point.getSeats());
+        for (int game = firstGame; game < firstGame + games; game++) {
+            GameStatisticsListener counter = new GameStatisticsListener();
+            long seed = DiceSeeds.forGame(masterSeed, stream, game);
+            List<GameListener> listeners = List.of(counter);
+            GameConfiguration config = new GameConfiguration(players, board,
+                    DiceFactoryGateway.createSeededDice(point.getDiceOption(), seed),
+                    EndFactoryGateway.createEndStrategy(board, point.getEndOption()),
+                    HitFactoryGateway.createHitStrategy(point.getHitOption()), listeners)
+                    .withMaxMoves(point.getMaxMoves());
+            GameEngine engine = new GameEngine(config);
+            engine.playGame();
+
+            statistics.recordGame(engine.getWinnerSeat(), engine.getTotalGameMoves(),
+                    counter.getHits(), counter.getEndForfeits());
+        }
+        return statistics;
+    }
+
+    private static SweepPointStatistics emptyStatistics(SweepPoint point) {
+        Player[] players = GeneratedPlayer.seatedOn(point.createBoard(), point.getSeats());
+        String[] seatNames = new String[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            seatNames[seat] = players[seat].getName();
+        }
+        return new SweepPointStatistics(point, seatNames);
+    }
+}
@@ -1,13 +1,33 @@
 package uk.ac.mmu.game.runsimulations;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.ac.mmu.game.gameconfig.*;
 import uk.ac.mmu.game.gameobserver.GameListener;
 import uk.ac.mmu.game.gameobserver.ObserverConsoleLogger;
+import uk.ac.mmu.game.gameobserver.ObserverConsoleLoggerFactory;
+import uk.ac.mmu.game.gameobserver.dispatch.OverflowPolicy;
+import uk.ac.mmu.game.gameobserver.dispatch.RingBufferListenerDispatcher;
+import uk.ac.mmu.game.gameobserver.dispatch.WaitStrategy;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.markovsolver.ExactGameSolution;
+import uk.ac.mmu.game.markovsolver.MarkovChainSolver;
+import uk.ac.mmu.game.metrics.SimulationMetrics;
 import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.storage.BinaryGameRecordStore;
+import uk.ac.mmu.game.storage.GameResultsRepository;
 
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /*
 The method is a facade factory method, bringing all the Game set-up requirements together to run the various Game Simulations.
@@ -19,38 +39,183 @@ Uses gateways/adapters to build configuration.
 @Component
 public class RunGameSimulations {
     @Autowired
-    private ObserverConsoleLogger consoleLogger;
+    private ObserverConsoleLoggerFactory consoleLoggers;
+    @Autowired
+    private MonteCarloSimulationRunner monteCarloRunner;
+    @Autowired
+    private ParameterSweepRunner parameterSweepRunner;
+    @Autowired
+    private MarkovChainSolver markovChainSolver;
+    @Autowired
+    private BinaryGameRecordStore binaryStore;
+    @Value("${storage.binary.enabled:false}")
+    private boolean saveBinaryRecords;
+    @Autowired(required = false)
+    private GameResultsRepository resultsRepository;        //Only present when storage.database.enabled=true.
+    @Autowired(required = false)
+    private SimulationMetrics simulationMetrics;            //Optional, as in MonteCarloSimulationRunner.
+    @Value("${simulations.parallelism:1}")
+    private int parallelism;                                //Games played at once by runAllGameSimulations - 1 keeps the console in order.
+    @Value("${listeners.dispatch.enabled:false}")
+    private boolean dispatchListeners;
+    @Value("${listeners.dispatch.buffer-size:1024}")
+    private int dispatchBufferSize;
+    @Value("${listeners.dispatch.wait-strategy:SLEEPING}")
+    private WaitStrategy dispatchWaitStrategy;
+    @Value("${listeners.dispatch.overflow-policy:BLOCK}")
+    private OverflowPolicy dispatchOverflowPolicy;
 
     public void runAllGameSimulations(){
+        List<SimulationCombination> combinations = SimulationCombination.all();
+        if (parallelism <= 1) {
+            // Loop through all game variations.
+            for (SimulationCombination combination : combinations) {
+                playCombination(combination);
+            }
+        } else {
+            //Every game has its own logger session, so games can share the pool - their console lines interleave.
+            ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<?>> games = new ArrayList<>();
+                for (SimulationCombination combination : combinations) {
+                    games.add(pool.submit(() -> playCombination(combination)));
+                }
+                for (Future<?> game : games) {
+                    game.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running the game simulations.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Game simulation failed.", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        flushResults();
+    }
 
-        List<GameListener> listeners = List.of(consoleLogger);
+    private void playCombination(SimulationCombination combination){
+        PlayerOption playerOption = combination.getPlayerOption();
+        DiceOption diceOption = combination.getDiceOption();
+        BoardOption boardOption = combination.getBoardOption();
+        HitOption hitOption = combination.getHitOption();
+        EndOption endOption = combination.getEndOption();
 
-        // Loop through all game variations.
-        for(PlayerOption playerOption : PlayerOption.values()){
-            for(DiceOption diceOption : DiceOption.values()){
-                for(BoardOption boardOption : BoardOption.values()){
-                    for(HitOption hitOption : HitOption.values()){
-                        for(EndOption endOption : EndOption.values()){
+        //Print on the simulation scenario.
+        System.out.println("--------------Running simulation--------------\n");
+        System.out.printf("Game consists of %s players, %s dice, a %s board, the Hit strategy is %s and %s End strategy is played", playerOption, diceOption, boardOption, hitOption, endOption);
+        System.out.println(); //Blank line added for improved visibility.
 
-                            //Print on the simulation scenario.
-                            System.out.println("--------------Running simulation--------------\n");
-                            System.out.printf("Game consists of %s players, %s dice, a %s board, the Hit strategy is %s and %s End strategy is played", playerOption, diceOption, boardOption, hitOption, endOption);
-                            System.out.println(); //Blank line added for improved visibility.
+        //Adding saving of game - name is long, but assuming id not sufficient to locate game to replay?
+        String uniqueID = java.util.UUID.randomUUID().toString().substring(0, 8);
+        String gameName = uniqueID + "_"+ playerOption + "_" + diceOption + "_" + boardOption + "_" + hitOption + "_" + endOption;
+        ObserverConsoleLogger consoleLogger = consoleLoggers.newSession(gameName);
 
-                            //Adding saving of game - name is long, but assuming id not sufficient to locate game to replay?
-                            String uniqueID = java.util.UUID.randomUUID().toString().substring(0, 8);
-                            String gameName = uniqueID + "_"+ playerOption + "_" + diceOption + "_" + boardOption + "_" + hitOption + "_" + endOption;
-                            consoleLogger.setRunName(gameName);
+        //Optionally the console logger consumes the game on its own thread, through a ring buffer.
+        RingBufferListenerDispatcher dispatcher = dispatchListeners ? new RingBufferListenerDispatcher(
+                List.of(consoleLogger), dispatchBufferSize, dispatchWaitStrategy, dispatchOverflowPolicy) : null;
+        GameListener logger = dispatcher == null ? consoleLogger : dispatcher;
 
-                            //Game simulations now constructed directly through Game set-up enums.
-                            GameEngine engine = new GameEngine(playerOption, diceOption, boardOption, hitOption, endOption, listeners);
+        //Optionally also keep the game as a compact binary record and/or in the results database.
+        GameRecordRecorder recorder = saveBinaryRecords || resultsRepository != null
+                ? new GameRecordRecorder(combination, OptionalLong.empty()) : null;
+        List<GameListener> listeners = new ArrayList<>(List.of(logger));
+        if (simulationMetrics != null) {
+            listeners.add(simulationMetrics.newListener(combination));
+        }
+        if (recorder != null) {
+            listeners.add(recorder);
+        }
 
-                            //Run the game.
-                            engine.playGame();
-                        }
-                    }
-                }
+        //Game simulations now constructed directly through Game set-up enums.
+        GameEngine engine = new GameEngine(playerOption, diceOption, boardOption, hitOption, endOption, listeners);
+
+        //Run the game.
+        try {
+            engine.playGame();
+        } finally {
+            if (dispatcher != null) {
+                dispatcher.close();             //Console output of this game is complete before the next header.
+            }
+        }
+
+        if (saveBinaryRecords) {
+            try {
+                binaryStore.save(gameName, recorder.getRecord());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        if (resultsRepository != null) {
+            try {
+                resultsRepository.save(gameName, recorder.getRecord());
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
             }
         }
     }
+
+    /**
+     * Batch mode - plays the given number of games for every combination across all cores.
+     * Only the aggregated results are printed, one line per combination.
+     */
+    public Map<SimulationCombination, CombinationStatistics> runBatchGameSimulations(int gamesPerCombination){
+        return printBatchResults(gamesPerCombination, monteCarloRunner.runBatchSimulations(gamesPerCombination));
+    }
+
+    /**
+     * Batch mode with a fixed master seed - repeatable, and answered from the result cache when it is enabled.
+     */
+    public Map<SimulationCombination, CombinationStatistics> runBatchGameSimulations(int gamesPerCombination, long masterSeed){
+        return printBatchResults(gamesPerCombination, monteCarloRunner.runBatchSimulations(SimulationCombination.all(),
+                gamesPerCombination, Runtime.getRuntime().availableProcessors(), masterSeed));
+    }
+
+    private Map<SimulationCombination, CombinationStatistics> printBatchResults(int gamesPerCombination,
+                                                                               Map<SimulationCombination, CombinationStatistics> results){
+        flushResults();
+
+        System.out.printf("--------------Batch simulation of %d games per combination--------------%n", gamesPerCombination);
+        for (CombinationStatistics statistics : results.values()) {
+            System.out.println(statistics.toSummary());
+        }
+        return results;
+    }
+
+    /**
+     * Sweep mode - plays every board size x player count x rules point of the sweep across all cores
+     * and prints one table row per point.
+     */
+    public List<SweepPointStatistics> runParameterSweep(ParameterSweep sweep){
+        List<SweepPointStatistics> results = parameterSweepRunner.runSweep(sweep);
+
+        System.out.printf("--------------Parameter sweep of %d games per point--------------%n", sweep.getGamesPerPoint());
+        System.out.print(ParameterSweepRunner.toTable(results));
+        return results;
+    }
+
+    /**
+     * Exact mode - solves every combination as a Markov chain instead of sampling games.
+     */
+    public Map<SimulationCombination, ExactGameSolution> runExactGameSolutions(){
+        Map<SimulationCombination, ExactGameSolution> solutions = markovChainSolver.solveAll();
+
+        System.out.println("--------------Exact Markov-chain solution per combination--------------");
+        for (ExactGameSolution solution : solutions.values()) {
+            System.out.println(solution.toSummary());
+        }
+        return solutions;
+    }
+
+    private void flushResults() {
+        if (resultsRepository == null) {
+            return;
+        }
+        try {
+            resultsRepository.flush();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package uk.ac.mmu.game.runsimulations;
+
+import uk.ac.mmu.game.gameconfig.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Value Object describing one combination of the game set-up enums.
+ * Used as the key when aggregating batch simulation results.
+ */
+public class SimulationCombination {
+    private final PlayerOption playerOption;
+    private final DiceOption diceOption;
+    private final BoardOption boardOption;
+    private final HitOption hitOption;
+    private final EndOption endOption;
+
+    public SimulationCombination(PlayerOption playerOption, DiceOption diceOption, BoardOption boardOption,
+                                 HitOption hitOption, EndOption endOption) {
+        this.playerOption = playerOption;
+        this.diceOption = diceOption;
+        this.boardOption = boardOption;
+        this.hitOption = hitOption;
+        this.endOption = endOption;
+    }
+
+    /**
+     * Every combination of the set-up enums, in the same nested order as RunGameSimulations.
+     */
+    public static List<SimulationCombination> all() {
+        List<SimulationCombination> combinations = new ArrayList<>();
+        for (PlayerOption playerOption : PlayerOption.values()) {
+            for (DiceOption diceOption : DiceOption.values()) {
+                for (BoardOption boardOption : BoardOption.values()) {
+                    for (HitOption hitOption : HitOption.values()) {
+                        for (EndOption endOption : EndOption.values()) {
+                            combinations.add(new SimulationCombination(playerOption, diceOption, boardOption, hitOption, endOption));
+                        }
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(combinations);
+    }
+
+    /**
+     * Stable index of this combination (0-31), in the same order as all().
+     * Used to give every combination its own dice seed stream.
+     */
+    public int ordinal() {
+        int index = playerOption.ordinal();
+        index = index * DiceOption.values().length + diceOption.ordinal();
+        index = index * BoardOption.values().length + boardOption.ordinal();
+        index = index * HitOption.values().length + hitOption.ordinal();
+        return index * EndOption.values().length + endOption.ordinal();
+    }
+
+    public PlayerOption getPlayerOption() {
+        return playerOption;
+    }
+
+    public DiceOption getDiceOption() {
+        return diceOption;
+    }
+
+    public BoardOption getBoardOption() {
+        return boardOption;
+    }
+
+    public HitOption getHitOption() {
+        return hitOption;
+    }
+
+    public EndOption getEndOption() {
+        return endOption;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SimulationCombination other)) return false;
+        return playerOption == other.playerOption && diceOption == other.diceOption && boardOption == other.boardOption
+                && hitOption == other.hitOption && endOption == other.endOption;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerOption, diceOption, boardOption, hitOption, endOption);
+    }
+
+    //Same naming convention as the saved game file names, e.g. FOUR_TWO_LARGE_FORBID_EXACT.
+    @Override
+    public String toString() {
+        return playerOption + "_" + diceOption + "_" + boardOption + "_" + hitOption + "_" + endOption;
+    }
+}
@@ -0,0 +1,97 @@
+package uk.ac.mmu.game.runsimulations;
+
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
+import uk.ac.mmu.game.gameconfig.DiceOption;
+import uk.ac.mmu.game.gameconfig.EndOption;
+import uk.ac.mmu.game.gameconfig.HitOption;
+
+import java.util.Objects;
+
+/**
+ * Value Object describing one point of a ParameterSweep grid: board geometry, number of seats and the rules.
+ * The board equivalent of SimulationCombination, for sizes that BoardOption and PlayerOption do not offer.
+ */
+public class SweepPoint {
+    private final int boardLength;
+    private final int tailLength;
+    private final int startPositions;
+    private final int seats;
+    private final DiceOption diceOption;
+    private final HitOption hitOption;
+    private final EndOption endOption;
+    private final int maxMoves;
+
+    public SweepPoint(int boardLength, int tailLength, int startPositions, int seats,
+                      DiceOption diceOption, HitOption hitOption, EndOption endOption, int maxMoves) {
+        if (seats < 1 || seats > startPositions) {
+            throw new IllegalArgumentException("Seats must be between 1 and the " + startPositions + " start positions: " + seats);
+        }
+        if (maxMoves < 1) {
+            throw new IllegalArgumentException("Max moves must be at least 1: " + maxMoves);
+        }
+        this.boardLength = boardLength;
+        this.tailLength = tailLength;
+        this.startPositions = startPositions;
+        this.seats = seats;
+        this.diceOption = diceOption;
+        this.hitOption = hitOption;
+        this.endOption = endOption;
+        this.maxMoves = maxMoves;
+    }
+
+    public ConfigurableGameBoard createBoard() {
+        return new ConfigurableGameBoard(boardLength, tailLength, startPositions);
+    }
+
+    public int getBoardLength() {
+        return boardLength;
+    }
+
+    public int getTailLength() {
+        return tailLength;
+    }
+
+    public int getStartPositions() {
+        return startPositions;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public DiceOption getDiceOption() {
+        return diceOption;
+    }
+
+    public HitOption getHitOption() {
+        return hitOption;
+    }
+
+    public EndOption getEndOption() {
+        return endOption;
+    }
+
+    public int getMaxMoves() {
+        return maxMoves;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SweepPoint other)) return false;
+        return boardLength == other.boardLength && tailLength == other.tailLength && startPositions == other.startPositions
+                && seats == other.seats && diceOption == other.diceOption && hitOption == other.hitOption
+                && endOption == other.endOption && maxMoves == other.maxMoves;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(boardLength, tailLength, startPositions, seats, diceOption, hitOption, endOption, maxMoves);
+    }
+
+    //e.g. 36+6/4_x4_TWO_FORBID_EXACT - board+tail/homes, seats, then the rules.
+    @Override
+    public String toString() {
+        return boardLength + "+" + tailLength + "/" + startPositions + "_x" + seats + "_" + diceOption + "_" + hitOption + "_" + endOption;
+    }
+}
@@ -0,0 +1,34 @@
+package uk.ac.mmu.game.runsimulations;
+
+/**
+ * Aggregated results of the games played at one SweepPoint, printed as one row of the sweep table.
+ */
+public class SweepPointStatistics extends GameOutcomeStatistics {
+    public static final String TABLE_HEADER = String.format("%6s %5s %5s %5s %4s %6s %17s %8s %8s %6s %6s %6s %7s %7s %7s %7s %8s",
+            "board", "tail", "homes", "seats", "dice", "hit", "end", "games", "mean", "p50", "p90", "p99",
+            "capped", "seat1", "spread", "first", "hits/g");
+
+    private final SweepPoint point;
+
+    public SweepPointStatistics(SweepPoint point, String[] seatNames) {
+        super(seatNames);
+        this.point = point;
+    }
+
+    public SweepPoint getPoint() {
+        return point;
+    }
+
+    /**
+     * One table row: game length (mean and percentiles), the share of capped games, then fairness -
+     * the first seat's win rate, the spread between the best and worst seat and the first seat advantage.
+     */
+    public String toTableRow() {
+        return String.format("%6d %5d %5d %5d %4s %6s %17s %8d %8.2f %6d %6d %6d %6.2f%% %6.2f%% %6.2f%% %7.3f %8.2f",
+                point.getBoardLength(), point.getTailLength(), point.getStartPositions(), point.getSeats(),
+                point.getDiceOption(), point.getHitOption(), point.getEndOption(), getGames(),
+                getMeanGameLength(), getGameLengthPercentile(50), getGameLengthPercentile(90), getGameLengthPercentile(99),
+                getMaxMovesRate() * 100, getWinRate(0) * 100, getWinRateSpread() * 100, getFirstSeatAdvantage(),
+                getGames() == 0 ? 0.0 : (double) getHits() / getGames());
+    }
+}
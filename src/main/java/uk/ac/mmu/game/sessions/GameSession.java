@@ -0,0 +1,300 @@
+package uk.ac.mmu.game.sessions;
+
+import uk.ac.mmu.game.board.GameBoard;
+import uk.ac.mmu.game.dice.DiceShaker;
+import uk.ac.mmu.game.factories.gateway.*;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.MoveHistoryFormatter;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.playersgamepositions.PlayersPosition;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * One interactive game. The GameEngine runs its normal game loop on the session's own (virtual) thread, and its dice
+ * are a queue of submitted turns - so the loop simply blocks until someone submits the next turn, then plays it.
+ * Each submitted turn gets a future completed with the TurnResult once the engine has played it.
+ * Created and owned by GameSessionManager.
+ */
+public class GameSession {
+    public enum State { WAITING, FINISHED, CLOSED }
+
+    private static final int MAX_ROLL = 12;
+
+    private final String id;
+    private final SimulationCombination combination;
+    private final Player[] players;
+    private final DiceShaker serverDice;                            //Rolls for turns submitted without one.
+    private final BlockingQueue<PendingTurn> submitted = new LinkedBlockingQueue<>();
+    private final ArrayDeque<PendingTurn> inFlight = new ArrayDeque<>();   //Taken by the engine, not yet played - session thread only.
+    private final GameEngine engine;
+    private final Object stateLock = new Object();                 //Held to change state and to queue or fail turns.
+    private volatile State state = State.WAITING;
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile int totalGameMoves = 0;
+    private volatile int winnerSeat = -1;
+    private volatile int nextSeat = 0;
+    private volatile String lastTurn;
+
+    GameSession(String id, SimulationCombination combination, OptionalLong seed) {
+        this.id = id;
+        this.combination = combination;
+        this.players = PlayerFactoryGateway.createPlayers(combination.getPlayerOption());
+        this.serverDice = seed.isPresent()
+                ? DiceFactoryGateway.createSeededDice(combination.getDiceOption(), seed.getAsLong())
+                : DiceFactoryGateway.createDice(combination.getDiceOption());
+        GameBoard board = BoardFactoryGateway.createBoard(combination.getBoardOption());
+        List<GameListener> listeners = List.of(new TurnListener());
+        this.engine = new GameEngine(new GameConfiguration(players, board, new TurnQueue(),
+                EndFactoryGateway.createEndStrategy(board, combination.getEndOption()),
+                HitFactoryGateway.createHitStrategy(combination.getHitOption()), listeners));
+    }
+
+    /**
+     * Game loop of the session - returns once the game is over or the session is closed.
+     */
+    void run() {
+        try {
+            engine.playGame();
+        } catch (SessionClosedException e) {
+            //Closed while waiting for a turn.
+        } finally {
+            synchronized (stateLock) {
+                if (state == State.WAITING) {
+                    state = State.FINISHED;
+                }
+                failOutstanding(state == State.CLOSED ? "Session " + id + " is closed." : "Game " + id + " is over.");
+            }
+        }
+    }
+
+    /**
+     * Submits a turn rolled with the session's own dice.
+     */
+    public CompletableFuture<TurnResult> submitTurn() {
+        synchronized (serverDice) {                                 //Dice are not thread-safe - turns may come from many callers.
+            return submitTurn(serverDice.shake());
+        }
+    }
+
+    /**
+     * Submits a turn with the given roll (1 to 12).
+     */
+    public CompletableFuture<TurnResult> submitTurn(int roll) {
+        if (roll < 1 || roll > MAX_ROLL) {
+            throw new IllegalArgumentException("Roll must be between 1 and " + MAX_ROLL + ": " + roll);
+        }
+        touch();
+        PendingTurn turn = new PendingTurn(roll);
+        synchronized (stateLock) {                                  //Once the state has left WAITING nothing is queued - run() fails the rest.
+            if (state != State.WAITING) {
+                turn.result.completeExceptionally(new IllegalStateException(state == State.CLOSED
+                        ? "Session " + id + " is closed." : "Game " + id + " is over."));
+                return turn.result;
+            }
+            submitted.add(turn);
+        }
+        return turn.result;
+    }
+
+    /**
+     * Ends the session - its thread stops waiting and any turn not yet played fails.
+     */
+    public void close() {
+        synchronized (stateLock) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            state = State.CLOSED;
+            submitted.add(PendingTurn.CLOSE);
+        }
+    }
+
+    public SessionStatus getStatus() {
+        touch();
+        int winner = winnerSeat;
+        return new SessionStatus(id, combination.toString(), state, totalGameMoves,
+                winner < 0 ? null : players[winner].getName(),
+                state == State.WAITING ? players[nextSeat].getName() : null, lastTurn);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public SimulationCombination getCombination() {
+        return combination;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
+    private void touch() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    //Called holding stateLock, on the session thread.
+    private void failOutstanding(String reason) {
+        IllegalStateException failure = new IllegalStateException(reason);
+        for (PendingTurn turn : inFlight) {
+            turn.result.completeExceptionally(failure);
+        }
+        inFlight.clear();
+        PendingTurn turn;
+        while ((turn = submitted.poll()) != null) {
+            turn.result.completeExceptionally(failure);
+        }
+    }
+
+    private static final class PendingTurn {
+        private static final PendingTurn CLOSE = new PendingTurn(0);
+
+        private final int roll;
+        private final CompletableFuture<TurnResult> result = new CompletableFuture<>();
+
+        private PendingTurn(int roll) {
+            this.roll = roll;
+        }
+    }
+
+    private static final class SessionClosedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private SessionClosedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * The engine's dice: blocks until a turn is submitted, then hands over every turn already waiting.
+     */
+    private final class TurnQueue implements DiceShaker {
+        @Override
+        public int shake() {
+            int[] roll = new int[1];
+            shake(roll, 1);
+            return roll[0];
+        }
+
+        @Override
+        public int shake(int[] buffer, int count) {
+            PendingTurn first;
+            try {
+                first = submitted.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                synchronized (stateLock) {
+                    state = State.CLOSED;
+                }
+                throw new SessionClosedException();
+            }
+            int taken = 0;
+            for (PendingTurn turn = first; turn != null && taken < count; turn = taken < count ? submitted.poll() : null) {
+                if (turn == PendingTurn.CLOSE) {
+                    if (taken == 0) {
+                        throw new SessionClosedException();
+                    }
+                    submitted.add(turn);                            //Play what was taken first, close on the next call.
+                    break;
+                }
+                inFlight.add(turn);
+                buffer[taken++] = turn.roll;
+            }
+            return taken;
+        }
+    }
+
+    /**
+     * Completes the oldest in-flight turn with what the engine did with it.
+     */
+    private final class TurnListener implements GameListener {
+        @Override
+        public void onSuccessfulMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                     int toIndex, boolean toInTail, int roll) {
+            PlayersPosition position = context.getPlayersPosition();
+            complete(context, roll, TurnResult.MOVED, fromIndex, toIndex, false, MoveHistoryFormatter.successfulMove(
+                    player.getName(), context.getMoveCount(), roll, position.label(fromIndex, fromInTail), position.label(toIndex, toInTail)));
+        }
+
+        @Override
+        public void onBlockedMove(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                  int attemptedIndex, int roll) {
+            PlayersPosition position = context.getPlayersPosition();
+            complete(context, roll, TurnResult.BLOCKED, fromIndex, attemptedIndex, false, MoveHistoryFormatter.blockedMove(
+                    player.getName(), context.getMoveCount(), roll, position.label(fromIndex, fromInTail), position.attemptedLabel(attemptedIndex)));
+        }
+
+        @Override
+        public void onEndReached(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                 int toIndex, int overshoot, int roll) {
+            winnerSeat = context.getSeat();
+            complete(context, roll, TurnResult.END_REACHED, fromIndex, toIndex, true, MoveHistoryFormatter.endReached(
+                    player.getName(), context.getMoveCount(), roll, context.getPlayersPosition().label(toIndex, true), overshoot));
+        }
+
+        @Override
+        public void onEndForfeit(Player player, PlayersInGameContext context, int fromIndex, boolean fromInTail,
+                                 int overshoot, int roll) {
+            complete(context, roll, TurnResult.END_FORFEIT, fromIndex, fromIndex, false, MoveHistoryFormatter.endForfeit(
+                    player.getName(), context.getMoveCount(), roll, context.getPlayersPosition().label(fromIndex, fromInTail), overshoot));
+        }
+
+        @Override
+        public void onMaxMovesReached(int maxMoves, int totalGameMoves) {
+            lastTurn = MoveHistoryFormatter.maxMovesReached(maxMoves).strip();
+        }
+
+        private void complete(PlayersInGameContext context, int roll, String outcome, int fromIndex, int toIndex,
+                              boolean winningTurn, String description) {
+            int seat = context.getSeat();
+            int turnNumber = ++totalGameMoves;
+            nextSeat = (seat + 1) % players.length;
+            lastTurn = description;
+            PendingTurn turn = inFlight.poll();
+            if (turn != null) {
+                turn.result.complete(new TurnResult(turnNumber, seat, players[seat].getName(), roll, outcome,
+                        fromIndex, toIndex, description, winningTurn));
+            }
+        }
+
+        //Text callbacks are never used - the primitive callbacks above are overridden.
+        @Override
+        public void onSuccessfulMove(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int roll) {
+        }
+
+        @Override
+        public void onBlockedMove(Player player, PlayersInGameContext context, String fromPosition, String attemptedPosition, int roll) {
+        }
+
+        @Override
+        public void onEndReached(Player player, PlayersInGameContext context, String fromPosition, String toPosition, int overshoot, int roll) {
+        }
+
+        @Override
+        public void onEndForfeit(Player player, PlayersInGameContext context, String fromPosition, int overshoot, int roll) {
+        }
+
+        @Override
+        public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int totalGameMoves) {
+        }
+
+        @Override
+        public void onStateTransition(String oldState, String newState) {
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package uk.ac.mmu.game.sessions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.httpapi.LocalJsonHttpServer;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small JSON front end for GameSessionManager (loopback only). Off unless sessions.http.enabled=true.
+ *   POST   /sessions?players=TWO&dice=ONE&board=SMALL&hit=ALLOW&end=EXACT[&seed=42]   - new game, returns its status
+ *   POST   /sessions/{id}/turns[?roll=5]                                               - play the next turn
+ *   GET    /sessions/{id}                                                              - current status
+ *   DELETE /sessions/{id}                                                              - close the game
+ */
+@Component
+@ConditionalOnProperty(prefix = "sessions.http", name = "enabled", havingValue = "true")
+public class GameSessionHttpServer extends LocalJsonHttpServer {
+    private final GameSessionManager sessionManager;
+    private final int port;
+    private final int turnTimeoutSeconds;
+
+    public GameSessionHttpServer(GameSessionManager sessionManager, ObjectMapper objectMapper,
+                                 @Value("${sessions.http.port:8085}") int port,
+                                 @Value("${sessions.http.turn-timeout-seconds:10}") int turnTimeoutSeconds) {
+        super(objectMapper);
+        this.sessionManager = sessionManager;
+        this.port = port;
+        this.turnTimeoutSeconds = turnTimeoutSeconds;
+    }
+
+    @Override
+    protected String basePath() {
+        return "/sessions";
+    }
+
+    @Override
+    protected int configuredPort() {
+        return port;
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String method, String[] path, Map<String, String> query) throws Exception {
+        if (path.length <= 1 && method.equals("POST")) {
+            SimulationCombination combination = new SimulationCombination(
+                    option(PlayerOption.class, query, "players"), option(DiceOption.class, query, "dice"),
+                    option(BoardOption.class, query, "board"), option(HitOption.class, query, "hit"),
+                    option(EndOption.class, query, "end"));
+            OptionalLong seed = query.containsKey("seed")
+                    ? OptionalLong.of(Long.parseLong(query.get("seed"))) : OptionalLong.empty();
+            send(exchange, 201, sessionManager.createSession(combination, seed).getStatus());
+        } else if (path.length == 2 && method.equals("GET")) {
+            send(exchange, 200, sessionManager.getStatus(path[1]));
+        } else if (path.length == 2 && method.equals("DELETE")) {
+            if (sessionManager.closeSession(path[1])) {
+                send(exchange, 204, null);
+            } else {
+                sendError(exchange, 404, "No such session: " + path[1]);
+            }
+        } else if (path.length == 3 && path[2].equals("turns") && method.equals("POST")) {
+            //A failed turn (game over, session closed) is a 409, a turn not played in time a 504.
+            TurnResult result = (query.containsKey("roll")
+                    ? sessionManager.submitTurn(path[1], Integer.parseInt(query.get("roll")))
+                    : sessionManager.submitTurn(path[1])).get(turnTimeoutSeconds, TimeUnit.SECONDS);
+            send(exchange, 200, result);
+        } else {
+            sendNotFound(exchange);
+        }
+    }
+}
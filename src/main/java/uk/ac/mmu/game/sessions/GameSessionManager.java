@@ -0,0 +1,174 @@
+package uk.ac.mmu.game.sessions;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of interactive GameSessions. Every session plays on its own virtual thread, which is parked while the
+ * game waits for a turn - so tens of thousands of open games cost little more than their board state.
+ * Sessions idle for longer than sessions.idle-timeout-seconds are closed and removed, checked by a background
+ * evictor started once the bean is constructed.
+ */
+@Component
+public class GameSessionManager {
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService sessionThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maxSessions;
+    private final Semaphore openSlots;                              //One permit per session that may still be opened.
+    private final long idleTimeoutNanos;
+    private ScheduledExecutorService evictor;                       //Guarded by this.
+
+    @Autowired
+    public GameSessionManager(@Value("${sessions.max-sessions:100000}") int maxSessions,
+                              @Value("${sessions.idle-timeout-seconds:300}") int idleTimeoutSeconds) {
+        this(maxSessions, Duration.ofSeconds(idleTimeoutSeconds));
+    }
+
+    /**
+     * @param idleTimeout - sessions with no activity for this long are evicted, zero keeps them until closed.
+     */
+    public GameSessionManager(int maxSessions, Duration idleTimeout) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("Max sessions must be at least 1: " + maxSessions);
+        }
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout cannot be negative: " + idleTimeout);
+        }
+        this.maxSessions = maxSessions;
+        this.openSlots = new Semaphore(maxSessions);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Starts the background evictor, checking four times per idle timeout (at most once a millisecond).
+     * Nothing to start when the timeout is 0 - evictIdle can still be called directly.
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (idleTimeoutNanos <= 0 || evictor != null) {
+            return;
+        }
+        long checkNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), idleTimeoutNanos / 4);
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-session-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleAtFixedRate(this::evictIdle, checkNanos, checkNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts a new game for the combination. With a seed, turns submitted without a roll are reproducible.
+     */
+    public GameSession createSession(SimulationCombination combination, OptionalLong seed) {
+        if (!openSlots.tryAcquire()) {
+            throw new IllegalStateException("Too many open sessions (" + maxSessions + ").");
+        }
+        GameSession session;
+        try {
+            session = new GameSession(UUID.randomUUID().toString(), combination, seed);
+        } catch (RuntimeException e) {
+            openSlots.release();
+            throw e;
+        }
+        sessions.put(session.getId(), session);
+        try {
+            sessionThreads.execute(session::run);
+        } catch (RuntimeException e) {
+            closeSession(session.getId());                          //Shutting down - gives the slot back.
+            throw e;
+        }
+        return session;
+    }
+
+    /**
+     * Plays the next turn with a roll from the session's dice.
+     */
+    public CompletableFuture<TurnResult> submitTurn(String id) {
+        return getSession(id).submitTurn();
+    }
+
+    /**
+     * Plays the next turn with the given roll.
+     */
+    public CompletableFuture<TurnResult> submitTurn(String id, int roll) {
+        return getSession(id).submitTurn(roll);
+    }
+
+    public SessionStatus getStatus(String id) {
+        return getSession(id).getStatus();
+    }
+
+    /**
+     * Closes and forgets the session. Returns false when there was no such session.
+     */
+    public boolean closeSession(String id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+        openSlots.release();
+        session.close();
+        return true;
+    }
+
+    /**
+     * Throws IllegalArgumentException for an unknown (or already evicted) id.
+     */
+    public GameSession getSession(String id) {
+        GameSession session = id == null ? null : sessions.get(id);
+        if (session == null) {
+            throw new IllegalArgumentException("No such session: " + id);
+        }
+        return session;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Closes every session with no activity for the idle timeout (none when the timeout is 0). Returns how many were closed.
+     */
+    public int evictIdle() {
+        if (idleTimeoutNanos <= 0) {
+            return 0;
+        }
+        long cutoffNanos = System.nanoTime() - idleTimeoutNanos;
+        int evicted = 0;
+        for (GameSession session : new ArrayList<>(sessions.values())) {
+            if (session.getLastActivityNanos() - cutoffNanos < 0 && closeSession(session.getId())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        for (String id : new ArrayList<>(sessions.keySet())) {
+            closeSession(id);
+        }
+        sessionThreads.shutdown();
+    }
+}
@@ -0,0 +1,53 @@
+package uk.ac.mmu.game.sessions;
+
+/**
+ * Point in time view of a GameSession, safe to read from any thread.
+ */
+public class SessionStatus {
+    private final String id;
+    private final String combination;
+    private final GameSession.State state;
+    private final int totalGameMoves;
+    private final String winner;                    //Null until someone wins.
+    private final String nextPlayer;                //Null once the game is over.
+    private final String lastTurn;                  //Description of the latest turn, null before the first.
+
+    public SessionStatus(String id, String combination, GameSession.State state, int totalGameMoves,
+                         String winner, String nextPlayer, String lastTurn) {
+        this.id = id;
+        this.combination = combination;
+        this.state = state;
+        this.totalGameMoves = totalGameMoves;
+        this.winner = winner;
+        this.nextPlayer = nextPlayer;
+        this.lastTurn = lastTurn;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCombination() {
+        return combination;
+    }
+
+    public GameSession.State getState() {
+        return state;
+    }
+
+    public int getTotalGameMoves() {
+        return totalGameMoves;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public String getNextPlayer() {
+        return nextPlayer;
+    }
+
+    public String getLastTurn() {
+        return lastTurn;
+    }
+}
@@ -0,0 +1,72 @@
+package uk.ac.mmu.game.sessions;
+
+/**
+ * Outcome of one turn submitted to a GameSession - what the engine did with the roll.
+ * The description is the same line the console logger prints (MoveHistoryFormatter).
+ */
+public class TurnResult {
+    public static final String MOVED = "MOVED";
+    public static final String BLOCKED = "BLOCKED";
+    public static final String END_REACHED = "END_REACHED";
+    public static final String END_FORFEIT = "END_FORFEIT";
+
+    private final int turn;
+    private final int seat;
+    private final String player;
+    private final int roll;
+    private final String outcome;
+    private final int fromIndex;
+    private final int toIndex;
+    private final String description;
+    private final boolean winningTurn;
+
+    public TurnResult(int turn, int seat, String player, int roll, String outcome, int fromIndex, int toIndex,
+                      String description, boolean winningTurn) {
+        this.turn = turn;
+        this.seat = seat;
+        this.player = player;
+        this.roll = roll;
+        this.outcome = outcome;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.description = description;
+        this.winningTurn = winningTurn;
+    }
+
+    //Turn number within the game (total moves so far, this one included).
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getRoll() {
+        return roll;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isWinningTurn() {
+        return winningTurn;
+    }
+}
@@ -0,0 +1,163 @@
+package uk.ac.mmu.game.simulationjobs;
+
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One submitted simulation job. Its games are split into chunks that the SimulationJobService workers play in any
+ * order; each finished chunk is merged into the job's per-combination totals, so progress can be read at any time.
+ * Results are the same as MonteCarloSimulationRunner's for the same spec, whatever the number of workers.
+ */
+public class SimulationJob {
+    public enum State { QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    private final String id;
+    private final long sequence;                    //Submission order - breaks priority ties.
+    private final SimulationJobSpec spec;
+    private final Map<SimulationCombination, CombinationStatistics> totals = new LinkedHashMap<>();  //Guarded by this.
+    private final AtomicLong gamesCompleted = new AtomicLong();
+    private final AtomicInteger chunksRemaining = new AtomicInteger();
+    private final CompletableFuture<Map<SimulationCombination, CombinationStatistics>> completion = new CompletableFuture<>();
+    private volatile State state = State.QUEUED;
+    private volatile String failure;
+
+    SimulationJob(String id, long sequence, SimulationJobSpec spec) {
+        this.id = id;
+        this.sequence = sequence;
+        this.spec = spec;
+        for (SimulationCombination combination : spec.getCombinations()) {
+            totals.put(combination, MonteCarloSimulationRunner.emptyStatistics(combination));
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    public SimulationJobSpec getSpec() {
+        return spec;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isFinished() {
+        return state == State.SUCCEEDED || state == State.FAILED || state == State.CANCELLED;
+    }
+
+    public long getGamesCompleted() {
+        return gamesCompleted.get();
+    }
+
+    //0 to 1.
+    public double getProgress() {
+        return (double) gamesCompleted.get() / spec.getTotalGames();
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Completes with the per-combination results, or exceptionally when the job fails or is cancelled.
+     */
+    public CompletableFuture<Map<SimulationCombination, CombinationStatistics>> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Results of a job that has succeeded.
+     */
+    public Map<SimulationCombination, CombinationStatistics> getResults() {
+        if (state != State.SUCCEEDED) {
+            throw new IllegalStateException("Job " + id + " has no results - it is " + state + ".");
+        }
+        return completion.join();
+    }
+
+    public SimulationJobStatus getStatus() {
+        List<String> summaries = new ArrayList<>();
+        if (state == State.SUCCEEDED) {
+            for (CombinationStatistics statistics : completion.join().values()) {
+                summaries.add(statistics.toSummary());
+            }
+        }
+        return new SimulationJobStatus(id, state, spec.getPriority(), spec.getCombinations().size(),
+                spec.getGamesPerCombination(), spec.getMasterSeed(), spec.getTotalGames(), gamesCompleted.get(),
+                getProgress(), failure, summaries);
+    }
+
+    void setChunkCount(int chunks) {
+        chunksRemaining.set(chunks);
+    }
+
+    //Called by a worker as it starts one of this job's chunks.
+    synchronized void markRunning() {
+        if (state == State.QUEUED) {
+            state = State.RUNNING;
+        }
+    }
+
+    /**
+     * Merges a played chunk. The last chunk completes the job.
+     */
+    void chunkCompleted(CombinationStatistics chunk) {
+        synchronized (this) {
+            if (isFinished()) {
+                return;                             //Cancelled or failed while the chunk was playing.
+            }
+            totals.get(chunk.getCombination()).merge(chunk);
+        }
+        gamesCompleted.addAndGet(chunk.getGames());
+        if (chunksRemaining.decrementAndGet() == 0) {
+            synchronized (this) {
+                if (isFinished()) {
+                    return;
+                }
+                state = State.SUCCEEDED;
+            }
+            completion.complete(Collections.unmodifiableMap(totals));
+        }
+    }
+
+    void fail(Throwable cause) {
+        synchronized (this) {
+            if (isFinished()) {
+                return;
+            }
+            state = State.FAILED;
+            failure = String.valueOf(cause.getMessage());
+        }
+        completion.completeExceptionally(cause);
+    }
+
+    /**
+     * Returns false when the job had already finished.
+     */
+    boolean cancel() {
+        synchronized (this) {
+            if (isFinished()) {
+                return false;
+            }
+            state = State.CANCELLED;
+        }
+        completion.completeExceptionally(new CancellationException("Job " + id + " was cancelled."));
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+package uk.ac.mmu.game.simulationjobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.httpapi.LocalJsonHttpServer;
+import uk.ac.mmu.game.runsimulations.BatchListenerOption;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Small JSON front end for SimulationJobService (loopback only). Off unless jobs.http.enabled=true.
+ *   POST   /jobs?games=10000[&seed=42][&priority=5][&listeners=METRICS]
+ *              [&players=TWO,FOUR][&dice=ONE][&board=SMALL][&hit=ALLOW][&end=EXACT]    - queue a job, returns its status
+ *   GET    /jobs                                                                          - every known job
+ *   GET    /jobs/{id}                                                                     - progress, and results once done
+ *   DELETE /jobs/{id}                                                                     - cancel
+ * An option left out means all of its values, so a bare POST /jobs?games=1000 plays every combination.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jobs.http", name = "enabled", havingValue = "true")
+public class SimulationJobHttpServer extends LocalJsonHttpServer {
+    private final SimulationJobService jobService;
+    private final int port;
+
+    public SimulationJobHttpServer(SimulationJobService jobService, ObjectMapper objectMapper,
+                                   @Value("${jobs.http.port:8086}") int port) {
+        super(objectMapper);
+        this.jobService = jobService;
+        this.port = port;
+    }
+
+    @Override
+    protected String basePath() {
+        return "/jobs";
+    }
+
+    @Override
+    protected int configuredPort() {
+        return port;
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String method, String[] path, Map<String, String> query) throws Exception {
+        if (path.length <= 1 && method.equals("POST")) {
+            send(exchange, 202, jobService.submit(toSpec(query)).getStatus());
+        } else if (path.length <= 1 && method.equals("GET")) {
+            send(exchange, 200, jobService.getStatuses());
+        } else if (path.length == 2 && method.equals("GET")) {
+            send(exchange, 200, jobService.getStatus(path[1]));
+        } else if (path.length == 2 && method.equals("DELETE")) {
+            if (!jobService.cancel(path[1])) {
+                throw new IllegalStateException("Job " + path[1] + " has already finished.");
+            }
+            send(exchange, 200, jobService.getStatus(path[1]));
+        } else {
+            sendNotFound(exchange);
+        }
+    }
+
+    private static SimulationJobSpec toSpec(Map<String, String> query) {
+        EnumSet<PlayerOption> players = options(PlayerOption.class, query, "players");
+        EnumSet<DiceOption> dice = options(DiceOption.class, query, "dice");
+        EnumSet<BoardOption> boards = options(BoardOption.class, query, "board");
+        EnumSet<HitOption> hits = options(HitOption.class, query, "hit");
+        EnumSet<EndOption> ends = options(EndOption.class, query, "end");
+        List<SimulationCombination> combinations = new ArrayList<>();
+        for (SimulationCombination combination : SimulationCombination.all()) {
+            if (players.contains(combination.getPlayerOption()) && dice.contains(combination.getDiceOption())
+                    && boards.contains(combination.getBoardOption()) && hits.contains(combination.getHitOption())
+                    && ends.contains(combination.getEndOption())) {
+                combinations.add(combination);
+            }
+        }
+        if (!query.containsKey("games")) {
+            throw new IllegalArgumentException("Missing parameter: games");
+        }
+        SimulationJobSpec spec = new SimulationJobSpec()
+                .withCombinations(combinations)
+                .withGamesPerCombination(Integer.parseInt(query.get("games")));
+        if (query.containsKey("seed")) {
+            spec.withMasterSeed(Long.parseLong(query.get("seed")));
+        }
+        if (query.containsKey("priority")) {
+            spec.withPriority(Integer.parseInt(query.get("priority")));
+        }
+        if (query.containsKey("listeners")) {
+            spec.withListeners(options(BatchListenerOption.class, query, "listeners").toArray(new BatchListenerOption[0]));
+        }
+        return spec;
+    }
+
+    //Comma separated values, all of them when the parameter is left out.
+    private static <E extends Enum<E>> EnumSet<E> options(Class<E> type, Map<String, String> query, String name) {
+        String values = query.get(name);
+        if (values == null) {
+            return EnumSet.allOf(type);
+        }
+        EnumSet<E> options = EnumSet.noneOf(type);
+        for (String value : values.split(",")) {
+            if (!value.isBlank()) {
+                options.add(Enum.valueOf(type, value.strip().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return options;
+    }
+}
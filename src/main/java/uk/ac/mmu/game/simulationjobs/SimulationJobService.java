@@ -0,0 +1,223 @@
+package uk.ac.mmu.game.simulationjobs;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.ac.mmu.game.runsimulations.BatchListenerOption;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs simulation jobs in the background of a running application, so several users can share one warm JVM.
+ * Every job is split into the same chunks as a MonteCarloSimulationRunner batch, and the chunks of all jobs share
+ * one fixed pool of jobs.workers threads through a priority queue - chunks of a higher priority job go first,
+ * otherwise jobs run in submission order. At most jobs.max-active-jobs jobs may be queued or running at once;
+ * the last jobs.retained-jobs finished jobs are kept for polling.
+ */
+@Service
+public class SimulationJobService {
+    private final MonteCarloSimulationRunner runner;
+    private final int maxActiveJobs;
+    private final int retainedJobs;
+    private final int workers;
+    private final ThreadPoolExecutor pool;
+    private final Map<String, SimulationJob> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<SimulationJob> finishedJobs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final AtomicLong sequences = new AtomicLong();
+
+    @Autowired
+    public SimulationJobService(MonteCarloSimulationRunner runner,
+                                @Value("${jobs.workers:2}") int workers,
+                                @Value("${jobs.max-active-jobs:32}") int maxActiveJobs,
+                                @Value("${jobs.retained-jobs:100}") int retainedJobs) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Workers must be at least 1: " + workers);
+        }
+        if (maxActiveJobs < 1) {
+            throw new IllegalArgumentException("Max active jobs must be at least 1: " + maxActiveJobs);
+        }
+        this.runner = runner;
+        this.workers = workers;
+        this.maxActiveJobs = maxActiveJobs;
+        this.retainedJobs = Math.max(0, retainedJobs);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "simulation-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.pool.prestartAllCoreThreads();                //Every chunk then goes through the priority queue.
+    }
+
+    /**
+     * Queues a job. Throws IllegalStateException when jobs.max-active-jobs jobs are already queued or running,
+     * and IllegalArgumentException for a listener this application cannot attach.
+     */
+    public SimulationJob submit(SimulationJobSpec spec) {
+        SimulationJobSpec snapshot = spec.copy();
+        Set<BatchListenerOption> unavailable = snapshot.getListeners();
+        unavailable.removeAll(runner.availableListeners());
+        if (!unavailable.isEmpty()) {
+            throw new IllegalArgumentException("Listeners not available in this application: " + unavailable);
+        }
+        if (activeJobs.incrementAndGet() > maxActiveJobs) {
+            activeJobs.decrementAndGet();
+            throw new IllegalStateException("Job queue is full (" + maxActiveJobs + " active jobs).");
+        }
+        SimulationJob job = new SimulationJob(UUID.randomUUID().toString(), sequences.incrementAndGet(), snapshot);
+        job.getCompletion().whenComplete((results, failure) -> finished(job));
+        jobs.put(job.getId(), job);
+
+        try {
+            int gamesPerTask = MonteCarloSimulationRunner.gamesPerTask(snapshot.getTotalGames(), workers);
+            //Stored games are numbered in job order, whichever worker plays them.
+            long gameId = runner.reserveGameIds(snapshot.getTotalGames(), snapshot.getListeners());
+            List<ChunkTask> chunks = new ArrayList<>();
+            long chunkOrder = 0;
+            for (SimulationCombination combination : snapshot.getCombinations()) {
+                for (int first = 0; first < snapshot.getGamesPerCombination(); first += gamesPerTask) {
+                    int games = Math.min(gamesPerTask, snapshot.getGamesPerCombination() - first);
+                    chunks.add(new ChunkTask(job, combination, first, games, gameId, chunkOrder++));
+                    gameId += games;
+                }
+            }
+            job.setChunkCount(chunks.size());
+            for (ChunkTask chunk : chunks) {
+                pool.execute(chunk);
+            }
+        } catch (RuntimeException e) {
+            //No ids (database error) or no pool (shut down) - the job fails, which gives its slot back.
+            job.fail(e);
+            pool.getQueue().removeIf(task -> ((ChunkTask) task).job == job);
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Throws IllegalArgumentException for an unknown (or no longer retained) id.
+     */
+    public SimulationJob getJob(String id) {
+        SimulationJob job = id == null ? null : jobs.get(id);
+        if (job == null) {
+            throw new IllegalArgumentException("No such job: " + id);
+        }
+        return job;
+    }
+
+    public SimulationJobStatus getStatus(String id) {
+        return getJob(id).getStatus();
+    }
+
+    //Every known job, oldest first.
+    public List<SimulationJobStatus> getStatuses() {
+        List<SimulationJob> known = new ArrayList<>(jobs.values());
+        known.sort(Comparator.comparingLong(SimulationJob::getSequence));
+        List<SimulationJobStatus> statuses = new ArrayList<>(known.size());
+        for (SimulationJob job : known) {
+            statuses.add(job.getStatus());
+        }
+        return statuses;
+    }
+
+    /**
+     * Cancels a job: its queued chunks are dropped and chunks already playing are discarded when they finish.
+     * Returns false when the job had already finished.
+     */
+    public boolean cancel(String id) {
+        SimulationJob job = getJob(id);
+        if (!job.cancel()) {
+            return false;
+        }
+        pool.getQueue().removeIf(task -> ((ChunkTask) task).job == job);
+        return true;
+    }
+
+    public int getActiveJobCount() {
+        return activeJobs.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+        for (SimulationJob job : jobs.values()) {
+            job.cancel();
+        }
+    }
+
+    private void finished(SimulationJob job) {
+        activeJobs.decrementAndGet();
+        finishedJobs.add(job);
+        while (finishedJobs.size() > retainedJobs) {
+            SimulationJob oldest = finishedJobs.poll();
+            if (oldest != null) {
+                jobs.remove(oldest.getId());
+            }
+        }
+    }
+
+    /**
+     * One chunk of games of one job - ordered by job priority (highest first), then submission and chunk order.
+     */
+    private final class ChunkTask implements Runnable, Comparable<ChunkTask> {
+        private final SimulationJob job;
+        private final SimulationCombination combination;
+        private final int firstGame;
+        private final int games;
+        private final long firstGameId;
+        private final long chunkOrder;
+
+        private ChunkTask(SimulationJob job, SimulationCombination combination, int firstGame, int games,
+                          long firstGameId, long chunkOrder) {
+            this.job = job;
+            this.combination = combination;
+            this.firstGame = firstGame;
+            this.games = games;
+            this.firstGameId = firstGameId;
+            this.chunkOrder = chunkOrder;
+        }
+
+        @Override
+        public void run() {
+            if (job.isFinished()) {
+                return;
+            }
+            job.markRunning();
+            try {
+                SimulationJobSpec spec = job.getSpec();
+                job.chunkCompleted(runner.playGames(combination, firstGame, games, spec.getMasterSeed(),
+                        spec.getListeners(), firstGameId));
+            } catch (RuntimeException e) {
+                job.fail(e);
+                pool.getQueue().removeIf(task -> ((ChunkTask) task).job == job);
+            }
+        }
+
+        @Override
+        public int compareTo(ChunkTask other) {
+            int byPriority = Integer.compare(other.job.getSpec().getPriority(), job.getSpec().getPriority());
+            if (byPriority != 0) {
+                return byPriority;
+            }
+            int bySubmission = Long.compare(job.getSequence(), other.job.getSequence());
+            return bySubmission != 0 ? bySubmission : Long.compare(chunkOrder, other.chunkOrder);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package uk.ac.mmu.game.simulationjobs;
+
+import uk.ac.mmu.game.runsimulations.BatchListenerOption;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * What a simulation job plays: which option combinations, how many games of each, the master seed for the dice
+ * (see DiceSeeds) and which optional listeners every game gets. Declared fluently, in the style of ParameterSweep:
+ *      new SimulationJobSpec().withGamesPerCombination(100_000).withMasterSeed(42).withPriority(5)
+ * Jobs with a higher priority are played first; equal priorities run in submission order.
+ */
+public class SimulationJobSpec {
+    private List<SimulationCombination> combinations = SimulationCombination.all();
+    private int gamesPerCombination = 1000;
+    private long masterSeed = new SplittableRandom().nextLong();
+    private EnumSet<BatchListenerOption> listeners = EnumSet.noneOf(BatchListenerOption.class);
+    private int priority = 0;
+
+    public SimulationJobSpec withCombinations(List<SimulationCombination> combinations) {
+        if (combinations == null || combinations.isEmpty()) {
+            throw new IllegalArgumentException("At least one combination is required.");
+        }
+        this.combinations = List.copyOf(combinations);
+        return this;
+    }
+
+    public SimulationJobSpec withGamesPerCombination(int gamesPerCombination) {
+        if (gamesPerCombination < 1) {
+            throw new IllegalArgumentException("Games per combination must be at least 1: " + gamesPerCombination);
+        }
+        this.gamesPerCombination = gamesPerCombination;
+        return this;
+    }
+
+    public SimulationJobSpec withMasterSeed(long masterSeed) {
+        this.masterSeed = masterSeed;
+        return this;
+    }
+
+    public SimulationJobSpec withListeners(BatchListenerOption... listeners) {
+        this.listeners = listeners.length == 0 ? EnumSet.noneOf(BatchListenerOption.class)
+                : EnumSet.copyOf(Arrays.asList(listeners));
+        return this;
+    }
+
+    public SimulationJobSpec withPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public List<SimulationCombination> getCombinations() {
+        return combinations;
+    }
+
+    public int getGamesPerCombination() {
+        return gamesPerCombination;
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    public Set<BatchListenerOption> getListeners() {
+        return listeners.clone();
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public long getTotalGames() {
+        return (long) gamesPerCombination * combinations.size();
+    }
+
+    //Snapshot taken on submission, so changing a spec afterwards does not change a queued job.
+    SimulationJobSpec copy() {
+        SimulationJobSpec copy = new SimulationJobSpec();
+        copy.combinations = combinations;
+        copy.gamesPerCombination = gamesPerCombination;
+        copy.masterSeed = masterSeed;
+        copy.listeners = listeners.clone();
+        copy.priority = priority;
+        return copy;
+    }
+}
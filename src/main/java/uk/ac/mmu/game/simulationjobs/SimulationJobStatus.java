@@ -0,0 +1,81 @@
+package uk.ac.mmu.game.simulationjobs;
+
+import java.util.List;
+
+/**
+ * Point in time view of a SimulationJob, for polling. Summaries are only filled in once the job has succeeded -
+ * one CombinationStatistics summary line per combination.
+ */
+public class SimulationJobStatus {
+    private final String id;
+    private final SimulationJob.State state;
+    private final int priority;
+    private final int combinations;
+    private final int gamesPerCombination;
+    private final long masterSeed;
+    private final long totalGames;
+    private final long gamesCompleted;
+    private final double progress;
+    private final String failure;                   //Null unless the job failed.
+    private final List<String> summaries;
+
+    public SimulationJobStatus(String id, SimulationJob.State state, int priority, int combinations, int gamesPerCombination,
+                               long masterSeed, long totalGames, long gamesCompleted, double progress, String failure,
+                               List<String> summaries) {
+        this.id = id;
+        this.state = state;
+        this.priority = priority;
+        this.combinations = combinations;
+        this.gamesPerCombination = gamesPerCombination;
+        this.masterSeed = masterSeed;
+        this.totalGames = totalGames;
+        this.gamesCompleted = gamesCompleted;
+        this.progress = progress;
+        this.failure = failure;
+        this.summaries = List.copyOf(summaries);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public SimulationJob.State getState() {
+        return state;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getCombinations() {
+        return combinations;
+    }
+
+    public int getGamesPerCombination() {
+        return gamesPerCombination;
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    public long getTotalGames() {
+        return totalGames;
+    }
+
+    public long getGamesCompleted() {
+        return gamesCompleted;
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public List<String> getSummaries() {
+        return summaries;
+    }
+}
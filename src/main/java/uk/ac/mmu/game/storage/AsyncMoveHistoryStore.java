@@ -0,0 +1,236 @@
+package uk.ac.mmu.game.storage;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Asynchronous decorator for PlayersMoveHistoryFileStore (select with storage.move-history-store=async).
+ * save() only places the history on a bounded queue - a dedicated writer thread drains it in batches (group commit):
+ * it writes every history of the batch to a temp file, syncs the directory once, renames them all into place and
+ * syncs once more - two fsyncs per batch rather than one per game, and the game thread never waits on the disk.
+ * When the queue is full, save() blocks until the writer catches up (backpressure).
+ * Write failures are reported and counted instead of being thrown into the game thread.
+ * Histories still waiting to be written are served by load(), and everything queued is written on shutdown.
+ * A save() racing with close() is either queued ahead of the shutdown marker or rejected - never silently dropped.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "storage", name = "move-history-store", havingValue = "async")
+public class AsyncMoveHistoryStore implements MoveHistoryStore {
+    private static final PendingSave SHUTDOWN = new PendingSave(null, null, null);
+
+    private final PlayersMoveHistoryFileStore fileStore;
+    private final BlockingQueue<PendingSave> queue;
+    private final int batchSize;
+    private final Map<String, List<String>> pending = new ConcurrentHashMap<>();   //Latest queued history per id.
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final Thread writer;
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();   //Read: queueing work. Write: close().
+    private volatile boolean closed = false;
+
+    public AsyncMoveHistoryStore(PlayersMoveHistoryFileStore fileStore,
+                                 @Value("${storage.async.queue-capacity:1024}") int queueCapacity,
+                                 @Value("${storage.async.batch-size:256}") int batchSize) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Queue capacity and batch size must be at least 1.");
+        }
+        this.fileStore = fileStore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::writeLoop, "move-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues the history for the writer thread. Blocks while the queue is full.
+     */
+    @Override
+    public void save(String id, List<String> history) {
+        List<String> snapshot = List.copyOf(history);   //The caller may keep reusing its list.
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Move history store has been closed.");
+            }
+            pending.put(id, snapshot);
+            enqueue(new PendingSave(id, snapshot, null));
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<List<String>> load(String id) throws IOException {
+        List<String> queued = pending.get(id);
+        return queued != null ? Optional.of(queued) : fileStore.load(id);
+    }
+
+    /**
+     * Blocks until every history queued before this call has been written.
+     */
+    public void flush() {
+        CountDownLatch written = new CountDownLatch(1);
+        closeLock.readLock().lock();
+        try {
+            if (closed || !writer.isAlive()) {
+                return;
+            }
+            enqueue(new PendingSave(null, null, written));
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        try {
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing move histories", e);
+        }
+    }
+
+    /**
+     * Writes everything still queued, then stops the writer thread.
+     */
+    @PreDestroy
+    public void close() {
+        //Waits for saves already queueing - the writer keeps draining, so they get in ahead of SHUTDOWN.
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            enqueue(SHUTDOWN);
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getFailedWrites() {
+        return failedWrites.get();
+    }
+
+    public long getBatchesWritten() {
+        return batches.get();
+    }
+
+    private void enqueue(PendingSave save) {
+        try {
+            queue.put(save);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing move history", e);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingSave> batch = new ArrayList<>(batchSize);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());                //Wait for work, then take whatever else is already queued.
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+
+            List<CountDownLatch> flushed = new ArrayList<>();
+            Map<PendingSave, Path> written = new LinkedHashMap<>();
+            for (PendingSave save : batch) {
+                if (save == SHUTDOWN) {
+                    running = false;
+                } else if (save.flushed != null) {
+                    flushed.add(save.flushed);
+                } else {
+                    Path tmp = writeTemp(save);
+                    if (tmp != null) {
+                        written.put(save, tmp);
+                    }
+                }
+            }
+            //1. Group commit - one sync for every temp file of the batch, the renames, then one sync for the renames.
+            if (!written.isEmpty()) {
+                syncDirectory();
+                for (Map.Entry<PendingSave, Path> entry : written.entrySet()) {
+                    moveIntoPlace(entry.getKey(), entry.getValue());
+                }
+                syncDirectory();
+                batches.incrementAndGet();
+            }
+            //2. Only now are the histories on disk - release the ids and any flush() callers.
+            for (PendingSave save : batch) {
+                if (save.id != null) {
+                    pending.remove(save.id, save.history);
+                }
+            }
+            flushed.forEach(CountDownLatch::countDown);
+            batch.clear();
+        }
+    }
+
+    //Null when the history could not be written.
+    private Path writeTemp(PendingSave save) {
+        try {
+            return fileStore.writeTemp(save.id, save.history);
+        } catch (IOException | RuntimeException e) {
+            failedWrites.incrementAndGet();
+            System.err.println("Move history " + save.id + " could not be saved: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void moveIntoPlace(PendingSave save, Path tmp) {
+        try {
+            fileStore.moveIntoPlace(tmp, save.id);
+        } catch (IOException | RuntimeException e) {
+            failedWrites.incrementAndGet();
+            System.err.println("Move history " + save.id + " could not be saved: " + e.getMessage());
+        }
+    }
+
+    private void syncDirectory() {
+        try {
+            fileStore.syncDirectory();
+        } catch (IOException e) {
+            failedWrites.incrementAndGet();
+            System.err.println("Move history directory sync failed: " + e.getMessage());
+        }
+    }
+
+    //Queue entry - a history to write, or a flush marker (flushed set), or the shutdown marker.
+    private static final class PendingSave {
+        private final String id;
+        private final List<String> history;
+        private final CountDownLatch flushed;
+
+        private PendingSave(String id, List<String> history, CountDownLatch flushed) {
+            this.id = id;
+            this.history = history;
+            this.flushed = flushed;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package uk.ac.mmu.game.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.gamerecord.GameRecordCodec;
+import uk.ac.mmu.game.gamerecord.GameRecordReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores games in the compact binary GameRecord format (one .fgr file per game id).
+ * The readable history is rebuilt from the record only when asked for (loadHistory).
+ */
+@Service
+public class BinaryGameRecordStore {
+    private static final String EXTENSION = ".fgr";
+
+    private final Path baseDir;
+
+    public BinaryGameRecordStore(@Value("${storage.binary-history-dir:./data/move-history-bin}") String dir) {
+        this.baseDir = Paths.get(dir).toAbsolutePath().normalize();
+    }
+
+    public void save(String id, GameRecord record) throws IOException {
+        Path file = StorageFiles.resolveSafeFile(baseDir, id, EXTENSION);
+        Files.createDirectories(baseDir);                   //Created on first save - binary storage is opt-in.
+        Path tmp = Files.createTempFile(baseDir, "game-record-", ".tmp");
+
+        try {
+            Files.write(tmp, GameRecordCodec.encode(record));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public Optional<GameRecord> load(String id) throws IOException {
+        Path file = StorageFiles.resolveSafeFile(baseDir, id, EXTENSION);
+        if (!Files.exists(file)) return Optional.empty();
+        return Optional.of(GameRecordCodec.decode(Files.readAllBytes(file)));
+    }
+
+    public Optional<List<String>> loadHistory(String id) throws IOException {
+        return load(id).map(GameRecordReader::toHistory);
+    }
+}
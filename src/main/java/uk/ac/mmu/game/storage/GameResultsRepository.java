@@ -0,0 +1,293 @@
+package uk.ac.mmu.game.storage;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Embedded H2 database of simulated games (enable with storage.database.enabled=true).
+ * One GAME_SUMMARY row per game (run name, option combination, seed, winner, game length) and one MOVE_EVENT row
+ * per turn, taken from the game's GameRecord. Indexed on run name, combination, winner and game length,
+ * so questions like "mean length for FOUR_TWO_LARGE_FORBID_EXACT" are answered by SQL instead of parsing JSON files.
+ * Writes reuse two prepared statements on a single connection and are sent as JDBC batches, committed every
+ * batch-size games - call flush() to make the latest games visible. Complements PlayersMoveHistoryFileStore,
+ * which still keeps the readable histories.
+ * Parallel runs reserve a block of ids up front (reserveGameIds) and hand over each chunk of games with saveAll,
+ * so ids follow the games' order in the run rather than the order the workers finish. Reserved ids that are never
+ * written (a cancelled job) are simply left unused.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "storage.database", name = "enabled", havingValue = "true")
+public class GameResultsRepository implements AutoCloseable {
+    private static final String[] SCHEMA = {
+            """
+            CREATE TABLE IF NOT EXISTS GAME_SUMMARY (
+                GAME_ID BIGINT PRIMARY KEY,
+                RUN_NAME VARCHAR(128) NOT NULL,
+                COMBINATION VARCHAR(48) NOT NULL,
+                PLAYER_OPTION VARCHAR(8) NOT NULL,
+                DICE_OPTION VARCHAR(8) NOT NULL,
+                BOARD_OPTION VARCHAR(8) NOT NULL,
+                HIT_OPTION VARCHAR(8) NOT NULL,
+                END_OPTION VARCHAR(24) NOT NULL,
+                SEED BIGINT,
+                WINNER VARCHAR(16),
+                WINNER_SEAT INT NOT NULL,
+                GAME_LENGTH INT NOT NULL,
+                MAX_MOVES_REACHED BOOLEAN NOT NULL
+            )""",
+            """
+            CREATE TABLE IF NOT EXISTS MOVE_EVENT (
+                GAME_ID BIGINT NOT NULL,
+                TURN INT NOT NULL,
+                SEAT INT NOT NULL,
+                ROLL INT NOT NULL,
+                OUTCOME INT NOT NULL,
+                OUTCOME_CODE INT NOT NULL,
+                FROM_INDEX INT NOT NULL,
+                TO_INDEX INT NOT NULL,
+                PRIMARY KEY (GAME_ID, TURN)
+            )""",
+            "CREATE INDEX IF NOT EXISTS IDX_GAME_SUMMARY_RUN ON GAME_SUMMARY(RUN_NAME)",
+            //Combination first, then length - covers the per-combination aggregates without touching the table.
+            "CREATE INDEX IF NOT EXISTS IDX_GAME_SUMMARY_COMBINATION ON GAME_SUMMARY(COMBINATION, GAME_LENGTH)",
+            "CREATE INDEX IF NOT EXISTS IDX_GAME_SUMMARY_WINNER ON GAME_SUMMARY(WINNER)",
+            "CREATE INDEX IF NOT EXISTS IDX_GAME_SUMMARY_LENGTH ON GAME_SUMMARY(GAME_LENGTH)"
+    };
+    private static final String INSERT_SUMMARY = "INSERT INTO GAME_SUMMARY (GAME_ID, RUN_NAME, COMBINATION, PLAYER_OPTION, "
+            + "DICE_OPTION, BOARD_OPTION, HIT_OPTION, END_OPTION, SEED, WINNER, WINNER_SEAT, GAME_LENGTH, MAX_MOVES_REACHED) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EVENT = "INSERT INTO MOVE_EVENT (GAME_ID, TURN, SEAT, ROLL, OUTCOME, OUTCOME_CODE, "
+            + "FROM_INDEX, TO_INDEX) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final Connection connection;
+    private final PreparedStatement insertSummary;
+    private final PreparedStatement insertEvent;
+    private final int batchSize;
+    private long nextGameId;                        //Next id not yet reserved - events are batched with their game.
+    private int pendingGames = 0;
+    private boolean closed = false;
+
+    public GameResultsRepository(@Value("${storage.database.url:jdbc:h2:file:./data/game-results}") String url,
+                                 @Value("${storage.database.batch-size:500}") int batchSize) throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1.");
+        }
+        this.batchSize = batchSize;
+        this.connection = DriverManager.getConnection(url, "sa", "");
+        try {
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : SCHEMA) {
+                    statement.execute(ddl);
+                }
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(GAME_ID), 0) + 1 FROM GAME_SUMMARY")) {
+                    rs.next();
+                    nextGameId = rs.getLong(1);
+                }
+            }
+            connection.setAutoCommit(false);
+            this.insertSummary = connection.prepareStatement(INSERT_SUMMARY);
+            this.insertEvent = connection.prepareStatement(INSERT_EVENT);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the game's summary and every turn to the current batch, under the next free id. Returns the game id.
+     */
+    public long save(String runName, GameRecord record) throws SQLException {
+        long gameId = reserveGameIds(1);
+        saveAll(runName, gameId, List.of(record));
+        return gameId;
+    }
+
+    /**
+     * Reserves count consecutive game ids and returns the first.
+     */
+    public synchronized long reserveGameIds(long count) {
+        ensureOpen();
+        if (count < 0) {
+            throw new IllegalArgumentException("Cannot reserve a negative number of ids: " + count);
+        }
+        long first = nextGameId;
+        nextGameId += count;
+        return first;
+    }
+
+    /**
+     * Adds a chunk of games, in order, with the ids firstGameId, firstGameId + 1, ... taken from reserveGameIds.
+     */
+    public synchronized void saveAll(String runName, long firstGameId, List<GameRecord> records) throws SQLException {
+        ensureOpen();
+        if (runName == null || runName.isBlank()) {
+            throw new IllegalArgumentException("Run name is required.");
+        }
+        if (firstGameId < 1 || firstGameId + records.size() > nextGameId) {
+            throw new IllegalArgumentException("Game ids " + firstGameId + "+" + records.size() + " have not been reserved.");
+        }
+        for (int game = 0; game < records.size(); game++) {
+            addGame(runName, firstGameId + game, records.get(game));
+        }
+        if (pendingGames >= batchSize) {
+            flush();
+        }
+    }
+
+    //Called holding the lock.
+    private void addGame(String runName, long gameId, GameRecord record) throws SQLException {
+        SimulationCombination combination = record.getCombination();
+        int winnerSeat = record.getWinnerSeat();
+
+        insertSummary.setLong(1, gameId);
+        insertSummary.setString(2, runName);
+        insertSummary.setString(3, combination.toString());
+        insertSummary.setString(4, combination.getPlayerOption().name());
+        insertSummary.setString(5, combination.getDiceOption().name());
+        insertSummary.setString(6, combination.getBoardOption().name());
+        insertSummary.setString(7, combination.getHitOption().name());
+        insertSummary.setString(8, combination.getEndOption().name());
+        if (record.getSeed().isPresent()) {
+            insertSummary.setLong(9, record.getSeed().getAsLong());
+        } else {
+            insertSummary.setNull(9, Types.BIGINT);
+        }
+        insertSummary.setString(10, winnerSeat < 0 ? null : record.getPlayerName(winnerSeat));
+        insertSummary.setInt(11, winnerSeat);
+        insertSummary.setInt(12, record.getTotalGameMoves());
+        insertSummary.setBoolean(13, winnerSeat < 0);
+        insertSummary.addBatch();
+
+        for (int event = 0; event < record.getEventCount(); event++) {
+            insertEvent.setLong(1, gameId);
+            insertEvent.setInt(2, event + 1);
+            insertEvent.setInt(3, record.getSeat(event));
+            insertEvent.setInt(4, record.getRoll(event));
+            insertEvent.setInt(5, record.getOutcome(event));
+            insertEvent.setInt(6, record.getOutcomeCode(event));
+            insertEvent.setInt(7, record.getFromIndex(event));
+            insertEvent.setInt(8, record.getToIndex(event));
+            insertEvent.addBatch();
+        }
+        pendingGames++;
+    }
+
+    /**
+     * Sends the pending batches and commits them.
+     */
+    public synchronized void flush() throws SQLException {
+        if (pendingGames == 0) {
+            return;
+        }
+        try {
+            insertSummary.executeBatch();
+            insertEvent.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            insertSummary.clearBatch();
+            insertEvent.clearBatch();
+            pendingGames = 0;
+        }
+    }
+
+    public synchronized long countGames(SimulationCombination combination) throws SQLException {
+        flush();
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT COUNT(*) FROM GAME_SUMMARY WHERE COMBINATION = ?")) {
+            query.setString(1, combination.toString());
+            try (ResultSet rs = query.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * Mean game length (total moves) over every stored game of the combination.
+     */
+    public synchronized OptionalDouble meanGameLength(SimulationCombination combination) throws SQLException {
+        flush();
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT AVG(CAST(GAME_LENGTH AS DOUBLE)) FROM GAME_SUMMARY WHERE COMBINATION = ?")) {
+            query.setString(1, combination.toString());
+            try (ResultSet rs = query.executeQuery()) {
+                rs.next();
+                double mean = rs.getDouble(1);
+                return rs.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(mean);
+            }
+        }
+    }
+
+    /**
+     * Games won by each player for the combination, capped games excluded.
+     */
+    public synchronized Map<String, Long> winsByPlayer(SimulationCombination combination) throws SQLException {
+        flush();
+        Map<String, Long> wins = new LinkedHashMap<>();
+        try (PreparedStatement query = connection.prepareStatement("SELECT WINNER, COUNT(*) FROM GAME_SUMMARY "
+                + "WHERE COMBINATION = ? AND WINNER IS NOT NULL GROUP BY WINNER ORDER BY WINNER")) {
+            query.setString(1, combination.toString());
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    wins.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+        return wins;
+    }
+
+    public synchronized long countEvents(long gameId) throws SQLException {
+        flush();
+        try (PreparedStatement query = connection.prepareStatement("SELECT COUNT(*) FROM MOVE_EVENT WHERE GAME_ID = ?")) {
+            query.setLong(1, gameId);
+            try (ResultSet rs = query.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Game results repository has been closed.");
+        }
+    }
+
+    /**
+     * Commits whatever is still batched and closes the connection.
+     */
+    @PreDestroy
+    @Override
+    public synchronized void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            insertSummary.close();
+            insertEvent.close();
+            connection.close();
+        }
+    }
+}
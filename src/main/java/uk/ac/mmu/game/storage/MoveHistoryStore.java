@@ -0,0 +1,35 @@
+package uk.ac.mmu.game.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port for saving and loading a game's move history by id.
+ * Listeners depend on this interface, so the storage adapter (synchronous files, asynchronous writer...) can be swapped.
+ */
+public interface MoveHistoryStore {
+    void save(String id, List<String> history) throws IOException;
+
+    Optional<List<String>> load(String id) throws IOException;
+
+    /**
+     * Opens a writer that stores the history line by line. Stores that cannot stream fall back to
+     * collecting the lines and saving them in one go when the writer is closed.
+     */
+    default MoveHistoryWriter openWriter(String id) throws IOException {
+        List<String> lines = new ArrayList<>();
+        return new MoveHistoryWriter() {
+            @Override
+            public void append(String line) {
+                lines.add(line);
+            }
+
+            @Override
+            public void close() throws IOException {
+                save(id, lines);
+            }
+        };
+    }
+}
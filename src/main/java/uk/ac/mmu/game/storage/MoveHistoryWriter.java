@@ -0,0 +1,15 @@
+package uk.ac.mmu.game.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streaming writer for one game's move history, opened with MoveHistoryStore.openWriter(id).
+ * Lines are written as they happen, and close() commits the history under its id.
+ */
+public interface MoveHistoryWriter extends Closeable {
+    void append(String line) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
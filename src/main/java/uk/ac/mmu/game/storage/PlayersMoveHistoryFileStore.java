@@ -1,20 +1,24 @@
 package uk.ac.mmu.game.storage;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Optional;
 
 @Service
-public class PlayersMoveHistoryFileStore {
+public class PlayersMoveHistoryFileStore implements MoveHistoryStore {
 
     private final Path baseDir;
     private final ObjectMapper objectMapper;
@@ -29,8 +33,9 @@ public class PlayersMoveHistoryFileStore {
         this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
     }
 
+    @Override
     public void save(String id, List<String> history) throws IOException {
-        Path file = resolveSafeFile(id);
+        Path file = StorageFiles.resolveSafeFile(baseDir, id, ".json");
         Path tmp = Files.createTempFile(baseDir, "move-history-", ".tmp");
 
         try {
@@ -41,23 +46,93 @@ public class PlayersMoveHistoryFileStore {
         }
     }
 
+    /**
+     * Streams the history straight into a temp file through a JsonGenerator, so memory use does not grow with the game.
+     * close() ends the JSON array and atomically renames the file into place, exactly as save() would.
+     */
+    @Override
+    public MoveHistoryWriter openWriter(String id) throws IOException {
+        Path file = StorageFiles.resolveSafeFile(baseDir, id, ".json");
+        Path tmp = Files.createTempFile(baseDir, "move-history-", ".tmp");
+        JsonGenerator generator;
+        try {
+            generator = objectMapper.writer().createGenerator(Files.newOutputStream(tmp));
+            generator.writeStartArray();
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        return new MoveHistoryWriter() {
+            private boolean closed = false;
+
+            @Override
+            public void append(String line) throws IOException {
+                generator.writeString(line);
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    generator.writeEndArray();
+                    generator.close();
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        };
+    }
+
+    @Override
     public Optional<List<String>> load(String id) throws IOException {
-        Path file = resolveSafeFile(id);
+        Path file = StorageFiles.resolveSafeFile(baseDir, id, ".json");
         if (!Files.exists(file)) return Optional.empty();
         List<String> history = objectMapper.readValue(file.toFile(), List.class);
         return Optional.of(history);
     }
 
-    private Path resolveSafeFile(String id) {
-        String safe = id == null ? "" : id.replaceAll("[^a-zA-Z0-9_-]", "");
-        if (safe.isBlank()) {
-            throw new IllegalArgumentException("Invalid id (must contain letters/numbers/_/-).");
+    /**
+     * First half of a batched save (AsyncMoveHistoryStore): the history written to a temp file beside its target,
+     * neither synced nor renamed yet. The id is checked before anything is written.
+     */
+    Path writeTemp(String id, List<String> history) throws IOException {
+        StorageFiles.resolveSafeFile(baseDir, id, ".json");
+        Path tmp = Files.createTempFile(baseDir, "move-history-", ".tmp");
+        try {
+            objectMapper.writeValue(tmp.toFile(), history);
+            return tmp;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
         }
+    }
+
+    /**
+     * Second half of a batched save: atomically renames a temp file from writeTemp into place as the history of id.
+     */
+    void moveIntoPlace(Path tmp, String id) throws IOException {
+        try {
+            Files.move(tmp, StorageFiles.resolveSafeFile(baseDir, id, ".json"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
 
-        Path file = baseDir.resolve(safe + ".json").normalize();
-        if (!file.startsWith(baseDir)) {
-            throw new IllegalArgumentException("Invalid id.");
+    /**
+     * Flushes the directory entries (temp files created, renames done) to disk with a single fsync.
+     * Returns false where the platform cannot open a directory for syncing (e.g. Windows).
+     */
+    public boolean syncDirectory() throws IOException {
+        try (FileChannel directory = FileChannel.open(baseDir, StandardOpenOption.READ)) {
+            directory.force(true);
+            return true;
+        } catch (UnsupportedOperationException | AccessDeniedException e) {
+            return false;
         }
-        return file;
     }
 }
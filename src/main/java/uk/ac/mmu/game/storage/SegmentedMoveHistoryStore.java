@@ -0,0 +1,591 @@
+package uk.ac.mmu.game.storage;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only alternative to PlayersMoveHistoryFileStore (select with storage.move-history-store=segmented).
+ * Games are appended as records to large segment files instead of one file per game, and a memory-mapped
+ * open-addressing index maps id -> (segment, offset, length), so load(id) is one index probe and one read.
+ *
+ * Record layout: int body length, int CRC32 of the body, body = short id length, id (UTF-8), payload.
+ * - Rolling: a new segment is started once the active one would exceed storage.segmented.segment-bytes.
+ * - Recovery: the index is only trusted after a clean close. Otherwise the active segment is scanned, a torn
+ *   record at its tail is truncated away and the index is rebuilt from the segments (later records win).
+ * - Compaction: live records in sealed segments are copied forward and the old segments deleted. Every sealed
+ *   segment map is dropped first and re-mapped on its next read, so no mapping of a deleted segment is kept alive.
+ *   A segment that cannot be deleted yet (still mapped on some platforms) stays listed and is retried next time.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "storage", name = "move-history-store", havingValue = "segmented")
+public class SegmentedMoveHistoryStore implements MoveHistoryStore, Closeable {
+    private static final int RECORD_HEADER = 8;                     //Body length + CRC32.
+    private static final long INDEX_MAGIC = 0x4647_4958_0000_0001L;  //"FGIX" version 1.
+    private static final int INDEX_HEADER = 64;
+    private static final int SLOT_BYTES = 24;                       //long hash, int segment, int length, long offset.
+    private static final int MIN_INDEX_CAPACITY = 1 << 10;
+    private static final String INDEX_FILE = "index.map";
+
+    private final Path baseDir;
+    private final long segmentBytes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Integer, Path> segments = new TreeMap<>();
+    private final Map<Integer, MappedByteBuffer> sealedMaps = new ConcurrentHashMap<>();  //Read-only maps of sealed segments, on first use.
+    private FileChannel activeChannel;
+    private int activeSegment;
+    private long activeSize;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int indexCapacity;
+    private int indexCount;
+    private boolean closed = false;
+
+    public SegmentedMoveHistoryStore(@Value("${storage.segmented.dir:./data/move-history-log}") String dir,
+                                     @Value("${storage.segmented.segment-bytes:67108864}") long segmentBytes) throws IOException {
+        if (segmentBytes < 1024 || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between 1KB and 2GB: " + segmentBytes);
+        }
+        this.baseDir = Paths.get(dir).toAbsolutePath().normalize();
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(baseDir);
+        open();
+    }
+
+    //MoveHistoryStore - histories are stored as a line count followed by each line.
+    @Override
+    public void save(String id, List<String> history) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(history.size());
+            for (String line : history) {
+                byte[] utf8 = line.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+        }
+        append(id, bytes.toByteArray());
+    }
+
+    @Override
+    public Optional<List<String>> load(String id) throws IOException {
+        Optional<byte[]> payload = read(id);
+        if (payload.isEmpty()) return Optional.empty();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload.get()))) {
+            int lines = in.readInt();
+            List<String> history = new ArrayList<>(lines);
+            for (int line = 0; line < lines; line++) {
+                history.add(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8));
+            }
+            return Optional.of(history);
+        }
+    }
+
+    /**
+     * Appends a record for the id - a later record for the same id replaces the earlier one.
+     */
+    public void append(String id, byte[] payload) throws IOException {
+        byte[] idBytes = validId(id);
+        ByteBuffer record = encodeRecord(idBytes, payload);
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (activeSize > 0 && activeSize + record.remaining() > segmentBytes) {
+                rollSegment();
+            }
+            long offset = activeSize;
+            int length = record.remaining();
+            while (record.hasRemaining()) {
+                activeChannel.write(record, offset + (length - record.remaining()));
+            }
+            activeSize += length;
+            indexPut(hash(idBytes), idBytes, activeSegment, offset, length);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<byte[]> read(String id) throws IOException {
+        byte[] idBytes = validId(id);
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            long hash = hash(idBytes);
+            for (int slot = slotFor(hash); ; slot = (slot + 1) & (indexCapacity - 1)) {
+                long slotHash = index.getLong(slotPosition(slot));
+                if (slotHash == 0) {
+                    return Optional.empty();
+                }
+                if (slotHash == hash) {
+                    byte[] record = readRecord(slotSegment(slot), slotOffset(slot), slotLength(slot));
+                    if (recordHasId(record, idBytes)) {
+                        int idLength = ByteBuffer.wrap(record, RECORD_HEADER, 2).getShort() & 0xFFFF;
+                        int payloadStart = RECORD_HEADER + 2 + idLength;
+                        byte[] payload = new byte[record.length - payloadStart];
+                        System.arraycopy(record, payloadStart, payload, 0, payload.length);
+                        return Optional.of(payload);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the live records of every sealed segment forward and deletes those segments.
+     * Returns the number of segments removed.
+     */
+    public int compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            List<Integer> sealed = new ArrayList<>(segments.headMap(activeSegment, false).keySet());
+            for (int segment : sealed) {
+                forEachRecord(segment, (offset, record) -> {
+                    byte[] idBytes = recordId(record);
+                    int slot = indexFind(hash(idBytes), idBytes);
+                    if (slot >= 0 && slotSegment(slot) == segment && slotOffset(slot) == offset) {
+                        if (activeSize > 0 && activeSize + record.length > segmentBytes) {
+                            rollSegment();
+                        }
+                        long target = activeSize;
+                        activeChannel.write(ByteBuffer.wrap(record), target);
+                        activeSize += record.length;
+                        writeSlot(slot, hash(idBytes), activeSegment, target, record.length);
+                    }
+                });
+            }
+            //The copies must be on disk before the originals go.
+            activeChannel.force(true);
+            index.force();
+            sealedMaps.clear();                                     //Nothing reads under the write lock - maps are re-opened on demand.
+            int removed = 0;
+            for (int segment : sealed) {
+                try {
+                    Files.deleteIfExists(segments.get(segment));
+                    segments.remove(segment);
+                    removed++;
+                } catch (IOException e) {
+                    //Holds no live records any more, so a later compaction or a rebuild just skips past it.
+                    System.err.printf("Move history log: could not delete segment %d yet: %s%n", segment, e.getMessage());
+                }
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces the active segment to disk.
+     */
+    public void sync() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            activeChannel.force(true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return indexCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Syncs the log and marks the index clean, so the next open can trust it without a rebuild.
+     */
+    @PreDestroy
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            activeChannel.force(true);
+            writeIndexHeader(true);
+            index.force();
+            activeChannel.close();
+            indexChannel.close();
+            sealedMaps.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //------------------------------------------------------------------ Opening and recovery
+
+    private void open() throws IOException {
+        try (Stream<Path> files = Files.list(baseDir)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith("segment-") && name.endsWith(".log")) {
+                    segments.put(Integer.parseInt(name.substring(8, name.length() - 4)), file);
+                }
+            });
+        }
+        if (segments.isEmpty()) {
+            segments.put(1, segmentPath(1));
+        }
+        activeSegment = segments.lastKey();
+        activeChannel = FileChannel.open(segments.get(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeSize = activeChannel.size();
+
+        if (!openCleanIndex()) {
+            activeSize = recoverActiveSegment();
+            rebuildIndex(MIN_INDEX_CAPACITY);
+        }
+        writeIndexHeader(false);                                    //Dirty until the next clean close.
+        index.force();
+    }
+
+    //Uses the existing index only if the last close was clean and the active segment is exactly as it was left.
+    private boolean openCleanIndex() throws IOException {
+        Path file = baseDir.resolve(INDEX_FILE);
+        if (!Files.exists(file) || Files.size(file) < INDEX_HEADER) {
+            return false;
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER);
+        int capacity = header.getInt(8);
+        boolean usable = header.getLong(0) == INDEX_MAGIC && header.getInt(16) == 1
+                && header.getInt(20) == activeSegment && header.getLong(24) == activeSize
+                && Integer.bitCount(capacity) == 1 && channel.size() == INDEX_HEADER + (long) capacity * SLOT_BYTES;
+        if (!usable) {
+            channel.close();
+            return false;
+        }
+        indexChannel = channel;
+        indexCapacity = capacity;
+        indexCount = header.getInt(12);
+        index = channel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER + (long) capacity * SLOT_BYTES);
+        return true;
+    }
+
+    //Scans the active segment and truncates it after the last complete record with a valid CRC.
+    private long recoverActiveSegment() throws IOException {
+        long[] validEnd = {0};
+        forEachRecord(activeSegment, (offset, record) -> validEnd[0] = offset + record.length);
+        if (validEnd[0] < activeChannel.size()) {
+            System.err.printf("Move history log: truncating torn record at segment %d offset %d (%d bytes).%n",
+                    activeSegment, validEnd[0], activeChannel.size() - validEnd[0]);
+            activeChannel.truncate(validEnd[0]);
+            activeChannel.force(true);
+        }
+        return validEnd[0];
+    }
+
+    //Replays every segment in order into a fresh index - the latest record for an id wins.
+    private void rebuildIndex(int minimumCapacity) throws IOException {
+        int capacity = MIN_INDEX_CAPACITY;
+        while (capacity < minimumCapacity) {
+            capacity <<= 1;
+        }
+        createIndex(capacity);
+        for (int segment : new ArrayList<>(segments.keySet())) {
+            forEachRecord(segment, (offset, record) -> {
+                byte[] idBytes = recordId(record);
+                indexPut(hash(idBytes), idBytes, segment, offset, record.length);
+            });
+        }
+    }
+
+    private void createIndex(int capacity) throws IOException {
+        if (indexChannel != null) {
+            indexChannel.close();
+        }
+        Path file = baseDir.resolve(INDEX_FILE);
+        Path tmp = baseDir.resolve(INDEX_FILE + ".tmp");
+        Files.deleteIfExists(tmp);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(1), INDEX_HEADER + (long) capacity * SLOT_BYTES - 1);   //Sized and zero filled.
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        indexChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER + (long) capacity * SLOT_BYTES);
+        indexCapacity = capacity;
+        indexCount = 0;
+        writeIndexHeader(false);
+    }
+
+    private void writeIndexHeader(boolean clean) {
+        index.putLong(0, INDEX_MAGIC);
+        index.putInt(8, indexCapacity);
+        index.putInt(12, indexCount);
+        index.putInt(16, clean ? 1 : 0);
+        index.putInt(20, activeSegment);
+        index.putLong(24, activeSize);
+    }
+
+    //------------------------------------------------------------------ Segments
+
+    private void rollSegment() throws IOException {
+        activeChannel.force(true);                                  //Sealed segments are never written again.
+        activeChannel.close();
+        activeSegment++;
+        Path file = segmentPath(activeSegment);
+        segments.put(activeSegment, file);
+        activeChannel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeSize = 0;
+    }
+
+    private Path segmentPath(int segment) {
+        return baseDir.resolve(String.format("segment-%010d.log", segment));
+    }
+
+    private byte[] readRecord(int segment, long offset, int length) throws IOException {
+        byte[] record = new byte[length];
+        if (segment == activeSegment) {
+            if (!readFully(activeChannel, record, offset)) {
+                throw new IOException("Index points past the end of segment " + segment);
+            }
+        } else {
+            sealedMap(segment).get((int) offset, record);
+        }
+        return record;
+    }
+
+    private MappedByteBuffer sealedMap(int segment) throws IOException {
+        MappedByteBuffer map = sealedMaps.get(segment);
+        if (map == null) {
+            //Readers share the read lock - two may map the same segment, and either map is fine to keep.
+            try (FileChannel channel = FileChannel.open(segments.get(segment), StandardOpenOption.READ)) {
+                map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            MappedByteBuffer existing = sealedMaps.putIfAbsent(segment, map);
+            return existing != null ? existing : map;
+        }
+        return map;
+    }
+
+    private interface RecordVisitor {
+        void visit(long offset, byte[] record) throws IOException;
+    }
+
+    //Visits every complete, CRC-valid record of a segment in order, stopping at the first bad one.
+    private void forEachRecord(int segment, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(segments.get(segment), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long offset = 0;
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+            while (offset + RECORD_HEADER <= size) {
+                header.clear();
+                channel.read(header, offset);
+                int bodyLength = header.getInt(0);
+                if (bodyLength < 2 || offset + RECORD_HEADER + bodyLength > size) {
+                    break;
+                }
+                byte[] record = new byte[RECORD_HEADER + bodyLength];
+                if (!readFully(channel, record, offset) || !crcMatches(record)) {
+                    break;
+                }
+                visitor.visit(offset, record);
+                offset += record.length;
+            }
+            if (offset < size && segment != activeSegment) {
+                System.err.printf("Move history log: segment %d is damaged after offset %d.%n", segment, offset);
+            }
+        }
+    }
+
+    private static boolean readFully(FileChannel channel, byte[] target, long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(target);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer encodeRecord(byte[] idBytes, byte[] payload) {
+        int bodyLength = 2 + idBytes.length + payload.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + bodyLength);
+        record.putInt(bodyLength).putInt(0).putShort((short) idBytes.length).put(idBytes).put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), RECORD_HEADER, bodyLength);
+        record.putInt(4, (int) crc.getValue());
+        return record.flip();
+    }
+
+    private static boolean crcMatches(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER, record.length - RECORD_HEADER);
+        return ByteBuffer.wrap(record).getInt(4) == (int) crc.getValue();
+    }
+
+    private static byte[] recordId(byte[] record) {
+        int idLength = ByteBuffer.wrap(record, RECORD_HEADER, 2).getShort() & 0xFFFF;
+        byte[] idBytes = new byte[idLength];
+        System.arraycopy(record, RECORD_HEADER + 2, idBytes, 0, idLength);
+        return idBytes;
+    }
+
+    private static boolean recordHasId(byte[] record, byte[] idBytes) {
+        int idLength = ByteBuffer.wrap(record, RECORD_HEADER, 2).getShort() & 0xFFFF;
+        return idLength == idBytes.length
+                && Arrays.equals(record, RECORD_HEADER + 2, RECORD_HEADER + 2 + idLength, idBytes, 0, idLength);
+    }
+
+    //------------------------------------------------------------------ Index (open addressing, linear probing)
+
+    private void indexPut(long hash, byte[] idBytes, int segment, long offset, int length) throws IOException {
+        int slot = indexFind(hash, idBytes);
+        if (slot < 0) {
+            if ((indexCount + 1) * 10L > indexCapacity * 7L) {      //Keep the load factor below 0.7.
+                growIndex();
+            }
+            slot = slotFor(hash);
+            while (index.getLong(slotPosition(slot)) != 0) {
+                slot = (slot + 1) & (indexCapacity - 1);
+            }
+            indexCount++;
+            index.putInt(12, indexCount);
+        }
+        writeSlot(slot, hash, segment, offset, length);
+    }
+
+    //Slot holding this id, or -1. Equal hashes are confirmed against the id stored in the record.
+    private int indexFind(long hash, byte[] idBytes) throws IOException {
+        for (int slot = slotFor(hash); ; slot = (slot + 1) & (indexCapacity - 1)) {
+            long slotHash = index.getLong(slotPosition(slot));
+            if (slotHash == 0) {
+                return -1;
+            }
+            if (slotHash == hash && recordHasId(readRecord(slotSegment(slot), slotOffset(slot), slotLength(slot)), idBytes)) {
+                return slot;
+            }
+        }
+    }
+
+    private void growIndex() throws IOException {
+        long[] hashes = new long[indexCount];
+        int[] segmentsOf = new int[indexCount];
+        long[] offsets = new long[indexCount];
+        int[] lengths = new int[indexCount];
+        int live = 0;
+        for (int slot = 0; slot < indexCapacity; slot++) {
+            long hash = index.getLong(slotPosition(slot));
+            if (hash != 0) {
+                hashes[live] = hash;
+                segmentsOf[live] = slotSegment(slot);
+                offsets[live] = slotOffset(slot);
+                lengths[live++] = slotLength(slot);
+            }
+        }
+        createIndex(indexCapacity * 2);
+        for (int entry = 0; entry < live; entry++) {
+            int slot = slotFor(hashes[entry]);
+            while (index.getLong(slotPosition(slot)) != 0) {
+                slot = (slot + 1) & (indexCapacity - 1);
+            }
+            writeSlot(slot, hashes[entry], segmentsOf[entry], offsets[entry], lengths[entry]);
+        }
+        indexCount = live;
+        index.putInt(12, indexCount);
+    }
+
+    private void writeSlot(int slot, long hash, int segment, long offset, int length) {
+        int position = slotPosition(slot);
+        index.putInt(position + 8, segment);
+        index.putInt(position + 12, length);
+        index.putLong(position + 16, offset);
+        index.putLong(position, hash);                              //Hash last - a slot is only visible once complete.
+    }
+
+    private int slotPosition(int slot) {
+        return INDEX_HEADER + slot * SLOT_BYTES;
+    }
+
+    private int slotSegment(int slot) {
+        return index.getInt(slotPosition(slot) + 8);
+    }
+
+    private int slotLength(int slot) {
+        return index.getInt(slotPosition(slot) + 12);
+    }
+
+    private long slotOffset(int slot) {
+        return index.getLong(slotPosition(slot) + 16);
+    }
+
+    private int slotFor(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & (indexCapacity - 1);
+    }
+
+    //FNV-1a 64 bit - 0 marks an empty slot, so it is never returned.
+    private static long hash(byte[] idBytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : idBytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static byte[] validId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Invalid id (must not be blank).");
+        }
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        if (idBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Invalid id (too long).");
+        }
+        return idBytes;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Move history log has been closed.");
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package uk.ac.mmu.game.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of aggregated batch results (enable with storage.result-cache.enabled=true), used by MonteCarloSimulationRunner
+ * for seeded runs. Two tiers:
+ *  - memory: an LRU map of the last memory-entries results,
+ *  - disk: one small .stats file per result under dir, evicted least recently used first once the files
+ *    take more than max-disk-bytes.
+ * Results are keyed by SimulationResultKey. Since every game's seed only depends on the master seed and the game's
+ * index, the results of the first k games of a run are also the start of any longer run - getLargestPrefix finds
+ * them, so a request for more games only plays the missing ones.
+ * Returned statistics are copies, so callers may merge into them.
+ */
+@Service
+@ConditionalOnProperty(prefix = "storage.result-cache", name = "enabled", havingValue = "true")
+public class SimulationResultCache {
+    private static final String EXTENSION = ".stats";
+    private static final int MAGIC = 0x46524331;            //"FRC1"
+
+    private final Path baseDir;
+    private final long maxDiskBytes;
+    private final Map<String, CombinationStatistics> memory;    //Guarded by itself - access ordered, so the eldest is the least recently used.
+    private final Object diskLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder partialHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SimulationResultCache(@Value("${storage.result-cache.dir:./data/result-cache}") String dir,
+                                 @Value("${storage.result-cache.memory-entries:256}") int memoryEntries,
+                                 @Value("${storage.result-cache.max-disk-bytes:67108864}") long maxDiskBytes) {
+        if (memoryEntries < 0 || maxDiskBytes < 0) {
+            throw new IllegalArgumentException("Cache sizes cannot be negative.");
+        }
+        this.baseDir = Paths.get(dir).toAbsolutePath().normalize();
+        this.maxDiskBytes = maxDiskBytes;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CombinationStatistics> eldest) {
+                return size() > memoryEntries;
+            }
+        };
+    }
+
+    /**
+     * Results of exactly this run and game count, if cached.
+     */
+    public Optional<CombinationStatistics> get(SimulationResultKey key) {
+        Optional<CombinationStatistics> cached = lookup(key);
+        (cached.isPresent() ? hits : misses).increment();
+        return cached;
+    }
+
+    /**
+     * Results of the longest cached run of the same spec with no more than key.getGames() games - the exact run
+     * when it is cached, otherwise a shorter one to extend. Empty when there is none.
+     */
+    public Optional<CombinationStatistics> getLargestPrefix(SimulationResultKey key) {
+        int best = 0;
+        String prefix = key.getRunHash() + "-";
+        synchronized (memory) {
+            for (String id : memory.keySet()) {
+                if (id.startsWith(prefix)) {
+                    best = bestGames(best, id.substring(prefix.length()), key.getGames());
+                }
+            }
+        }
+        if (best < key.getGames() && Files.isDirectory(baseDir)) {
+            synchronized (diskLock) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(baseDir, prefix + "*" + EXTENSION)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        best = bestGames(best, name.substring(prefix.length(), name.length() - EXTENSION.length()), key.getGames());
+                    }
+                } catch (IOException e) {
+                    System.err.println("Result cache: could not list " + baseDir + ": " + e.getMessage());
+                }
+            }
+        }
+        Optional<CombinationStatistics> cached = best == 0 ? Optional.empty() : lookup(key.withGames(best));
+        if (cached.isEmpty()) {
+            misses.increment();
+        } else {
+            (best == key.getGames() ? hits : partialHits).increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Stores the results of a run in both tiers. A failed disk write is reported and leaves the memory tier only.
+     */
+    public void put(SimulationResultKey key, CombinationStatistics statistics) {
+        if (statistics.getGames() != key.getGames()) {
+            throw new IllegalArgumentException("Statistics hold " + statistics.getGames() + " games, the key " + key.getGames());
+        }
+        if (!statistics.getCombination().equals(key.getCombination())) {
+            throw new IllegalArgumentException("Statistics are for " + statistics.getCombination() + ", the key for " + key.getCombination());
+        }
+        synchronized (memory) {
+            memory.put(key.getId(), copy(statistics));
+        }
+        if (maxDiskBytes == 0) {
+            return;
+        }
+        synchronized (diskLock) {
+            try {
+                Files.createDirectories(baseDir);           //Created on first save - the cache is opt-in.
+                Path tmp = Files.createTempFile(baseDir, "result-", ".tmp");
+                try {
+                    Files.write(tmp, encode(key, statistics));
+                    Files.move(tmp, baseDir.resolve(key.getId() + EXTENSION), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+                evictDisk();
+            } catch (IOException e) {
+                System.err.println("Result cache: could not save " + key + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    //Lookups answered by a shorter run that was then extended.
+    public long getPartialHits() {
+        return partialHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int getMemoryEntryCount() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    public long getDiskBytes() {
+        synchronized (diskLock) {
+            try {
+                long total = 0;
+                for (Path file : listCacheFiles()) {
+                    total += Files.size(file);
+                }
+                return total;
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+    }
+
+    private Optional<CombinationStatistics> lookup(SimulationResultKey key) {
+        synchronized (memory) {
+            CombinationStatistics cached = memory.get(key.getId());
+            if (cached != null) {
+                return Optional.of(copy(cached));
+            }
+        }
+        Path file = baseDir.resolve(key.getId() + EXTENSION);
+        CombinationStatistics loaded;
+        synchronized (diskLock) {
+            if (!Files.exists(file)) {
+                return Optional.empty();
+            }
+            try {
+                loaded = decode(key, Files.readAllBytes(file));
+                if (loaded == null) {
+                    return Optional.empty();                //Hash clash or an older engine version - not this run.
+                }
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));   //Recently used.
+            } catch (IOException e) {
+                System.err.println("Result cache: could not read " + file + ": " + e.getMessage());
+                return Optional.empty();
+            }
+        }
+        synchronized (memory) {
+            memory.put(key.getId(), loaded);
+        }
+        return Optional.of(copy(loaded));
+    }
+
+    private static int bestGames(int best, String games, int limit) {
+        try {
+            int candidate = Integer.parseInt(games);
+            return candidate <= limit && candidate > best ? candidate : best;
+        } catch (NumberFormatException e) {
+            return best;                                    //Not one of ours.
+        }
+    }
+
+    //Deletes the least recently used files until the cache fits in maxDiskBytes. Called holding diskLock.
+    private void evictDisk() throws IOException {
+        List<Path> files = listCacheFiles();
+        Map<Path, Long> sizes = new LinkedHashMap<>();
+        Map<Path, FileTime> used = new LinkedHashMap<>();
+        long total = 0;
+        for (Path file : files) {
+            long size = Files.size(file);
+            sizes.put(file, size);
+            used.put(file, Files.getLastModifiedTime(file));
+            total += size;
+        }
+        if (total <= maxDiskBytes) {
+            return;
+        }
+        files.sort(Comparator.comparing(used::get));
+        for (Path file : files) {
+            if (total <= maxDiskBytes) {
+                break;
+            }
+            Files.deleteIfExists(file);
+            total -= sizes.get(file);
+        }
+    }
+
+    private List<Path> listCacheFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(baseDir)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(baseDir, "*" + EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * File layout: magic, the canonical run (checked on read, so a hash clash is a miss), game count,
+     * then the counts as written by GameOutcomeStatistics.writeCounts.
+     */
+    private static byte[] encode(SimulationResultKey key, CombinationStatistics statistics) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeUTF(key.getCanonicalRun());
+            out.writeInt(key.getGames());
+            statistics.writeCounts(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CombinationStatistics decode(SimulationResultKey key, byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || !in.readUTF().equals(key.getCanonicalRun()) || in.readInt() != key.getGames()) {
+                return null;
+            }
+            CombinationStatistics statistics = MonteCarloSimulationRunner.emptyStatistics(key.getCombination());
+            statistics.readCounts(in);
+            return statistics.getGames() == key.getGames() ? statistics : null;
+        }
+    }
+
+    private static CombinationStatistics copy(CombinationStatistics statistics) {
+        CombinationStatistics copy = MonteCarloSimulationRunner.emptyStatistics(statistics.getCombination());
+        copy.merge(statistics);
+        return copy;
+    }
+}
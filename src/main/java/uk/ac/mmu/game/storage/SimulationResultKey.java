@@ -0,0 +1,98 @@
+package uk.ac.mmu.game.storage;
+
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Cache key of a batch run: the canonical description of the run - engine version, option combination, the max moves
+ * the games are played with and master seed - hashed with SHA-256, plus the number of games. Runs that only differ in their game count
+ * share the hash, which is how SimulationResultCache finds a smaller run to extend.
+ */
+public final class SimulationResultKey {
+    private final SimulationCombination combination;
+    private final String canonicalRun;
+    private final String runHash;
+    private final int games;
+
+    private SimulationResultKey(SimulationCombination combination, String canonicalRun, String runHash, int games) {
+        this.combination = combination;
+        this.canonicalRun = canonicalRun;
+        this.runHash = runHash;
+        this.games = games;
+    }
+
+    /**
+     * @param maxMoves - the effective limit of the GameConfiguration the games are played with (GameConfiguration.getMaxMoves()).
+     */
+    public static SimulationResultKey forCombination(SimulationCombination combination, int maxMoves, long masterSeed, int games) {
+        if (games < 1) {
+            throw new IllegalArgumentException("Games must be at least 1: " + games);
+        }
+        if (maxMoves < 1) {
+            throw new IllegalArgumentException("Max moves must be at least 1: " + maxMoves);
+        }
+        String canonicalRun = "engine=" + GameEngine.ENGINE_VERSION + ";combination=" + combination
+                + ";maxMoves=" + maxMoves + ";seed=" + masterSeed;
+        return new SimulationResultKey(combination, canonicalRun, sha256(canonicalRun), games);
+    }
+
+    //Same run, another game count.
+    public SimulationResultKey withGames(int games) {
+        if (games < 1) {
+            throw new IllegalArgumentException("Games must be at least 1: " + games);
+        }
+        return new SimulationResultKey(combination, canonicalRun, runHash, games);
+    }
+
+    public SimulationCombination getCombination() {
+        return combination;
+    }
+
+    public String getCanonicalRun() {
+        return canonicalRun;
+    }
+
+    public String getRunHash() {
+        return runHash;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    //Memory key and file name: the run hash and the game count.
+    public String getId() {
+        return runHash + "-" + games;
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);     //Every JDK has it.
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SimulationResultKey other)) return false;
+        return games == other.games && canonicalRun.equals(other.canonicalRun);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(canonicalRun, games);
+    }
+
+    @Override
+    public String toString() {
+        return canonicalRun + ";games=" + games;
+    }
+}
@@ -0,0 +1,29 @@
+package uk.ac.mmu.game.storage;
+
+import java.nio.file.Path;
+
+/**
+ * File naming shared by the one-file-per-game stores.
+ */
+final class StorageFiles {
+
+    private StorageFiles() {
+    }
+
+    /**
+     * The file for a game id inside baseDir - the id is reduced to letters, digits, '_' and '-',
+     * so it can never name a file outside the directory.
+     */
+    static Path resolveSafeFile(Path baseDir, String id, String extension) {
+        String safe = id == null ? "" : id.replaceAll("[^a-zA-Z0-9_-]", "");
+        if (safe.isBlank()) {
+            throw new IllegalArgumentException("Invalid id (must contain letters/numbers/_/-).");
+        }
+
+        Path file = baseDir.resolve(safe + extension).normalize();
+        if (!file.startsWith(baseDir)) {
+            throw new IllegalArgumentException("Invalid id.");
+        }
+        return file;
+    }
+}
@@ -3,11 +3,31 @@ package uk.ac.mmu.game;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+//Spring Boot tests switch JMX off by default - turned back on to check the actuator exposure in application.yaml.
+//The startup games still run, but save under target/ rather than ./data in the working tree.
+@SpringBootTest(properties = {
+		"spring.jmx.enabled=true",
+		"storage.move-history-dir=target/test-data/move-history",
+		"storage.binary-history-dir=target/test-data/move-history-bin",
+		"storage.segmented.dir=target/test-data/move-history-log",
+		"storage.database.url=jdbc:h2:file:./target/test-data/game-results",
+		"storage.result-cache.dir=target/test-data/result-cache"
+})
 class FrustrationGameApplicationTests {
 
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void metricsEndpointIsExposedOverJmx() throws Exception {
+		assertFalse(ManagementFactory.getPlatformMBeanServer()
+				.queryNames(new ObjectName("org.springframework.boot:type=Endpoint,name=Metrics,*"), null).isEmpty());
+	}
+
 }
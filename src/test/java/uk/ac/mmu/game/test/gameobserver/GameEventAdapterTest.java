@@ -0,0 +1,118 @@
+package uk.ac.mmu.game.test.gameobserver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.factories.gateway.BoardFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameconfig.BoardOption;
+import uk.ac.mmu.game.gameconfig.PlayerOption;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.events.*;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.playersgamepositions.PlayersMoveHistory;
+import uk.ac.mmu.game.playersgamepositions.PlayersPosition;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEventAdapterTest {
+
+    @Test
+    @DisplayName("Typed events: every turn matches the recorded game, and game over reports the winner")
+    public void testEventsMatchRecordedGame() {
+        for (SimulationCombination combination : SimulationCombination.all()) {
+            long seed = 300L + combination.ordinal();
+            List<int[]> turns = new ArrayList<>();           //seat, roll, outcome, from, to - copied, as events are reused.
+            List<String> transitions = new ArrayList<>();
+            int[] result = new int[2];
+            GameEventListener listener = new GameEventListener() {
+                @Override
+                public void onMove(MoveEvent event) {
+                    turns.add(new int[]{event.getSeat(), event.getRoll(), GameRecord.MOVED, event.getFromIndex(), event.getToIndex()});
+                }
+
+                @Override
+                public void onBlocked(BlockedEvent event) {
+                    turns.add(new int[]{event.getSeat(), event.getRoll(), GameRecord.BLOCKED, event.getFromIndex(), event.getAttemptedIndex()});
+                }
+
+                @Override
+                public void onEndReached(EndReachedEvent event) {
+                    turns.add(new int[]{event.getSeat(), event.getRoll(), GameRecord.END_REACHED, event.getFromIndex(), event.getToIndex()});
+                }
+
+                @Override
+                public void onEndForfeit(EndForfeitEvent event) {
+                    turns.add(new int[]{event.getSeat(), event.getRoll(), GameRecord.END_FORFEIT, event.getFromIndex(), event.getFromIndex()});
+                }
+
+                @Override
+                public void onStateTransition(StateTransitionEvent event) {
+                    transitions.add(event.getOldState() + "->" + event.getNewState());
+                }
+
+                @Override
+                public void onGameOver(GameOverEvent event) {
+                    result[0] = event.getWinnerSeat();
+                    result[1] = event.getTotalGameMoves();
+                    assertEquals(event.getWinnerSeat() < 0, event.isMaxMovesReached());
+                }
+            };
+            GameRecordRecorder recorder = new GameRecordRecorder(combination, OptionalLong.of(seed));
+            List<GameListener> listeners = List.of(new GameEventAdapter(listener), recorder);
+            GameEngine engine = new GameEngine(new GameConfiguration(combination.getPlayerOption(), combination.getDiceOption(),
+                    combination.getBoardOption(), combination.getHitOption(), combination.getEndOption(), seed, listeners));
+            engine.playGame();
+
+            GameRecord record = recorder.getRecord();
+            assertEquals(record.getEventCount(), turns.size(), combination.toString());
+            for (int event = 0; event < turns.size(); event++) {
+                int[] turn = turns.get(event);
+                assertArrayEquals(new int[]{record.getSeat(event), record.getRoll(event), record.getOutcome(event),
+                        record.getFromIndex(event), record.getToIndex(event)}, turn, combination + " turn " + (event + 1));
+            }
+            assertEquals(List.of("Ready->In Play", "In Play->Game Over"), transitions);
+            assertEquals(engine.getWinnerSeat(), result[0]);
+            assertEquals(engine.getTotalGameMoves(), result[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Typed events: a million callbacks through the adapter allocate nothing")
+    public void testAdapterDoesNotAllocatePerEvent() {
+        Player[] players = PlayerFactoryGateway.createPlayers(PlayerOption.FOUR);
+        PlayersGameState state = new PlayersGameState(players, BoardFactoryGateway.createBoard(BoardOption.LARGE));
+        PlayersInGameContext context = new PlayersInGameContext(new PlayersPosition(state, 1), new PlayersMoveHistory());
+        long[] rolled = new long[1];
+        GameEventAdapter adapter = new GameEventAdapter(new GameEventListener() {
+            @Override
+            public void onMove(MoveEvent event) {
+                rolled[0] += event.getRoll();
+            }
+        });
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int round = 0; round < 2; round++) {           //First round warms up - only the second is measured.
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int event = 0; event < 1_000_000; event++) {
+                adapter.onSuccessfulMove(players[1], context, 9, false, 9 + (event & 7), false, event & 7);
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            if (round == 1) {
+                assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes for a million events");
+            }
+        }
+        assertTrue(rolled[0] > 0);
+    }
+}
@@ -0,0 +1,91 @@
+package uk.ac.mmu.game.test.gameobserver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.gameobserver.ObserverConsoleLogger;
+import uk.ac.mmu.game.gameobserver.ObserverConsoleLoggerFactory;
+import uk.ac.mmu.game.gamerecord.GameRecordReader;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.storage.PlayersMoveHistoryFileStore;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObserverConsoleLoggerFactoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Logger sessions: games played in parallel each save their own, complete history")
+    public void testConcurrentGamesKeepSeparateHistories() throws Exception {
+        PlayersMoveHistoryFileStore jsonStore = new PlayersMoveHistoryFileStore(directory.toString(), new ObjectMapper());
+        ObserverConsoleLoggerFactory factory = new ObserverConsoleLoggerFactory(jsonStore);
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<GameRecordRecorder>> games = new ArrayList<>();
+        try {
+            //Every combination four times over, all at once.
+            for (int round = 0; round < 4; round++) {
+                for (SimulationCombination combination : SimulationCombination.all()) {
+                    long seed = 500L + round * 100 + combination.ordinal();
+                    String id = combination + "_" + round;
+                    games.add(pool.submit(() -> {
+                        GameRecordRecorder recorder = new GameRecordRecorder(combination, OptionalLong.of(seed));
+                        new GameEngine(new GameConfiguration(combination.getPlayerOption(), combination.getDiceOption(),
+                                combination.getBoardOption(), combination.getHitOption(), combination.getEndOption(), seed,
+                                List.of(factory.newSession(id), recorder))).playGame();
+                        return recorder;
+                    }));
+                }
+            }
+            for (Future<GameRecordRecorder> game : games) {
+                game.get();
+            }
+        } finally {
+            pool.shutdownNow();
+            System.setOut(console);
+        }
+
+        //Each history matches its own game line for line - nothing from another game leaked in.
+        for (Future<GameRecordRecorder> game : games) {
+            GameRecordRecorder recorder = game.get();
+            String id = recorder.getRecord().getCombination() + "_" + (recorder.getRecord().getSeed().getAsLong() - 500) / 100;
+            assertEquals(GameRecordReader.toHistory(recorder.getRecord()), jsonStore.load(id).orElseThrow(), id);
+        }
+        assertEquals(0, factory.getOpenSessionCount());
+    }
+
+    @Test
+    @DisplayName("Logger sessions: an unfinished history is committed on shutdown")
+    public void testOpenSessionClosedOnShutdown() throws Exception {
+        PlayersMoveHistoryFileStore jsonStore = new PlayersMoveHistoryFileStore(directory.toString(), new ObjectMapper());
+        ObserverConsoleLoggerFactory factory = new ObserverConsoleLoggerFactory(jsonStore);
+
+        ObserverConsoleLogger session = factory.newSession("Unfinished");
+        session.onStateTransition("Ready", "In Play");
+        assertEquals(1, factory.getOpenSessionCount());
+        assertTrue(jsonStore.load("Unfinished").isEmpty());
+
+        factory.closeOpenSessions();
+        assertEquals(0, factory.getOpenSessionCount());
+        assertEquals(List.of("\nGAME STATE : Ready -> In Play"), jsonStore.load("Unfinished").orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> factory.newSession(" "));
+    }
+}
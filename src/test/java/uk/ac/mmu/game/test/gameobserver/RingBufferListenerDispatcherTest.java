@@ -0,0 +1,86 @@
+package uk.ac.mmu.game.test.gameobserver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.dispatch.OverflowPolicy;
+import uk.ac.mmu.game.gameobserver.dispatch.RingBufferListenerDispatcher;
+import uk.ac.mmu.game.gameobserver.dispatch.WaitStrategy;
+import uk.ac.mmu.game.gamerecord.GameRecordReader;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.test.mocks.MockGameListener;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferListenerDispatcherTest {
+
+    private static void play(SimulationCombination combination, long seed, List<GameListener> listeners) {
+        new GameEngine(new GameConfiguration(combination.getPlayerOption(), combination.getDiceOption(),
+                combination.getBoardOption(), combination.getHitOption(), combination.getEndOption(), seed, listeners)).playGame();
+    }
+
+    @Test
+    @DisplayName("Dispatcher: BLOCK delivers every event, in order, for every wait strategy")
+    public void testBlockDeliversEveryEvent() {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            for (SimulationCombination combination : SimulationCombination.all()) {
+                long seed = 900L + combination.ordinal();
+                GameRecordRecorder direct = new GameRecordRecorder(combination, OptionalLong.of(seed));
+                play(combination, seed, List.of(direct));
+
+                //A tiny buffer makes the game thread wait on the consumers all the time.
+                GameRecordRecorder dispatched = new GameRecordRecorder(combination, OptionalLong.of(seed));
+                MockGameListener mock = new MockGameListener();
+                RingBufferListenerDispatcher dispatcher = new RingBufferListenerDispatcher(
+                        List.of(dispatched, mock), 4, waitStrategy, OverflowPolicy.BLOCK);
+                play(combination, seed, List.of(dispatcher));
+                dispatcher.close();
+
+                assertEquals(GameRecordReader.toHistory(direct.getRecord()),
+                        GameRecordReader.toHistory(dispatched.getRecord()), waitStrategy + " " + combination);
+                assertEquals(direct.getRecord().getEventCount(), mock.getEvents().size());
+                assertTrue(mock.wasGameOverCalled());
+                assertEquals(0, dispatcher.getDroppedEvents());
+                if (waitStrategy == WaitStrategy.BUSY_SPIN) {
+                    break;                              //One game is enough - spinning threads share a single core here.
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Dispatcher: DROP never waits on a slow listener, but keeps transitions and game over")
+    public void testDropKeepsLifecycleEvents() {
+        SimulationCombination combination = SimulationCombination.all().get(0);
+        MockGameListener slow = new MockGameListener() {
+            @Override
+            public void onSuccessfulMove(Player p, PlayersInGameContext c, String from, String to, int roll) {
+                super.onSuccessfulMove(p, c, from, to, roll);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RingBufferListenerDispatcher dispatcher = new RingBufferListenerDispatcher(
+                List.of(slow), 2, WaitStrategy.BLOCKING, OverflowPolicy.DROP);
+        GameRecordRecorder direct = new GameRecordRecorder(combination, OptionalLong.of(5L));
+        play(combination, 5L, List.of(dispatcher, direct));
+        dispatcher.close();
+
+        assertTrue(dispatcher.getDroppedEvents() > 0);
+        assertEquals(direct.getRecord().getEventCount(), slow.getEvents().size() + dispatcher.getDroppedEvents());
+        assertEquals(List.of("Ready->In Play", "In Play->Game Over"), slow.getTransitions());
+        assertTrue(slow.wasGameOverCalled());
+        assertThrows(IllegalStateException.class, () -> dispatcher.onStateTransition("Ready", "In Play"));
+    }
+}
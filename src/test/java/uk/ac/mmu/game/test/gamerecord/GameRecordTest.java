@@ -0,0 +1,109 @@
+package uk.ac.mmu.game.test.gamerecord;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
+import uk.ac.mmu.game.factories.gateway.DiceFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.EndFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.HitFactoryGateway;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.ObserverConsoleLogger;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.gamerecord.GameRecordCodec;
+import uk.ac.mmu.game.gamerecord.GameRecordReader;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.players.GeneratedPlayer;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.storage.BinaryGameRecordStore;
+import uk.ac.mmu.game.storage.PlayersMoveHistoryFileStore;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRecordTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Binary record: rebuilt text matches the console logger history for every combination")
+    public void testRecordRebuildsConsoleHistory() throws Exception {
+        PlayersMoveHistoryFileStore jsonStore = new PlayersMoveHistoryFileStore(directory.resolve("json").toString(), new ObjectMapper());
+        BinaryGameRecordStore binaryStore = new BinaryGameRecordStore(directory.resolve("bin").toString());
+
+        long jsonBytes = 0;
+        long binaryBytes = 0;
+        for (SimulationCombination combination : SimulationCombination.all()) {
+            long seed = 1000L + combination.ordinal();
+            String id = combination.toString();
+            GameRecordRecorder recorder = new GameRecordRecorder(combination, OptionalLong.of(seed));
+            List<GameListener> listeners = List.of(new ObserverConsoleLogger(jsonStore, id), recorder);
+            GameEngine engine = new GameEngine(new GameConfiguration(combination.getPlayerOption(), combination.getDiceOption(),
+                    combination.getBoardOption(), combination.getHitOption(), combination.getEndOption(), seed, listeners));
+            engine.playGame();
+            binaryStore.save(id, recorder.getRecord());
+
+            //1. Binary round trip keeps the header, every event and the result.
+            GameRecord loaded = binaryStore.load(id).orElseThrow();
+            assertEquals(combination, loaded.getCombination());
+            assertEquals(seed, loaded.getSeed().getAsLong());
+            assertEquals(engine.getWinnerSeat(), loaded.getWinnerSeat());
+            assertEquals(engine.getTotalGameMoves(), loaded.getEventCount());
+            assertEquals(GameRecordReader.toHistory(recorder.getRecord()), GameRecordReader.toHistory(loaded));
+
+            //2. The JSON history must match the rebuilt text line for line (won games - the size ratio is measured on these).
+            if (engine.getWinnerSeat() >= 0) {
+                assertEquals(jsonStore.load(id).orElseThrow(), binaryStore.loadHistory(id).orElseThrow(), id);
+                jsonBytes += Files.size(directory.resolve("json").resolve(id + ".json"));
+                binaryBytes += Files.size(directory.resolve("bin").resolve(id + ".fgr"));
+            }
+        }
+        assertTrue(jsonBytes >= 20 * binaryBytes, "JSON " + jsonBytes + " bytes vs binary " + binaryBytes + " bytes");
+    }
+
+    @Test
+    @DisplayName("Binary record: capped games keep the MAX_MOVES lines and corrupt input is rejected")
+    public void testCappedGameAndCorruptInput() throws Exception {
+        SimulationCombination combination = SimulationCombination.all().get(0);
+        GameRecord record = new GameRecord(combination, OptionalLong.empty(), GameEngine.MAX_MOVES, new String[]{"Red", "Blue"});
+        record.addEvent(0, 3, GameRecord.outcomeCode(GameRecord.MOVED, false, false, 0), 0, 3);
+        record.addEvent(1, 5, GameRecord.outcomeCode(GameRecord.END_FORFEIT, true, true, 2), 19, 19);
+        record.setResult(-1, GameEngine.MAX_MOVES);
+
+        List<String> history = GameRecordReader.toHistory(GameRecordCodec.decode(GameRecordCodec.encode(record)));
+        assertEquals(List.of(
+                "\nGAME STATE : Ready -> In Play",
+                "Red turn 1 rolled 3 with the dice | moves from Home (position 1) to position 4 | successful move",
+                "Blue turn 1 rolled 5 with the dice | overshot by 2, move forfeited, stays on Tail position B2",
+                "\nGame terminated: Reached maximum move limit of 100",
+                "\nGAME STATE : In Play -> Game Over"), history);
+
+        byte[] bytes = GameRecordCodec.encode(record);
+        assertThrows(java.io.IOException.class, () -> GameRecordCodec.decode(java.util.Arrays.copyOf(bytes, bytes.length - 3)));
+        bytes[0] = 'X';
+        assertThrows(java.io.IOException.class, () -> GameRecordCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("Binary record: games on a configurable board with generated players are rejected")
+    public void testNonStandardGameIsRejected() {
+        SimulationCombination combination = SimulationCombination.all().get(0);
+        ConfigurableGameBoard board = new ConfigurableGameBoard(30, 3, 4);
+        GameRecordRecorder recorder = new GameRecordRecorder(combination, OptionalLong.of(1L));
+        GameEngine engine = new GameEngine(new GameConfiguration(GeneratedPlayer.seatedOn(board, 3), board,
+                DiceFactoryGateway.createSeededDice(combination.getDiceOption(), 1L),
+                EndFactoryGateway.createEndStrategy(board, combination.getEndOption()),
+                HitFactoryGateway.createHitStrategy(combination.getHitOption()), List.of(recorder)));
+
+        IllegalArgumentException rejected = assertThrows(IllegalArgumentException.class, engine::playGame);
+        assertTrue(rejected.getMessage().contains("3 seats"), rejected.getMessage());
+    }
+}
@@ -3,17 +3,21 @@ package uk.ac.mmu.game.test.gamestrategies;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
 import uk.ac.mmu.game.board.GameBoard;
 import uk.ac.mmu.game.board.SmallGameBoard;
 import uk.ac.mmu.game.gamestrategies.EndStrategy;
 import uk.ac.mmu.game.gamestrategies.HitStrategy;
+import uk.ac.mmu.game.gamestrategies.MoveOutcomeTable;
 import uk.ac.mmu.game.gamestrategies.endimplementations.ExactEndStrategy;
 import uk.ac.mmu.game.gamestrategies.endimplementations.OvershootAllowedStrategy;
 import uk.ac.mmu.game.gamestrategies.hitimplementations.AllowHitStrategy;
 import uk.ac.mmu.game.gamestrategies.hitimplementations.ForfeitOnHitStrategy;
 import uk.ac.mmu.game.players.BluePlayer;
+import uk.ac.mmu.game.players.GreenPlayer;
 import uk.ac.mmu.game.players.Player;
 import uk.ac.mmu.game.players.RedPlayer;
+import uk.ac.mmu.game.playersgamepositions.PlayersGameState;
 import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
 import uk.ac.mmu.game.playersgamepositions.PlayersMoveHistory;
 import uk.ac.mmu.game.playersgamepositions.PlayersPosition;
@@ -138,4 +142,66 @@ public class StrategyTest {
         assertTrue(strategy.canMoveToPosition(redPlayer, 10, allPlayers, smallBoard),
                 "Should allow move to occupied position");
     }
+
+    @Test
+    @DisplayName("ForfeitOnHitStrategy: occupancy index tracks moves and shared squares")
+    public void testForfeitOnHitUsesOccupancyIndex() {
+        HitStrategy strategy = new ForfeitOnHitStrategy();
+        PlayersGameState state = new PlayersGameState(
+                new Player[]{ redPlayer, bluePlayer, new GreenPlayer() }, smallBoard);
+
+        // Red (0) and Blue (9) start on the shared board, Green starts at 18 which is beyond the small board
+        assertEquals(1, state.getOccupancy(0));
+        assertEquals(1, state.getOccupancy(9));
+        assertTrue(strategy.canMoveToPosition(0, 5, state, smallBoard), "Empty square");
+        assertFalse(strategy.canMoveToPosition(0, 9, state, smallBoard), "Blue's square");
+
+        // Blue moves on - the old square is released and the new one occupied
+        state.setBoardIndex(1, 12);
+        assertTrue(strategy.canMoveToPosition(0, 9, state, smallBoard), "Square released by Blue");
+        assertFalse(strategy.canMoveToPosition(0, 12, state, smallBoard), "Square now held by Blue");
+
+        // Two players sharing a square (allowed under AllowHitStrategy) still block a third
+        state.setBoardIndex(0, 12);
+        assertEquals(2, state.getOccupancy(12));
+        assertFalse(strategy.canMoveToPosition(0, 12, state, smallBoard), "Blue still on the square");
+        assertFalse(strategy.canMoveToPosition(2, 12, state, smallBoard), "Red and Blue on the square");
+    }
+
+    @Test
+    @DisplayName("MoveOutcomeTable: precompiled outcomes match the end strategies and are shared")
+    public void testMoveOutcomeTable() {
+        MoveOutcomeTable exact = MoveOutcomeTable.forConfiguration(smallBoard, new ExactEndStrategy(smallBoard));
+        MoveOutcomeTable overshoot = MoveOutcomeTable.forConfiguration(smallBoard, new OvershootAllowedStrategy(smallBoard));
+
+        // Shared board and tail entry are the same for both rules
+        assertEquals(MoveOutcomeTable.SHARED_BOARD, MoveOutcomeTable.kind(exact.lookup(0, 6)));
+        assertEquals(6, MoveOutcomeTable.targetSteps(exact.lookup(0, 6)));
+        assertEquals(MoveOutcomeTable.TAIL, MoveOutcomeTable.kind(exact.lookup(15, 4)));
+        assertEquals(19, MoveOutcomeTable.targetSteps(exact.lookup(15, 4)));
+
+        // Exact landing wins under both rules
+        assertEquals(MoveOutcomeTable.WIN, MoveOutcomeTable.kind(exact.lookup(15, 5)));
+        assertEquals(MoveOutcomeTable.WIN, MoveOutcomeTable.kind(overshoot.lookup(15, 5)));
+
+        // Overshooting by 2 is forfeited under exact end, but wins (clamped to the end) when allowed
+        assertEquals(MoveOutcomeTable.OVERSHOOT_FORFEIT, MoveOutcomeTable.kind(exact.lookup(15, 7)));
+        assertEquals(2, MoveOutcomeTable.overshoot(exact.lookup(15, 7)));
+        assertEquals(MoveOutcomeTable.WIN, MoveOutcomeTable.kind(overshoot.lookup(15, 7)));
+        assertEquals(2, MoveOutcomeTable.overshoot(overshoot.lookup(15, 7)));
+        assertEquals(20, MoveOutcomeTable.targetSteps(overshoot.lookup(15, 7)));
+
+        // Rolls outside the table (fixed dice) are computed on demand
+        assertEquals(MoveOutcomeTable.OVERSHOOT_FORFEIT, MoveOutcomeTable.kind(exact.lookup(0, 99)));
+
+        // Tables are cached per configuration
+        assertSame(exact, MoveOutcomeTable.forConfiguration(new SmallGameBoard(), new ExactEndStrategy(new SmallGameBoard())));
+
+        // Only the most recent configurations are kept - a sweep over board sizes pushes the small board out
+        for (int boardLength = 100; boardLength < 200; boardLength++) {
+            GameBoard sweepBoard = new ConfigurableGameBoard(boardLength, 6, 4);
+            MoveOutcomeTable.forConfiguration(sweepBoard, new ExactEndStrategy(sweepBoard));
+        }
+        assertNotSame(exact, MoveOutcomeTable.forConfiguration(smallBoard, new ExactEndStrategy(smallBoard)));
+    }
 }
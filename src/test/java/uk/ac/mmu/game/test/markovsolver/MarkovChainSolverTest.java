@@ -0,0 +1,81 @@
+package uk.ac.mmu.game.test.markovsolver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.gameconfig.BoardOption;
+import uk.ac.mmu.game.gameconfig.PlayerOption;
+import uk.ac.mmu.game.markovsolver.ExactGameSolution;
+import uk.ac.mmu.game.markovsolver.MarkovChainSolver;
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MarkovChainSolverTest {
+
+    //Four players on the large board have ~2.8M states each - solved in seconds, but left out to keep the suite quick.
+    private static List<SimulationCombination> quickCombinations() {
+        return SimulationCombination.all().stream()
+                .filter(c -> c.getPlayerOption() == PlayerOption.TWO || c.getBoardOption() == BoardOption.SMALL)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Exact solver: win and MAX_MOVES probabilities cover every outcome")
+    public void testProbabilitiesSumToOne() {
+        MarkovChainSolver solver = new MarkovChainSolver();
+
+        for (SimulationCombination combination : quickCombinations()) {
+            ExactGameSolution solution = solver.solve(combination);
+            double total = solution.getMaxMovesProbability();
+            for (int seat = 0; seat < solution.getSeatCount(); seat++) {
+                total += solution.getWinProbability(seat);
+            }
+            assertEquals(1.0, total, 1e-9, solution.getCombination().toString());
+
+            double lengthTotal = 0.0;
+            for (double probability : solution.getLengthDistribution()) {
+                lengthTotal += probability;
+            }
+            assertEquals(1.0, lengthTotal, 1e-9, solution.getCombination().toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Exact solver: agrees with a seeded Monte Carlo batch within sampling error")
+    public void testAgreesWithMonteCarlo() {
+        int games = 20000;
+        List<SimulationCombination> combinations = quickCombinations();
+        Map<SimulationCombination, CombinationStatistics> simulated =
+                new MonteCarloSimulationRunner().runBatchSimulations(combinations, games, 4, 8675309L);
+        MarkovChainSolver solver = new MarkovChainSolver();
+
+        for (SimulationCombination combination : combinations) {
+            ExactGameSolution exact = solver.solve(combination);
+            CombinationStatistics statistics = simulated.get(combination);
+            for (int seat = 0; seat < exact.getSeatCount(); seat++) {
+                assertEquals(exact.getWinProbability(seat), statistics.getWins(seat) / (double) games, 0.02,
+                        combination + " seat " + seat);
+            }
+            assertEquals(exact.getMaxMovesProbability(), statistics.getMaxMovesTerminations() / (double) games, 0.02,
+                    combination.toString());
+            assertEquals(exact.getExpectedGameLength(), statistics.getMeanGameLength(),
+                    0.05 * exact.getExpectedGameLength(), combination.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Exact solver: a cap of one round only leaves wins reachable in that round")
+    public void testMaxMovesRoundBoundary() {
+        SimulationCombination combination = SimulationCombination.all().get(0);
+        ExactGameSolution solution = new MarkovChainSolver().solve(combination, 1);
+
+        //2 players, so a cap of 1 move still plays a full round of 2 moves - nobody can finish from Home.
+        assertEquals(2, solution.getMaxGameLength());
+        assertEquals(1.0, solution.getMaxMovesProbability(), 1e-12);
+    }
+}
@@ -0,0 +1,81 @@
+package uk.ac.mmu.game.test.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.metrics.CombinationMetrics;
+import uk.ac.mmu.game.metrics.LogLinearHistogram;
+import uk.ac.mmu.game.metrics.SimulationMetrics;
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationMetricsTest {
+
+    @Test
+    @DisplayName("Histogram: percentiles within one sub-bucket, exact mean and max")
+    public void testLogLinearHistogram() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(5000.5, histogram.getMean(), 1e-9);
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(10_000, histogram.getValueAtPercentile(100));
+        for (double percentile : new double[]{1, 50, 90, 99}) {
+            double exact = percentile * 100;
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact * 1.0625 + 1, percentile + "th = " + reported);
+        }
+        histogram.record(Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    @DisplayName("Metrics: totals match the batch statistics and are published to Micrometer")
+    public void testMetricsMatchBatchStatistics() throws Exception {
+        SimulationMetrics metrics = new SimulationMetrics(0);
+        MonteCarloSimulationRunner runner = new MonteCarloSimulationRunner(null, metrics, null);
+
+        List<SimulationCombination> combinations = List.of(
+                new SimulationCombination(PlayerOption.FOUR, DiceOption.ONE, BoardOption.SMALL, HitOption.FORBID, EndOption.EXACT),
+                new SimulationCombination(PlayerOption.TWO, DiceOption.TWO, BoardOption.LARGE, HitOption.ALLOW, EndOption.EXACT));
+        Map<SimulationCombination, CombinationStatistics> results = runner.runBatchSimulations(combinations, 500, 2, 11L);
+
+        long turns = 0;
+        for (SimulationCombination combination : combinations) {
+            CombinationStatistics statistics = results.get(combination);
+            CombinationMetrics combinationMetrics = metrics.forCombination(combination);
+            assertEquals(statistics.getGames(), combinationMetrics.getGames());
+            assertEquals(statistics.getHits(), combinationMetrics.getHits());
+            assertEquals(statistics.getEndForfeits(), combinationMetrics.getEndForfeits());
+            assertEquals(statistics.getMaxMovesTerminations(), combinationMetrics.getMaxMovesTerminations());
+            assertEquals(statistics.getMeanGameLength(), combinationMetrics.getGameLength().getMean(), 1e-9);
+            for (int seat = 0; seat < statistics.getSeatCount(); seat++) {
+                assertEquals(statistics.getWins(seat), combinationMetrics.getWins(seat));
+            }
+            turns += combinationMetrics.getTurns();
+        }
+        assertTrue(metrics.forCombination(combinations.get(0)).getHits() > 0, "FORBID games forfeit on hits");
+        assertTrue(metrics.forCombination(combinations.get(1)).getEndForfeits() > 0, "EXACT games forfeit on overshoots");
+        assertEquals(turns, metrics.getTotalTurns());
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+        String tag = combinations.get(0).toString();
+        assertEquals(500, registry.get("frustration.games").tag("combination", tag).functionCounter().count());
+        assertEquals(metrics.forCombination(combinations.get(0)).getHits(),
+                registry.get("frustration.hit.forfeits").tag("combination", tag).functionCounter().count());
+        assertTrue(registry.get("frustration.game.length").tags("combination", tag, "statistic", "p99").gauge().value() > 0);
+        assertTrue(metrics.toText().contains(tag));
+    }
+}
@@ -0,0 +1,108 @@
+package uk.ac.mmu.game.test.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gamerecord.GameRecord;
+import uk.ac.mmu.game.gamerecord.GameRecordReader;
+import uk.ac.mmu.game.gamerecord.GameRecordRecorder;
+import uk.ac.mmu.game.replay.GameReplay;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.test.mocks.MockGameListener;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameReplayTest {
+
+    private static GameRecord playRecordedGame(SimulationCombination combination, long seed) {
+        GameRecordRecorder recorder = new GameRecordRecorder(combination, OptionalLong.of(seed));
+        List<GameListener> listeners = List.of(recorder);
+        new GameEngine(new GameConfiguration(combination.getPlayerOption(), combination.getDiceOption(),
+                combination.getBoardOption(), combination.getHitOption(), combination.getEndOption(), seed, listeners)).playGame();
+        return recorder.getRecord();
+    }
+
+    @Test
+    @DisplayName("Replay: every combination replays to the recorded game, event for event")
+    public void testReplayMatchesRecord() {
+        for (SimulationCombination combination : SimulationCombination.all()) {
+            GameRecord record = playRecordedGame(combination, 500L + combination.ordinal());
+
+            GameRecordRecorder replayed = new GameRecordRecorder(combination, record.getSeed());
+            GameReplay replay = new GameReplay(record).attach(replayed);
+            replay.playToEnd();
+
+            assertEquals(record.getEventCount(), replay.getTurn(), combination.toString());
+            assertEquals(record.getWinnerSeat(), replay.getEngine().getWinnerSeat());
+            assertEquals(GameRecordReader.toHistory(record), GameRecordReader.toHistory(replayed.getRecord()));
+        }
+    }
+
+    @Test
+    @DisplayName("Replay: a game recorded with its own MAX_MOVES replays with that limit")
+    public void testReplayKeepsRecordedMaxMoves() {
+        SimulationCombination combination = SimulationCombination.all().get(0);
+        GameRecordRecorder recorder = new GameRecordRecorder(combination, OptionalLong.of(3L), 6);
+        List<GameListener> listeners = List.of(recorder);
+        new GameEngine(new GameConfiguration(combination.getPlayerOption(), combination.getDiceOption(),
+                combination.getBoardOption(), combination.getHitOption(), combination.getEndOption(), 3L, listeners)
+                .withMaxMoves(6)).playGame();
+        GameRecord record = recorder.getRecord();
+        assertEquals(-1, record.getWinnerSeat());
+        assertEquals(6, record.getTotalGameMoves());
+
+        GameReplay replay = new GameReplay(record);
+        replay.playToEnd();
+        assertEquals(6, replay.getEngine().getMaxMoves());
+        assertEquals(6, replay.getTurn());
+    }
+
+    @Test
+    @DisplayName("Replay: seekTo fast-forwards without listeners, and a tampered record is reported")
+    public void testSeekAndDivergence() {
+        SimulationCombination combination = SimulationCombination.all().get(0);
+        GameRecord record = playRecordedGame(combination, 77L);
+        int turns = record.getEventCount();
+        assertTrue(turns > 4);
+
+        //1. Listeners only see the turns after the seek point.
+        MockGameListener listener = new MockGameListener();
+        GameReplay replay = new GameReplay(record).attach(listener).seekTo(turns - 3);
+        assertEquals(turns - 3, replay.getTurn());
+        assertTrue(listener.getEvents().isEmpty());
+        replay.playToEnd();
+        assertEquals(3, listener.getEvents().size());
+        assertTrue(listener.wasGameOverCalled());
+
+        //2. Seeking backwards restarts the replay.
+        replay.seekTo(1);
+        assertEquals(1, replay.getTurn());
+        assertEquals(1, replay.getEngine().getTotalGameMoves());
+
+        //3. A record whose rolls do not produce its events is rejected at the first wrong turn.
+        GameRecord tampered = new GameRecord(combination, record.getSeed(), record.getMaxMoves(), new String[]{"Red", "Blue"});
+        for (int event = 0; event < turns; event++) {
+            int roll = event == 1 ? record.getRoll(event) % 6 + 1 : record.getRoll(event);
+            tampered.addEvent(record.getSeat(event), roll, record.getOutcomeCode(event),
+                    record.getFromIndex(event), record.getToIndex(event));
+        }
+        tampered.setResult(record.getWinnerSeat(), record.getTotalGameMoves());
+        IllegalStateException diverged = assertThrows(IllegalStateException.class, () -> new GameReplay(tampered).playToEnd());
+        assertTrue(diverged.getMessage().contains("turn 2"), diverged.getMessage());
+
+        //4. So is one that only misreports where a turn started - the replayed events are compared in full.
+        GameRecord misplaced = new GameRecord(combination, record.getSeed(), record.getMaxMoves(), new String[]{"Red", "Blue"});
+        for (int event = 0; event < turns; event++) {
+            int from = event == 2 ? record.getFromIndex(event) + 1 : record.getFromIndex(event);
+            misplaced.addEvent(record.getSeat(event), record.getRoll(event), record.getOutcomeCode(event), from, record.getToIndex(event));
+        }
+        misplaced.setResult(record.getWinnerSeat(), record.getTotalGameMoves());
+        diverged = assertThrows(IllegalStateException.class, () -> new GameReplay(misplaced).playToEnd());
+        assertTrue(diverged.getMessage().contains("turn 3") && diverged.getMessage().contains("from index"), diverged.getMessage());
+    }
+}
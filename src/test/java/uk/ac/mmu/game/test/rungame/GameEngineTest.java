@@ -8,6 +8,9 @@ import uk.ac.mmu.game.rungame.GameEngine;
 import uk.ac.mmu.game.builders.GameTestBuilder;
 import uk.ac.mmu.game.test.mocks.MockGameListener;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,4 +78,21 @@ public class GameEngineTest {
         assertEquals(eventsBeforeExtraRoll, listener.getEvents().size(),
                 "The state machine should have blocked the move after Game Over");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Use Case: Headless game with no listeners writes nothing to the console")
+    public void testHeadlessGameIsSilent() {
+        PrintStream console = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            //1. A winning game and a MAX_MOVES game, both with the demo turn enabled.
+            new GameTestBuilder().withPlayers(red).withDiceRolls(20).withDemoTurnAfterGameOver().buildAndPlay();
+            new GameTestBuilder().withPlayers(red).withDiceRolls(99).buildAndPlay();
+        } finally {
+            System.setOut(console);
+        }
+        //2. All output goes through listeners, so nothing should reach stdout.
+        assertEquals(0, captured.size(), "Engine should not print when no listeners are attached");
+    }
+}
@@ -0,0 +1,72 @@
+package uk.ac.mmu.game.test.rungame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
+import uk.ac.mmu.game.factories.gateway.DiceFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.EndFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.HitFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.PlayerFactoryGateway;
+import uk.ac.mmu.game.gameconfig.DiceOption;
+import uk.ac.mmu.game.gameconfig.EndOption;
+import uk.ac.mmu.game.gameconfig.HitOption;
+import uk.ac.mmu.game.gameobserver.GameListener;
+import uk.ac.mmu.game.gameobserver.GameStatisticsListener;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.playersgamepositions.PlayersInGameContext;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedPlayersTest {
+
+    @Test
+    @DisplayName("Generated players: seats take evenly spaced homes, and a board needs a home per seat")
+    public void testEvenlySpacedStarts() {
+        Player[] players = PlayerFactoryGateway.createGeneratedPlayers(500, new ConfigurableGameBoard(10_000, 6, 500));
+        assertEquals(500, players.length);
+        for (int seat = 0; seat < players.length; seat++) {
+            assertEquals(seat * 20, players[seat].getStartIndex());
+            assertEquals("P" + (seat + 1), players[seat].getName());
+        }
+        ConfigurableGameBoard large = new ConfigurableGameBoard(36, 6, 4);
+        assertEquals(27, PlayerFactoryGateway.createGeneratedPlayers(4, large)[3].getStartIndex());
+        assertEquals(18, PlayerFactoryGateway.createGeneratedPlayers(2, large)[1].getStartIndex());
+        assertThrows(IllegalArgumentException.class, () -> PlayerFactoryGateway.createGeneratedPlayers(5, large));
+        assertThrows(IllegalArgumentException.class,
+                () -> PlayerFactoryGateway.createGeneratedPlayers(500, new ConfigurableGameBoard(10_000, 6, 1)));
+    }
+
+    @Test
+    @DisplayName("Generated players: a 500 seat game on a 10,000 square board plays to a winner")
+    public void testFiveHundredSeats() {
+        ConfigurableGameBoard board = new ConfigurableGameBoard(10_000, 6, 500);
+        Player[] players = PlayerFactoryGateway.createGeneratedPlayers(500, board);
+        int[] reportedWinner = {-2};
+        GameListener winnerListener = new GameStatisticsListener() {
+            @Override
+            public void onGameOver(Player[] players, Map<Player, PlayersInGameContext> contexts, int winnerSeat, int totalGameMoves) {
+                reportedWinner[0] = winnerSeat;
+            }
+        };
+        GameStatisticsListener counter = new GameStatisticsListener();
+
+        GameEngine engine = new GameEngine(new GameConfiguration(players, board,
+                DiceFactoryGateway.createSeededDice(DiceOption.TWO, 21L),
+                EndFactoryGateway.createEndStrategy(board, EndOption.EXACT),
+                HitFactoryGateway.createHitStrategy(HitOption.FORBID), List.of(counter, winnerListener))
+                .withMaxMoves(10_000_000));
+        //Roughly 700,000 turns - per turn cost must not grow with the number of seats.
+        assertTimeoutPreemptively(Duration.ofSeconds(30), engine::playGame);
+
+        assertTrue(engine.getWinnerSeat() >= 0);
+        assertEquals(engine.getWinnerSeat(), reportedWinner[0]);
+        assertTrue(engine.getTotalGameMoves() > 500 * (10_000 / 12));
+        assertTrue(counter.getHits() > 0);
+    }
+}
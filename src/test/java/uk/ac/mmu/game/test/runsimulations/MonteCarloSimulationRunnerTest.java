@@ -0,0 +1,88 @@
+package uk.ac.mmu.game.test.runsimulations;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloSimulationRunnerTest {
+
+    @Test
+    @DisplayName("Batch mode: every combination plays the requested number of games")
+    public void testBatchAggregatesEveryCombination() {
+        MonteCarloSimulationRunner runner = new MonteCarloSimulationRunner();
+
+        Map<SimulationCombination, CombinationStatistics> results =
+                runner.runBatchSimulations(SimulationCombination.all(), 10, 4);
+
+        assertEquals(32, results.size(), "2x2x2x2x2 option combinations");
+        for (CombinationStatistics statistics : results.values()) {
+            assertEquals(10, statistics.getGames());
+
+            //1. Every game either has a winner or was terminated by MAX_MOVES.
+            long decided = statistics.getMaxMovesTerminations();
+            for (int seat = 0; seat < statistics.getSeatCount(); seat++) {
+                decided += statistics.getWins(seat);
+            }
+            assertEquals(statistics.getGames(), decided);
+
+            //2. Percentiles are ordered and lie within the observed lengths.
+            assertTrue(statistics.getGameLengthPercentile(50) <= statistics.getGameLengthPercentile(99));
+            assertTrue(statistics.getGameLengthPercentile(0) >= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Batch statistics: merging partial results equals recording into one instance")
+    public void testMergeMatchesSingleAccumulator() {
+        SimulationCombination combination = SimulationCombination.all().get(0);
+        String[] seats = {"Red", "Blue"};
+        CombinationStatistics single = new CombinationStatistics(combination, seats);
+        CombinationStatistics left = new CombinationStatistics(combination, seats);
+        CombinationStatistics right = new CombinationStatistics(combination, seats);
+
+        single.recordGame(0, 10, 1, 0);
+        single.recordGame(1, 20, 0, 2);
+        single.recordGame(-1, 100, 3, 4);
+        left.recordGame(0, 10, 1, 0);
+        right.recordGame(1, 20, 0, 2);
+        right.recordGame(-1, 100, 3, 4);
+        left.merge(right);
+
+        assertEquals(single.getGames(), left.getGames());
+        assertEquals(single.getMeanGameLength(), left.getMeanGameLength());
+        assertEquals(single.getGameLengthPercentile(50), left.getGameLengthPercentile(50));
+        assertEquals(20, left.getGameLengthPercentile(50));
+        assertEquals(1, left.getMaxMovesTerminations());
+        assertEquals(4, left.getHits());
+        assertEquals(6, left.getEndForfeits());
+    }
+
+    @Test
+    @DisplayName("Batch mode: same master seed gives identical results whatever the thread count")
+    public void testSeededBatchIsReproducibleAcrossThreadCounts() {
+        MonteCarloSimulationRunner runner = new MonteCarloSimulationRunner();
+        long masterSeed = 23748364L;
+
+        Map<SimulationCombination, CombinationStatistics> singleThread =
+                runner.runBatchSimulations(SimulationCombination.all(), 50, 1, masterSeed);
+        Map<SimulationCombination, CombinationStatistics> manyThreads =
+                runner.runBatchSimulations(SimulationCombination.all(), 50, 6, masterSeed);
+
+        for (SimulationCombination combination : SimulationCombination.all()) {
+            CombinationStatistics expected = singleThread.get(combination);
+            CombinationStatistics actual = manyThreads.get(combination);
+            for (int seat = 0; seat < expected.getSeatCount(); seat++) {
+                assertEquals(expected.getWins(seat), actual.getWins(seat), combination + " wins for seat " + seat);
+            }
+            assertArrayEquals(expected.getGameLengthHistogram(), actual.getGameLengthHistogram(), combination.toString());
+            assertEquals(expected.getHits(), actual.getHits());
+            assertEquals(expected.getEndForfeits(), actual.getEndForfeits());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package uk.ac.mmu.game.test.runsimulations;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.board.ConfigurableGameBoard;
+import uk.ac.mmu.game.dice.DiceSeeds;
+import uk.ac.mmu.game.factories.gateway.DiceFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.EndFactoryGateway;
+import uk.ac.mmu.game.factories.gateway.HitFactoryGateway;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.players.GeneratedPlayer;
+import uk.ac.mmu.game.players.Player;
+import uk.ac.mmu.game.rungame.GameConfiguration;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.ParameterSweep;
+import uk.ac.mmu.game.runsimulations.ParameterSweepRunner;
+import uk.ac.mmu.game.runsimulations.SweepPoint;
+import uk.ac.mmu.game.runsimulations.SweepPointStatistics;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParameterSweepTest {
+
+    @Test
+    @DisplayName("Sweep: a 36+6 board with 4 homes plays exactly like the LARGE board with four players")
+    public void testConfigurableBoardMatchesLargeBoard() {
+        ConfigurableGameBoard board = new ConfigurableGameBoard(36, 6, 4);
+        Player[] players = GeneratedPlayer.seatedOn(board, 4);
+        assertArrayEquals(new int[]{0, 9, 18, 27},
+                new int[]{players[0].getStartIndex(), players[1].getStartIndex(), players[2].getStartIndex(), players[3].getStartIndex()});
+
+        for (long game = 0; game < 200; game++) {
+            long seed = DiceSeeds.forGame(5L, 0, game);
+            GameEngine generated = new GameEngine(new GameConfiguration(players, board,
+                    DiceFactoryGateway.createSeededDice(DiceOption.TWO, seed),
+                    EndFactoryGateway.createEndStrategy(board, EndOption.EXACT),
+                    HitFactoryGateway.createHitStrategy(HitOption.FORBID), List.of()));
+            GameEngine large = new GameEngine(new GameConfiguration(PlayerOption.FOUR, DiceOption.TWO, BoardOption.LARGE,
+                    HitOption.FORBID, EndOption.EXACT, seed, List.of()));
+            generated.playGame();
+            large.playGame();
+            assertEquals(large.getWinnerSeat(), generated.getWinnerSeat());
+            assertEquals(large.getTotalGameMoves(), generated.getTotalGameMoves());
+        }
+    }
+
+    @Test
+    @DisplayName("Sweep: every grid point is played, results do not depend on the thread count")
+    public void testSweepIsDeterministic() {
+        ParameterSweep sweep = new ParameterSweep()
+                .withBoardLengths(12, 60)
+                .withTailLengths(3)
+                .withStartPositions(6)
+                .withPlayerCounts(2, 3, 8)                      //8 seats do not fit on 6 homes - left out.
+                .withDiceOptions(DiceOption.ONE)
+                .withEndOptions(EndOption.OVERSHOOT_ALLOWED)
+                .withGamesPerPoint(400)
+                .withMasterSeed(99L);
+        ParameterSweepRunner runner = new ParameterSweepRunner();
+
+        List<SweepPointStatistics> single = runner.runSweep(sweep, 1);
+        List<SweepPointStatistics> many = runner.runSweep(sweep, 4);
+        assertEquals(2 * 2 * HitOption.values().length, single.size());
+        for (int index = 0; index < single.size(); index++) {
+            SweepPointStatistics expected = single.get(index);
+            SweepPointStatistics actual = many.get(index);
+            SweepPoint point = expected.getPoint();
+            assertEquals(point, actual.getPoint());
+            assertEquals(400, actual.getGames());
+            assertEquals(expected.getMeanGameLength(), actual.getMeanGameLength());
+            assertEquals(expected.getWinRateSpread(), actual.getWinRateSpread());
+            //Overshoot allowed - the scaled MAX_MOVES limit is never reached, so every game has a winner.
+            assertEquals(0, actual.getMaxMovesTerminations(), point.toString());
+            assertTrue(actual.getFirstSeatAdvantage() > 0 && actual.getFirstSeatAdvantage() <= point.getSeats());
+        }
+        //Longer boards take longer games.
+        assertTrue(single.get(single.size() - 1).getMeanGameLength() > single.get(0).getMeanGameLength());
+
+        String table = ParameterSweepRunner.toTable(single);
+        assertEquals(single.size() + 1, table.lines().count());
+        assertTrue(table.lines().skip(1).allMatch(row -> row.contains("ONE") && row.contains("OVERSHOOT")));
+    }
+
+    @Test
+    @DisplayName("Sweep: invalid boards and seatings are rejected")
+    public void testInvalidSetUps() {
+        assertThrows(IllegalArgumentException.class, () -> new ConfigurableGameBoard(0, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ConfigurableGameBoard(10, 3, 11));
+        assertThrows(IllegalArgumentException.class, () -> GeneratedPlayer.seatedOn(new ConfigurableGameBoard(10, 3, 2), 3));
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep().withPlayerCounts());
+    }
+}
@@ -0,0 +1,143 @@
+package uk.ac.mmu.game.test.sessions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.sessions.GameSession;
+import uk.ac.mmu.game.sessions.GameSessionHttpServer;
+import uk.ac.mmu.game.sessions.GameSessionManager;
+import uk.ac.mmu.game.sessions.SessionStatus;
+import uk.ac.mmu.game.sessions.TurnResult;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSessionManagerTest {
+    private static final SimulationCombination TWO_SMALL = new SimulationCombination(PlayerOption.TWO, DiceOption.ONE,
+            BoardOption.SMALL, HitOption.ALLOW, EndOption.OVERSHOOT_ALLOWED);
+
+    @Test
+    @DisplayName("Game sessions: a game is played turn by turn until someone wins, then turns are refused")
+    public void testSessionPlaysToTheEnd() throws Exception {
+        GameSessionManager manager = new GameSessionManager(10, Duration.ZERO);
+        try {
+            GameSession session = manager.createSession(TWO_SMALL, OptionalLong.of(7));
+            assertEquals("Red", manager.getStatus(session.getId()).getNextPlayer());
+            TurnResult result = null;
+            for (int turn = 1; turn <= 200 && (result == null || !result.isWinningTurn()); turn++) {
+                result = manager.submitTurn(session.getId(), 6).get(5, TimeUnit.SECONDS);
+                assertEquals(turn, result.getTurn());
+                assertEquals((turn - 1) % 2, result.getSeat());
+            }
+            assertTrue(result.isWinningTurn());
+            assertEquals(TurnResult.END_REACHED, result.getOutcome());
+
+            waitFor(() -> session.getState() == GameSession.State.FINISHED);
+            SessionStatus status = manager.getStatus(session.getId());
+            assertEquals(result.getPlayer(), status.getWinner());
+            assertNull(status.getNextPlayer());
+            ExecutionException refused = assertThrows(ExecutionException.class,
+                    () -> manager.submitTurn(session.getId(), 3).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, refused.getCause());
+            assertThrows(IllegalArgumentException.class, () -> manager.submitTurn(session.getId(), 13));
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Game sessions: 10,000 concurrent games each play their turns, then idle ones are evicted")
+    public void testManyConcurrentSessions() throws Exception {
+        GameSessionManager manager = new GameSessionManager(10_001, Duration.ofMillis(500));     //Evictor not started.
+        try {
+            List<GameSession> sessions = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                sessions.add(manager.createSession(TWO_SMALL, OptionalLong.of(i)));
+            }
+            List<CompletableFuture<TurnResult>> turns = new ArrayList<>();
+            for (GameSession session : sessions) {
+                turns.add(manager.submitTurn(session.getId()));
+                turns.add(manager.submitTurn(session.getId()));
+            }
+            CompletableFuture.allOf(turns.toArray(new CompletableFuture<?>[0])).get(60, TimeUnit.SECONDS);
+            for (int i = 0; i < turns.size(); i++) {
+                assertEquals(i % 2 + 1, turns.get(i).get().getTurn());
+            }
+            assertEquals(10_000, manager.getSessionCount());
+
+            //The batch goes idle for longer than the timeout, the survivor is fresh - and takes the last slot.
+            Thread.sleep(600);
+            manager.createSession(TWO_SMALL, OptionalLong.empty());
+            assertThrows(IllegalStateException.class, () -> manager.createSession(TWO_SMALL, OptionalLong.empty()));
+            assertEquals(10_000, manager.evictIdle());
+            assertEquals(1, manager.getSessionCount());
+            manager.createSession(TWO_SMALL, OptionalLong.empty());
+            assertThrows(IllegalArgumentException.class, () -> manager.getStatus(sessions.get(0).getId()));
+            waitFor(() -> sessions.get(0).getState() == GameSession.State.CLOSED);
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Game sessions: the local HTTP endpoint creates a game, plays a turn and closes it")
+    public void testHttpRoundTrip() throws Exception {
+        GameSessionManager manager = new GameSessionManager(10, Duration.ZERO);
+        GameSessionHttpServer server = new GameSessionHttpServer(manager, new ObjectMapper(), 0, 5);
+        server.start();
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://127.0.0.1:" + server.getPort() + "/sessions";
+            ObjectMapper mapper = new ObjectMapper();
+
+            HttpResponse<String> created = send(client, "POST", base + "?players=two&dice=one&board=small&hit=allow&end=exact&seed=3");
+            assertEquals(201, created.statusCode());
+            String id = mapper.readTree(created.body()).get("id").asText();
+
+            HttpResponse<String> turn = send(client, "POST", base + "/" + id + "/turns?roll=4");
+            assertEquals(200, turn.statusCode());
+            JsonNode result = mapper.readTree(turn.body());
+            assertEquals(1, result.get("turn").asInt());
+            assertEquals(4, result.get("roll").asInt());
+
+            JsonNode status = mapper.readTree(send(client, "GET", base + "/" + id).body());
+            assertEquals("WAITING", status.get("state").asText());
+            assertEquals(1, status.get("totalGameMoves").asInt());
+
+            assertEquals(400, send(client, "POST", base + "/" + id + "/turns?roll=0").statusCode());
+            assertEquals(400, send(client, "POST", base + "?players=three").statusCode());
+            assertEquals(204, send(client, "DELETE", base + "/" + id).statusCode());
+            assertEquals(404, send(client, "GET", base + "/" + id).statusCode());
+        } finally {
+            server.stop();
+            manager.shutdown();
+        }
+    }
+
+    private static HttpResponse<String> send(HttpClient client, String method, String uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
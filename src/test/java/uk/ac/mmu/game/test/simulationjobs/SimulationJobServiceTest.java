@@ -0,0 +1,147 @@
+package uk.ac.mmu.game.test.simulationjobs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.runsimulations.BatchListenerOption;
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.simulationjobs.SimulationJob;
+import uk.ac.mmu.game.simulationjobs.SimulationJobHttpServer;
+import uk.ac.mmu.game.simulationjobs.SimulationJobService;
+import uk.ac.mmu.game.simulationjobs.SimulationJobSpec;
+import uk.ac.mmu.game.simulationjobs.SimulationJobStatus;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationJobServiceTest {
+    private static final List<SimulationCombination> TWO_COMBINATIONS = SimulationCombination.all().subList(0, 2);
+
+    @Test
+    @DisplayName("Simulation jobs: a job gives the same results as a batch run with the same seed")
+    public void testJobMatchesBatchRun() throws Exception {
+        MonteCarloSimulationRunner runner = new MonteCarloSimulationRunner();
+        SimulationJobService service = new SimulationJobService(runner, 3, 4, 10);
+        try {
+            SimulationJob job = service.submit(new SimulationJobSpec()
+                    .withCombinations(TWO_COMBINATIONS).withGamesPerCombination(500).withMasterSeed(99));
+            Map<SimulationCombination, CombinationStatistics> results = job.getCompletion().get(60, TimeUnit.SECONDS);
+            Map<SimulationCombination, CombinationStatistics> batch = runner.runBatchSimulations(TWO_COMBINATIONS, 500, 2, 99);
+
+            assertEquals(SimulationJob.State.SUCCEEDED, job.getState());
+            assertEquals(1.0, job.getProgress());
+            for (SimulationCombination combination : TWO_COMBINATIONS) {
+                assertEquals(batch.get(combination).toSummary(), results.get(combination).toSummary());
+            }
+            assertEquals(2, job.getStatus().getSummaries().size());
+            assertEquals(0, service.getActiveJobCount());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Simulation jobs: higher priority jobs run first, cancel drops a job, and the queue is bounded")
+    public void testPriorityCancelAndBound() throws Exception {
+        SimulationJobService service = new SimulationJobService(new MonteCarloSimulationRunner(), 1, 3, 10);
+        try {
+            List<String> finishOrder = Collections.synchronizedList(new ArrayList<>());
+            //Keeps the single worker busy while the next two jobs queue up.
+            SimulationJob blocker = service.submit(new SimulationJobSpec()
+                    .withCombinations(TWO_COMBINATIONS).withGamesPerCombination(20_000).withMasterSeed(1));
+            SimulationJob low = service.submit(new SimulationJobSpec()
+                    .withCombinations(TWO_COMBINATIONS).withGamesPerCombination(200).withMasterSeed(2).withPriority(0));
+            SimulationJob high = service.submit(new SimulationJobSpec()
+                    .withCombinations(TWO_COMBINATIONS).withGamesPerCombination(200).withMasterSeed(3).withPriority(10));
+            low.getCompletion().whenComplete((results, failure) -> finishOrder.add("low"));
+            high.getCompletion().whenComplete((results, failure) -> finishOrder.add("high"));
+
+            assertThrows(IllegalStateException.class, () -> service.submit(new SimulationJobSpec().withGamesPerCombination(1)));
+            assertTrue(service.cancel(blocker.getId()));
+            assertFalse(service.cancel(blocker.getId()));
+            assertEquals(SimulationJob.State.CANCELLED, blocker.getState());
+            assertThrows(CancellationException.class, () -> blocker.getCompletion().get());
+
+            low.getCompletion().get(60, TimeUnit.SECONDS);
+            high.getCompletion().get(60, TimeUnit.SECONDS);
+            assertEquals(List.of("high", "low"), finishOrder);
+            assertTrue(blocker.getGamesCompleted() < blocker.getSpec().getTotalGames());
+            assertEquals(0, service.getActiveJobCount());
+
+            //No results database in this application.
+            assertThrows(IllegalArgumentException.class, () -> service.submit(new SimulationJobSpec()
+                    .withListeners(BatchListenerOption.RESULTS_DATABASE)));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Simulation jobs: a job that cannot be queued fails and gives its slot back")
+    public void testRejectedJobReleasesItsSlot() {
+        SimulationJobService service = new SimulationJobService(new MonteCarloSimulationRunner(), 1, 1, 10);
+        service.shutdown();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThrows(RejectedExecutionException.class, () -> service.submit(new SimulationJobSpec()
+                    .withCombinations(TWO_COMBINATIONS).withGamesPerCombination(10)));
+        }
+        assertEquals(0, service.getActiveJobCount());
+        assertEquals(3, service.getStatuses().size());
+        for (SimulationJobStatus status : service.getStatuses()) {
+            assertEquals(SimulationJob.State.FAILED, status.getState());
+        }
+    }
+
+    @Test
+    @DisplayName("Simulation jobs: the local HTTP endpoint queues a job and reports its progress")
+    public void testHttpRoundTrip() throws Exception {
+        SimulationJobService service = new SimulationJobService(new MonteCarloSimulationRunner(), 2, 4, 10);
+        SimulationJobHttpServer server = new SimulationJobHttpServer(service, new ObjectMapper(), 0);
+        server.start();
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://127.0.0.1:" + server.getPort() + "/jobs";
+            ObjectMapper mapper = new ObjectMapper();
+
+            HttpResponse<String> created = send(client, "POST", base + "?games=100&seed=5&players=two&dice=one&board=small");
+            assertEquals(202, created.statusCode());
+            JsonNode job = mapper.readTree(created.body());
+            assertEquals(4, job.get("combinations").asInt());
+            assertEquals(400, job.get("totalGames").asInt());
+
+            String id = job.get("id").asText();
+            service.getJob(id).getCompletion().get(60, TimeUnit.SECONDS);
+            JsonNode status = mapper.readTree(send(client, "GET", base + "/" + id).body());
+            assertEquals("SUCCEEDED", status.get("state").asText());
+            assertEquals(400, status.get("gamesCompleted").asInt());
+            assertEquals(4, status.get("summaries").size());
+
+            assertEquals(1, mapper.readTree(send(client, "GET", base).body()).size());
+            assertEquals(409, send(client, "DELETE", base + "/" + id).statusCode());
+            assertEquals(404, send(client, "GET", base + "/unknown").statusCode());
+            assertEquals(400, send(client, "POST", base + "?players=two").statusCode());
+        } finally {
+            server.stop();
+            service.shutdown();
+        }
+    }
+
+    private static HttpResponse<String> send(HttpClient client, String method, String uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
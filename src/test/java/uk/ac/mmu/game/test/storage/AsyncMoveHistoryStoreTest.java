@@ -0,0 +1,90 @@
+package uk.ac.mmu.game.test.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.storage.AsyncMoveHistoryStore;
+import uk.ac.mmu.game.storage.PlayersMoveHistoryFileStore;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncMoveHistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Async store: queued histories are written in batches and readable after flush")
+    public void testQueuedHistoriesAreWritten() throws Exception {
+        PlayersMoveHistoryFileStore fileStore = new PlayersMoveHistoryFileStore(directory.toString(), new ObjectMapper());
+        AsyncMoveHistoryStore store = new AsyncMoveHistoryStore(fileStore, 4, 16);
+
+        //1. More saves than the queue holds - save() blocks rather than dropping histories.
+        for (int game = 0; game < 50; game++) {
+            store.save("GAME_" + game, List.of("GAME STATE : Ready -> InPlay", "Red wins game " + game));
+        }
+        store.flush();
+
+        for (int game = 0; game < 50; game++) {
+            assertEquals(List.of("GAME STATE : Ready -> InPlay", "Red wins game " + game),
+                    fileStore.load("GAME_" + game).orElseThrow());
+        }
+        assertEquals(0, store.getFailedWrites());
+        assertTrue(store.getBatchesWritten() >= 1);
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Async store: failures are counted, and close writes everything queued")
+    public void testFailuresAreCountedAndCloseFlushes() throws Exception {
+        PlayersMoveHistoryFileStore fileStore = new PlayersMoveHistoryFileStore(directory.toString(), new ObjectMapper());
+        AsyncMoveHistoryStore store = new AsyncMoveHistoryStore(fileStore, 8, 8);
+
+        store.save("***", List.of("invalid id"));               //Rejected by the file store - must not kill the writer.
+        store.save("LAST_GAME", List.of("Blue wins"));
+        assertEquals(List.of("Blue wins"), store.load("LAST_GAME").orElseThrow());   //Served from the queue or the disk.
+        store.close();
+
+        assertEquals(1, store.getFailedWrites());
+        assertEquals(List.of("Blue wins"), fileStore.load("LAST_GAME").orElseThrow());
+        assertThrows(IllegalStateException.class, () -> store.save("AFTER_CLOSE", List.of()));
+    }
+
+    @Test
+    @DisplayName("Async store: a save racing with close is either written or rejected")
+    public void testSaveRacingWithClose() throws Exception {
+        PlayersMoveHistoryFileStore fileStore = new PlayersMoveHistoryFileStore(directory.toString(), new ObjectMapper());
+        AsyncMoveHistoryStore store = new AsyncMoveHistoryStore(fileStore, 2, 4);
+        Set<String> accepted = ConcurrentHashMap.newKeySet();
+        List<Thread> savers = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            int first = thread * 1000;
+            savers.add(Thread.ofPlatform().start(() -> {
+                for (int game = first; game < first + 1000; game++) {
+                    try {
+                        store.save("GAME_" + game, List.of("Red wins"));
+                        accepted.add("GAME_" + game);
+                    } catch (IllegalStateException e) {
+                        return;                                 //Closed - every later save is rejected too.
+                    }
+                }
+            }));
+        }
+        Thread.sleep(5);
+        store.close();
+        for (Thread saver : savers) {
+            saver.join();
+        }
+
+        for (String id : accepted) {
+            assertTrue(fileStore.load(id).isPresent(), id + " was accepted but never written");
+        }
+    }
+}
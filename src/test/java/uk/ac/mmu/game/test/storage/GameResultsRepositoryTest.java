@@ -0,0 +1,74 @@
+package uk.ac.mmu.game.test.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.gameconfig.*;
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.storage.GameResultsRepository;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameResultsRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Results database: SQL aggregates match the batch statistics, and ids carry on after reopening")
+    public void testStoredGamesMatchBatchStatistics() throws Exception {
+        String url = "jdbc:h2:file:" + directory.resolve("results").toAbsolutePath();
+        SimulationCombination combination = new SimulationCombination(PlayerOption.FOUR, DiceOption.TWO,
+                BoardOption.LARGE, HitOption.FORBID, EndOption.EXACT);
+
+        GameResultsRepository repository = new GameResultsRepository(url, 64);
+        MonteCarloSimulationRunner runner = new MonteCarloSimulationRunner(repository, null, null);
+
+        Map<SimulationCombination, CombinationStatistics> results = runner.runBatchSimulations(List.of(combination), 300, 2, 42L);
+        CombinationStatistics statistics = results.get(combination);
+
+        //1. Summaries - count, mean length and wins per player agree with the in-memory aggregation.
+        assertEquals(300, repository.countGames(combination));
+        assertEquals(statistics.getMeanGameLength(), repository.meanGameLength(combination).orElseThrow(), 1e-9);
+        Map<String, Long> wins = repository.winsByPlayer(combination);
+        for (int seat = 0; seat < statistics.getSeatCount(); seat++) {
+            assertEquals(statistics.getWins(seat), wins.getOrDefault(statistics.getSeatName(seat), 0L));
+        }
+        //2. Events - one row per turn.
+        assertTrue(repository.countEvents(1) > 0);
+        repository.close();
+
+        //3. Reopening the file database keeps the games and continues the id sequence.
+        GameResultsRepository reopened = new GameResultsRepository(url, 64);
+        assertEquals(300, reopened.countGames(combination));
+        assertTrue(reopened.meanGameLength(new SimulationCombination(PlayerOption.TWO, DiceOption.ONE,
+                BoardOption.SMALL, HitOption.ALLOW, EndOption.EXACT)).isEmpty());
+        new MonteCarloSimulationRunner(reopened, null, null).runBatchSimulations(List.of(combination), 10, 1, 7L);
+        assertEquals(310, reopened.countGames(combination));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Results database: game ids follow the run order, whatever the number of threads")
+    public void testGameIdsAreReproducible() throws Exception {
+        List<SimulationCombination> combinations = SimulationCombination.all().subList(0, 3);
+        GameResultsRepository sequential = new GameResultsRepository("jdbc:h2:file:" + directory.resolve("one").toAbsolutePath(), 64);
+        GameResultsRepository parallel = new GameResultsRepository("jdbc:h2:file:" + directory.resolve("many").toAbsolutePath(), 64);
+        new MonteCarloSimulationRunner(sequential, null, null).runBatchSimulations(combinations, 200, 1, 11L);
+        new MonteCarloSimulationRunner(parallel, null, null).runBatchSimulations(combinations, 200, 6, 11L);
+
+        //Same game under the same id - every game's turn count lines up.
+        for (long gameId = 1; gameId <= 600; gameId++) {
+            assertEquals(sequential.countEvents(gameId), parallel.countEvents(gameId), "game " + gameId);
+        }
+        assertEquals(0, parallel.countEvents(601));
+        sequential.close();
+        parallel.close();
+    }
+}
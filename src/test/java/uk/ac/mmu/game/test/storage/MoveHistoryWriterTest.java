@@ -0,0 +1,47 @@
+package uk.ac.mmu.game.test.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.storage.MoveHistoryWriter;
+import uk.ac.mmu.game.storage.PlayersMoveHistoryFileStore;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveHistoryWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Streaming writer: lines only become visible on close, and match what save() writes")
+    public void testStreamedHistoryMatchesSave() throws Exception {
+        PlayersMoveHistoryFileStore fileStore = new PlayersMoveHistoryFileStore(directory.toString(), new ObjectMapper());
+        List<String> history = new ArrayList<>();
+        history.add("\nGAME STATE : Ready -> In Play");
+        for (int move = 1; move <= 5000; move++) {
+            history.add("Red move " + move + " \"quoted\" 🎉");
+        }
+
+        MoveHistoryWriter writer = fileStore.openWriter("STREAMED");
+        for (String line : history) {
+            writer.append(line);
+        }
+        assertTrue(fileStore.load("STREAMED").isEmpty());        //Still in the temp file.
+        writer.close();
+        writer.close();                                           //Second close is a no-op.
+
+        fileStore.save("SAVED", history);
+        assertEquals(history, fileStore.load("STREAMED").orElseThrow());
+        assertEquals(Files.readString(directory.resolve("SAVED.json")), Files.readString(directory.resolve("STREAMED.json")));
+        try (var files = Files.list(directory)) {
+            assertEquals(2, files.count());                       //No temp files left behind.
+        }
+    }
+}
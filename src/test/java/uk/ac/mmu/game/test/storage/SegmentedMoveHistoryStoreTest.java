@@ -0,0 +1,84 @@
+package uk.ac.mmu.game.test.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.storage.SegmentedMoveHistoryStore;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentedMoveHistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static List<String> history(int game, int version) {
+        return List.of("\nGAME STATE : Ready -> In Play", "Red turn 1 rolled " + game + " | version " + version,
+                "\nGAME STATE : In Play -> Game Over");
+    }
+
+    @Test
+    @DisplayName("Segmented log: rolls segments, survives a clean reopen and compacts to the latest records")
+    public void testRollingReopenAndCompaction() throws Exception {
+        SegmentedMoveHistoryStore store = new SegmentedMoveHistoryStore(directory.toString(), 1024);
+        for (int game = 0; game < 200; game++) {
+            store.save("GAME_" + game, history(game, 1));
+        }
+        for (int game = 0; game < 200; game += 2) {
+            store.save("GAME_" + game, history(game, 2));           //Overwrites leave dead records behind.
+        }
+        assertEquals(200, store.size());
+        assertTrue(store.getSegmentCount() > 10, "1KB segments must have rolled");
+        assertEquals(Optional.empty(), store.load("MISSING"));
+        store.close();
+
+        //1. Clean reopen trusts the mapped index.
+        SegmentedMoveHistoryStore reopened = new SegmentedMoveHistoryStore(directory.toString(), 1024);
+        assertEquals(200, reopened.size());
+        assertEquals(history(7, 1), reopened.load("GAME_7").orElseThrow());
+        assertEquals(history(8, 2), reopened.load("GAME_8").orElseThrow());
+
+        //2. Compaction removes every sealed segment and keeps only the latest record per id.
+        int before = reopened.getSegmentCount();
+        int removed = reopened.compact();
+        assertEquals(before - 1, removed);
+        assertTrue(reopened.getSegmentCount() < before);
+        for (int game = 0; game < 200; game++) {
+            assertEquals(history(game, game % 2 == 0 ? 2 : 1), reopened.load("GAME_" + game).orElseThrow());
+        }
+        reopened.close();
+        assertThrows(IllegalStateException.class, () -> reopened.load("GAME_1"));
+    }
+
+    @Test
+    @DisplayName("Segmented log: a torn record at the tail is truncated and the index rebuilt")
+    public void testTornTailRecovery() throws Exception {
+        SegmentedMoveHistoryStore crashed = new SegmentedMoveHistoryStore(directory.toString(), 1 << 20);
+        for (int game = 0; game < 20; game++) {
+            crashed.save("GAME_" + game, history(game, 1));
+        }
+        crashed.sync();
+        //No close() - simulate a crash part way through writing the next record.
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.getFileName().toString().startsWith("segment-")).findFirst().orElseThrow();
+        }
+        long intactSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 100, 1, 2, 3, 4, 5, 6}, StandardOpenOption.APPEND);
+
+        SegmentedMoveHistoryStore recovered = new SegmentedMoveHistoryStore(directory.toString(), 1 << 20);
+        assertEquals(intactSize, Files.size(segment));
+        assertEquals(20, recovered.size());
+        assertEquals(history(19, 1), recovered.load("GAME_19").orElseThrow());
+        recovered.save("GAME_20", history(20, 1));
+        assertEquals(history(20, 1), recovered.load("GAME_20").orElseThrow());
+        recovered.close();
+    }
+}
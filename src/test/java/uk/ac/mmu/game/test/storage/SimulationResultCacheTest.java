@@ -0,0 +1,102 @@
+package uk.ac.mmu.game.test.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.rungame.GameEngine;
+import uk.ac.mmu.game.runsimulations.CombinationStatistics;
+import uk.ac.mmu.game.runsimulations.MonteCarloSimulationRunner;
+import uk.ac.mmu.game.runsimulations.SimulationCombination;
+import uk.ac.mmu.game.storage.SimulationResultCache;
+import uk.ac.mmu.game.storage.SimulationResultKey;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationResultCacheTest {
+    private static final List<SimulationCombination> COMBINATIONS = SimulationCombination.all().subList(0, 3);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Result cache: a repeated run is answered from the cache and a longer run extends it")
+    public void testRepeatAndExtend() throws Exception {
+        SimulationResultCache cache = new SimulationResultCache(directory.toString(), 16, 1 << 20);
+        MonteCarloSimulationRunner runner = new MonteCarloSimulationRunner(null, null, cache);
+        MonteCarloSimulationRunner uncached = new MonteCarloSimulationRunner();
+
+        Map<SimulationCombination, CombinationStatistics> first = runner.runBatchSimulations(COMBINATIONS, 300, 2, 17L);
+        assertEquals(3, cache.getMisses());
+        Map<SimulationCombination, CombinationStatistics> repeat = runner.runBatchSimulations(COMBINATIONS, 300, 3, 17L);
+        assertEquals(3, cache.getHits());
+        assertSameResults(first, repeat);
+
+        //300 cached games are extended to 700 - the same as playing all 700.
+        Map<SimulationCombination, CombinationStatistics> extended = runner.runBatchSimulations(COMBINATIONS, 700, 2, 17L);
+        assertEquals(3, cache.getPartialHits());
+        assertSameResults(uncached.runBatchSimulations(COMBINATIONS, 700, 2, 17L), extended);
+
+        //Fewer games or another seed cannot be taken from the cache.
+        assertSameResults(uncached.runBatchSimulations(COMBINATIONS, 200, 2, 17L), runner.runBatchSimulations(COMBINATIONS, 200, 2, 17L));
+        assertSameResults(uncached.runBatchSimulations(COMBINATIONS, 300, 2, 18L), runner.runBatchSimulations(COMBINATIONS, 300, 2, 18L));
+
+        //Callers get copies - changing a result does not change the cache.
+        repeat.get(COMBINATIONS.get(0)).recordGame(0, 10, 0, 0);
+        assertSameResults(first, runner.runBatchSimulations(COMBINATIONS, 300, 2, 17L));
+    }
+
+    @Test
+    @DisplayName("Result cache: the disk tier survives a restart, evicts by size and the memory tier is LRU")
+    public void testTiers() throws Exception {
+        SimulationCombination combination = COMBINATIONS.get(0);
+        Map<SimulationCombination, CombinationStatistics> results =
+                new MonteCarloSimulationRunner().runBatchSimulations(List.of(combination), 100, 1, 5L);
+        SimulationResultKey key = SimulationResultKey.forCombination(combination, GameEngine.MAX_MOVES, 5L, 100);
+
+        SimulationResultCache cache = new SimulationResultCache(directory.toString(), 1, 1 << 20);
+        cache.put(key, results.get(combination));
+        long fileBytes = cache.getDiskBytes();
+        assertTrue(fileBytes > 0);
+
+        SimulationResultCache restarted = new SimulationResultCache(directory.toString(), 1, 1 << 20);
+        assertEquals(results.get(combination).toSummary(), restarted.get(key).orElseThrow().toSummary());
+        assertTrue(restarted.get(key.withGames(101)).isEmpty());
+        assertTrue(restarted.get(SimulationResultKey.forCombination(combination, GameEngine.MAX_MOVES + 1, 5L, 100)).isEmpty(),
+                "another max moves is another run");
+        assertEquals(100, restarted.getLargestPrefix(key.withGames(5000)).orElseThrow().getGames());
+
+        //Room for two files: storing three drops the least recently used one.
+        SimulationResultCache small = new SimulationResultCache(directory.resolve("small").toString(), 1, fileBytes * 2 + fileBytes / 2);
+        SimulationResultKey other = SimulationResultKey.forCombination(combination, GameEngine.MAX_MOVES, 6L, 100);
+        SimulationResultKey third = SimulationResultKey.forCombination(combination, GameEngine.MAX_MOVES, 7L, 100);
+        small.put(key, results.get(combination));
+        Thread.sleep(20);                                                   //File times order the disk tier.
+        small.put(other, copyWithSeed(combination, 6L));
+        Thread.sleep(20);
+        small.put(third, copyWithSeed(combination, 7L));
+        assertTrue(small.getDiskBytes() <= fileBytes * 2 + fileBytes / 2);
+        assertEquals(1, small.getMemoryEntryCount());
+        assertTrue(small.get(key).isEmpty(), "oldest entry left both tiers");
+        assertTrue(small.get(other).isPresent(), "read back from disk");
+        assertTrue(small.get(third).isPresent());
+
+        assertThrows(IllegalArgumentException.class, () -> small.put(key.withGames(99), results.get(combination)));
+    }
+
+    private static CombinationStatistics copyWithSeed(SimulationCombination combination, long seed) {
+        return new MonteCarloSimulationRunner().runBatchSimulations(List.of(combination), 100, 1, seed).get(combination);
+    }
+
+    private static void assertSameResults(Map<SimulationCombination, CombinationStatistics> expected,
+                                          Map<SimulationCombination, CombinationStatistics> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (SimulationCombination combination : expected.keySet()) {
+            assertEquals(expected.get(combination).toSummary(), actual.get(combination).toSummary());
+            assertArrayEquals(expected.get(combination).getGameLengthHistogram(), actual.get(combination).getGameLengthHistogram());
+        }
+    }
+}